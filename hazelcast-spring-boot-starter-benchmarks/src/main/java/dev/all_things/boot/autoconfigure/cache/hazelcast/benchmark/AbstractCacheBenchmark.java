@@ -0,0 +1,173 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.hazelcast.core.HazelcastInstance;
+import dev.all_things.boot.autoconfigure.cache.hazelcast.HazelcastAutoConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application (and in 'client' mode, an embedded member standing in for the cluster) with the starter,
+ * and populates the benchmarked cache with {@link #KEY_COUNT} values.
+ * <p>
+ * Benchmarks configure instances through hooks; memory cost of stored entries is logged on setup for comparison.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractCacheBenchmark
+{
+	protected static final String CACHE_NAME = "benchmark";
+
+	static final int KEY_COUNT = 1024;
+
+	private static final Logger logger = LoggerFactory.getLogger(AbstractCacheBenchmark.class);
+
+	private ConfigurableApplicationContext member;
+
+	private ConfigurableApplicationContext application;
+
+	protected Cache cache;
+
+	protected BenchmarkValue[] values;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		if (isClientMode())
+		{
+			this.member = start(properties("benchmark-member", false));
+			this.application = start(properties("benchmark-application", true));
+		}
+		else
+		{
+			this.application = start(properties("benchmark-application", true));
+		}
+
+		this.cache = this.application.getBean(CacheManager.class).getCache(CACHE_NAME);
+		this.values = new BenchmarkValue[KEY_COUNT];
+
+		for (int key = 0; key < KEY_COUNT; key++)
+		{
+			this.values[key] = new BenchmarkValue(key, getValueSize(), isTextPayload());
+			this.cache.put(key, this.values[key]);
+		}
+
+		final HazelcastInstance member = (this.member != null ? this.member : this.application).getBean(HazelcastInstance.class);
+
+		logger.info("Owned entry memory cost : {} bytes", member.getMap(CACHE_NAME).getLocalMapStats().getOwnedEntryMemoryCost());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		this.application.close();
+
+		if (this.member != null)
+		{
+			this.member.close();
+		}
+	}
+
+	/**
+	 * @return whether the application is a client of an embedded member, rather than a member itself.
+	 */
+	protected abstract boolean isClientMode();
+
+	/**
+	 * @return size of the payload of cached values in bytes.
+	 */
+	protected abstract int getValueSize();
+
+	/**
+	 * @return whether payloads of cached values are JSON-like text instead of random bytes.
+	 */
+	protected boolean isTextPayload()
+	{
+		return false;
+	}
+
+	/**
+	 * Configures every instance, members and clients.
+	 *
+	 * @param properties starter properties of the instance.
+	 */
+	protected void configureInstance(final Map<String, Object> properties)
+	{
+	}
+
+	/**
+	 * Configures members, holding entries of the cache.
+	 *
+	 * @param properties starter properties of the member.
+	 */
+	protected void configureMember(final Map<String, Object> properties)
+	{
+	}
+
+	/**
+	 * Configures the application instance, member or client, through which the cache is benchmarked.
+	 *
+	 * @param properties starter properties of the application instance.
+	 */
+	protected void configureApplication(final Map<String, Object> properties)
+	{
+	}
+
+	/**
+	 * Creates properties of an instance.
+	 *
+	 * @param instanceName name of the instance.
+	 * @param application  whether the instance is the application instance.
+	 * @return starter properties of the instance.
+	 */
+	private Map<String, Object> properties(final String instanceName, final boolean application)
+	{
+		final Map<String, Object> properties = new HashMap<>();
+		final boolean client = application && isClientMode();
+
+		properties.put("application.cache.hazelcast.cluster-name", "benchmark");
+		properties.put("application.cache.hazelcast.instance-name", instanceName);
+		properties.put("application.cache.hazelcast.mode", client ? "client" : "server");
+
+		if (client)
+		{
+			properties.put("application.cache.hazelcast.client.server-addresses", "127.0.0.1:5701");
+		}
+		else
+		{
+			configureMember(properties);
+		}
+
+		if (application)
+		{
+			configureApplication(properties);
+		}
+
+		configureInstance(properties);
+
+		return properties;
+	}
+
+	/**
+	 * Starts an application context configured by the starter.
+	 *
+	 * @param properties starter properties.
+	 * @return started application context.
+	 */
+	private static ConfigurableApplicationContext start(final Map<String, Object> properties)
+	{
+		return new SpringApplicationBuilder(HazelcastAutoConfiguration.class).web(WebApplicationType.NONE)
+																			   .bannerMode(Banner.Mode.OFF)
+																			   .logStartupInfo(false)
+																			   .properties(properties)
+																			   .run();
+	}
+}
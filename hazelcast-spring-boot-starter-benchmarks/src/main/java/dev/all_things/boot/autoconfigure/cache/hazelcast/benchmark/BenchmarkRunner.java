@@ -0,0 +1,35 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks with standard JMH command line options.
+ * <p>
+ * Unless specified otherwise, results are written in JSON format to 'jmh-result.json'
+ * for comparing results between starter releases.
+ */
+public class BenchmarkRunner
+{
+	public static void main(final String[] args) throws Exception
+	{
+		final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		final OptionsBuilder options = new OptionsBuilder();
+
+		options.parent(commandLineOptions);
+
+		if (!commandLineOptions.getResultFormat().hasValue())
+		{
+			options.resultFormat(ResultFormatType.JSON);
+		}
+
+		if (!commandLineOptions.getResult().hasValue())
+		{
+			options.result("jmh-result.json");
+		}
+
+		new Runner(options.build()).run();
+	}
+}
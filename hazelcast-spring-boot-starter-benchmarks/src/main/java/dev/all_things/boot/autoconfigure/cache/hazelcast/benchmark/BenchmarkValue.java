@@ -0,0 +1,87 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast.benchmark;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cached value used by benchmarks.
+ * <p>
+ * Serialized with Java serialization unless registered for Compact serialization.
+ * Payload is either random (incompressible) or JSON-like text, compressible like typical cached documents.
+ */
+public class BenchmarkValue
+		implements Serializable
+{
+	private long id;
+
+	private String name;
+
+	private byte[] payload;
+
+	public BenchmarkValue()
+	{
+	}
+
+	/**
+	 * @param id          identifier of the value.
+	 * @param payloadSize size of the random payload in bytes.
+	 */
+	public BenchmarkValue(final long id, final int payloadSize)
+	{
+		this(id, payloadSize, false);
+	}
+
+	/**
+	 * @param id          identifier of the value.
+	 * @param payloadSize size of the payload in bytes.
+	 * @param text        whether the payload is JSON-like text instead of random bytes.
+	 */
+	public BenchmarkValue(final long id, final int payloadSize, final boolean text)
+	{
+		this.id = id;
+		this.name = "value-" + id;
+		this.payload = text ? createText(payloadSize) : new byte[payloadSize];
+
+		if (!text)
+		{
+			ThreadLocalRandom.current().nextBytes(this.payload);
+		}
+	}
+
+	public long getId()
+	{
+		return this.id;
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public byte[] getPayload()
+	{
+		return this.payload;
+	}
+
+	/**
+	 * @param size size of the text in bytes.
+	 * @return JSON-like text of random records.
+	 */
+	private static byte[] createText(final int size)
+	{
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final StringBuilder text = new StringBuilder(size + 64);
+
+		while (text.length() < size)
+		{
+			text.append("{\"id\":").append(random.nextInt(1_000_000))
+				.append(",\"name\":\"product-").append(random.nextInt(1_000))
+				.append("\",\"price\":").append(random.nextInt(100_000) / 100.0)
+				.append(",\"available\":").append(random.nextBoolean()).append("},");
+		}
+
+		return Arrays.copyOf(text.toString().getBytes(StandardCharsets.UTF_8), size);
+	}
+}
@@ -0,0 +1,122 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Measures throughput and latency of cache operations through the Spring {@link CacheManager}
+ * configured by the starter, per topology.
+ * <p>
+ * 'nearCache' enables the client Near Cache in 'client' mode and the in-process (L1) cache in 'server' mode.
+ * Values of 1 KB are Compact serialized; see {@link SerializationBenchmark} and {@link CompressionBenchmark}
+ * for other values.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CacheManagerBenchmark
+		extends AbstractCacheBenchmark
+{
+	@Param({ "server", "client" })
+	private String mode;
+
+	@Param({ "BINARY", "OBJECT" })
+	private String inMemoryFormat;
+
+	@Param({ "false", "true" })
+	private boolean nearCache;
+
+	@Benchmark
+	public Cache.ValueWrapper get(final KeySequence keys)
+	{
+		return this.cache.get(keys.next());
+	}
+
+	@Benchmark
+	public void put(final KeySequence keys)
+	{
+		final int key = keys.next();
+
+		this.cache.put(key, this.values[key]);
+	}
+
+	/**
+	 * Evicts a key written right before the measured invocation, as evicting an absent key costs less.
+	 * Measured per invocation only, as writes between invocations would skew throughput.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	public void evict(final EvictedKey key)
+	{
+		this.cache.evict(key.key);
+	}
+
+	@Override
+	protected boolean isClientMode()
+	{
+		return "client".equals(this.mode);
+	}
+
+	@Override
+	protected int getValueSize()
+	{
+		return 1024;
+	}
+
+	@Override
+	protected void configureInstance(final Map<String, Object> properties)
+	{
+		properties.put("application.cache.hazelcast.serialization.compact-classes", BenchmarkValue.class.getName());
+	}
+
+	@Override
+	protected void configureMember(final Map<String, Object> properties)
+	{
+		properties.put("application.cache.hazelcast.caches." + CACHE_NAME + ".in-memory-format", this.inMemoryFormat);
+	}
+
+	@Override
+	protected void configureApplication(final Map<String, Object> properties)
+	{
+		if (!this.nearCache)
+		{
+			return;
+		}
+
+		if (isClientMode())
+		{
+			properties.put("application.cache.hazelcast.client.near-cache." + CACHE_NAME + ".in-memory-format", this.inMemoryFormat);
+			properties.put("application.cache.hazelcast.client.near-cache." + CACHE_NAME + ".max-size", KEY_COUNT);
+		}
+		else
+		{
+			properties.put("application.cache.hazelcast.caches." + CACHE_NAME + ".local-cache.enabled", true);
+			properties.put("application.cache.hazelcast.caches." + CACHE_NAME + ".local-cache.max-size", KEY_COUNT);
+		}
+	}
+
+	/**
+	 * Per-thread key, written to the cache before each invocation.
+	 */
+	@State(Scope.Thread)
+	public static class EvictedKey
+	{
+		private final KeySequence keys = new KeySequence();
+
+		private int key;
+
+		@Setup(Level.Invocation)
+		public void populate(final CacheManagerBenchmark benchmark)
+		{
+			this.key = this.keys.next();
+
+			benchmark.cache.put(this.key, benchmark.values[this.key]);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+
+/**
+ * Compares compressed and uncompressed values through a client, by payload and size.
+ * <p>
+ * Values are at least as large as the default compression threshold (16 KB), hence always compressed with compression.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CompressionBenchmark
+		extends AbstractCacheBenchmark
+{
+	@Param({ "false", "true" })
+	private boolean compression;
+
+	@Param({ "random", "text" })
+	private String payload;
+
+	@Param({ "16384", "65536" })
+	private int valueSize;
+
+	@Benchmark
+	public Cache.ValueWrapper get(final KeySequence keys)
+	{
+		return this.cache.get(keys.next());
+	}
+
+	@Benchmark
+	public void put(final KeySequence keys)
+	{
+		final int key = keys.next();
+
+		this.cache.put(key, this.values[key]);
+	}
+
+	@Override
+	protected boolean isClientMode()
+	{
+		return true;
+	}
+
+	@Override
+	protected int getValueSize()
+	{
+		return this.valueSize;
+	}
+
+	@Override
+	protected boolean isTextPayload()
+	{
+		return "text".equals(this.payload);
+	}
+
+	@Override
+	protected void configureInstance(final Map<String, Object> properties)
+	{
+		properties.put("application.cache.hazelcast.serialization.compact-classes", BenchmarkValue.class.getName());
+		properties.put("application.cache.hazelcast.caches." + CACHE_NAME + ".compression.enabled", this.compression);
+	}
+}
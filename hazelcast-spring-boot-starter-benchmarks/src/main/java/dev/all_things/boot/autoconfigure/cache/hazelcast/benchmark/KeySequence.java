@@ -0,0 +1,20 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread sequence of cached keys.
+ */
+@State(Scope.Thread)
+public class KeySequence
+{
+	private int key;
+
+	public int next()
+	{
+		this.key = (this.key + 1) & (AbstractCacheBenchmark.KEY_COUNT - 1);
+
+		return this.key;
+	}
+}
@@ -0,0 +1,60 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+
+/**
+ * Compares Java and Compact serialization of cached values by size, through a client serializing every operation.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SerializationBenchmark
+		extends AbstractCacheBenchmark
+{
+	@Param({ "java", "compact" })
+	private String serialization;
+
+	@Param({ "128", "4096", "65536" })
+	private int valueSize;
+
+	@Benchmark
+	public Cache.ValueWrapper get(final KeySequence keys)
+	{
+		return this.cache.get(keys.next());
+	}
+
+	@Benchmark
+	public void put(final KeySequence keys)
+	{
+		final int key = keys.next();
+
+		this.cache.put(key, this.values[key]);
+	}
+
+	@Override
+	protected boolean isClientMode()
+	{
+		return true;
+	}
+
+	@Override
+	protected int getValueSize()
+	{
+		return this.valueSize;
+	}
+
+	@Override
+	protected void configureInstance(final Map<String, Object> properties)
+	{
+		if ("compact".equals(this.serialization))
+		{
+			properties.put("application.cache.hazelcast.serialization.compact-classes", BenchmarkValue.class.getName());
+		}
+	}
+}
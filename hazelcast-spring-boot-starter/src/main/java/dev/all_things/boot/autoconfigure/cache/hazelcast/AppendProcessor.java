@@ -0,0 +1,129 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+/**
+ * Appends elements to a cached collection, either the cached value itself or a collection field of it.
+ * <p>
+ * An absent collection field starts as an {@link ArrayList}, while an absent entry is created only for collections
+ * cached as values. With {maxSize}, the oldest elements of a {@link List} are dropped beyond it.
+ */
+public class AppendProcessor
+		extends CacheEntryProcessor<Integer>
+{
+	private String field;
+
+	private List<Object> elements;
+
+	private int maxSize;
+
+	public AppendProcessor()
+	{
+	}
+
+	/**
+	 * @param field    name of the collection field or {@code null} if the cached value is the collection.
+	 * @param elements elements to be appended.
+	 * @param maxSize  maximum number of elements kept by a list or 0 for unbounded.
+	 */
+	public AppendProcessor(final String field, final Collection<?> elements, final int maxSize)
+	{
+		this.field = field;
+		this.elements = new ArrayList<>(elements);
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public Integer process(final Map.Entry<Object, Object> entry)
+	{
+		final Object value = getValue(entry);
+
+		if (this.field == null)
+		{
+			final Collection<Object> collection = append(value);
+
+			store(entry, collection, value != null);
+
+			return collection.size();
+		}
+
+		if (value == null)
+		{
+			return null;
+		}
+
+		final Collection<Object> collection = append(getField(value, this.field));
+
+		setField(value, this.field, collection);
+		store(entry, value, true);
+
+		return collection.size();
+	}
+
+	/**
+	 * @param current current collection or {@code null}.
+	 * @return collection with appended elements.
+	 */
+	@SuppressWarnings("unchecked")
+	private Collection<Object> append(final Object current)
+	{
+		final Collection<Object> collection = current == null ? new ArrayList<>() : (Collection<Object>) current;
+
+		collection.addAll(this.elements);
+
+		if (this.maxSize > 0 && collection instanceof List<Object> list && list.size() > this.maxSize)
+		{
+			list.subList(0, list.size() - this.maxSize).clear();
+		}
+
+		return collection;
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		super.writeData(out);
+
+		out.writeString(this.field);
+		out.writeInt(this.elements.size());
+
+		for (final Object element : this.elements)
+		{
+			out.writeObject(element);
+		}
+
+		out.writeInt(this.maxSize);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		super.readData(in);
+
+		this.field = in.readString();
+
+		final int size = in.readInt();
+
+		this.elements = new ArrayList<>(size);
+
+		for (int index = 0; index < size; index++)
+		{
+			this.elements.add(in.readObject());
+		}
+
+		this.maxSize = in.readInt();
+	}
+
+	@Override
+	public int getClassId()
+	{
+		return CacheDataSerializableFactory.APPEND_PROCESSOR;
+	}
+}
@@ -0,0 +1,396 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.spring.cache.HazelcastCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * {@link HazelcastCache} supporting asynchronous retrieval through {@link IMap} asynchronous operations.
+ * <p>
+ * With {nonBlockingWrites}, {@link #put(Object, Object)} and {@link #evict(Object)} are performed
+ * asynchronously, as permitted by the Spring cache contract, hence a subsequent read may not see the write.
+ * Failed asynchronous writes are logged and counted, see {@link #getWriteFailureCount()}.
+ * <p>
+ * With {timeToLiveJitter}, entries are written with their own time-to-live, randomly shortened from {timeToLive},
+ * hence entries written together do not expire together.
+ * <p>
+ * With a {@link ValueCompressor}, large values are stored compressed and decompressed on reads.
+ * <p>
+ * In tagged caches, values are stored as {@link TaggedValue}s, tagged with the tags set by {@link CacheTagManager}
+ * for the current thread, if any.
+ */
+public class AsyncHazelcastCache
+		extends HazelcastCache
+{
+	private final boolean nonBlockingWrites;
+
+	private final long timeToLiveMillis;
+
+	private final double timeToLiveJitter;
+
+	private final ValueCompressor compressor;
+
+	private final boolean tagged;
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncHazelcastCache.class);
+
+	private final LongAdder locks = new LongAdder();
+
+	private final LongAdder writeFailures = new LongAdder();
+
+	/**
+	 * @param map               Hazelcast map backing the cache.
+	 * @param nonBlockingWrites whether to perform {@code put} / {@code evict} without waiting for completion.
+	 */
+	public AsyncHazelcastCache(final IMap<Object, Object> map, final boolean nonBlockingWrites)
+	{
+		this(map, nonBlockingWrites, Duration.ZERO, 0, null);
+	}
+
+	/**
+	 * @param map               Hazelcast map backing the cache.
+	 * @param nonBlockingWrites whether to perform {@code put} / {@code evict} without waiting for completion.
+	 * @param timeToLive        time-to-live of the map; entries are written with the map default if zero.
+	 * @param timeToLiveJitter  fraction of {timeToLive} by which the time-to-live of each entry is randomly shortened.
+	 * @param compressor        compressor of large values or {@code null} to store values as is.
+	 */
+	public AsyncHazelcastCache(final IMap<Object, Object> map, final boolean nonBlockingWrites, final Duration timeToLive, final double timeToLiveJitter,
+							   final ValueCompressor compressor)
+	{
+		this(map, nonBlockingWrites, timeToLive, timeToLiveJitter, compressor, false);
+	}
+
+	/**
+	 * @param map               Hazelcast map backing the cache.
+	 * @param nonBlockingWrites whether to perform {@code put} / {@code evict} without waiting for completion.
+	 * @param timeToLive        time-to-live of the map; entries are written with the map default if zero.
+	 * @param timeToLiveJitter  fraction of {timeToLive} by which the time-to-live of each entry is randomly shortened.
+	 * @param compressor        compressor of large values or {@code null} to store values as is.
+	 * @param tagged            whether values are stored along with their tags, as required by the tags index of the map.
+	 */
+	public AsyncHazelcastCache(final IMap<Object, Object> map, final boolean nonBlockingWrites, final Duration timeToLive, final double timeToLiveJitter,
+							   final ValueCompressor compressor, final boolean tagged)
+	{
+		super(map);
+
+		this.nonBlockingWrites = nonBlockingWrites;
+		this.timeToLiveMillis = timeToLive.toMillis();
+		this.timeToLiveJitter = timeToLiveJitter;
+		this.compressor = compressor;
+		this.tagged = tagged;
+	}
+
+	/**
+	 * Loads missing values while holding the {@link IMap#lock(Object) lock} of the key, as {@link HazelcastCache} does,
+	 * counting the locks taken.
+	 * <p>
+	 * With {nonBlockingWrites}, the lock is released before the loaded value is written, hence callers waiting for
+	 * the lock may not see the value and load it again.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		final ValueWrapper cached = get(key);
+
+		if (cached != null)
+		{
+			return (T) cached.get();
+		}
+
+		this.locks.increment();
+
+		getNativeCache().lock(key);
+
+		try
+		{
+			// Re-reading as the value may have been loaded while waiting for the lock
+			final ValueWrapper locked = get(key);
+
+			if (locked != null)
+			{
+				return (T) locked.get();
+			}
+
+			final T value;
+
+			try
+			{
+				value = valueLoader.call();
+			}
+			catch (final Exception exception)
+			{
+				throw new ValueRetrievalException(key, valueLoader, exception);
+			}
+
+			put(key, value);
+
+			return value;
+		}
+		finally
+		{
+			getNativeCache().unlock(key);
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> retrieve(final Object key)
+	{
+		return getNativeCache().getAsync(key).toCompletableFuture()
+							   .thenApply(value -> value == null ? null : new SimpleValueWrapper(fromStoreValue(value)));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+	{
+		// Capturing tags of the calling thread, as the loaded value is stored by another thread
+		final String[] tags = CacheTagManager.getCurrentTags();
+
+		// Loading on the default asynchronous executor instead of Hazelcast's response threads
+		return getNativeCache().getAsync(key).toCompletableFuture().thenComposeAsync(value ->
+		{
+			if (value != null)
+			{
+				return CompletableFuture.completedFuture((T) fromStoreValue(value));
+			}
+
+			return valueLoader.get().thenCompose(loaded -> setAsync(key, CacheTagManager.callWithTags(() -> toStoreValue(loaded), tags))
+																	   .toCompletableFuture().thenApply(ignored -> loaded));
+		});
+	}
+
+	@Override
+	public void put(final Object key, final Object value)
+	{
+		if (this.nonBlockingWrites)
+		{
+			whenWritten(setAsync(key, toStoreValue(value)), "put");
+		}
+		else if (isJittered())
+		{
+			getNativeCache().set(key, toStoreValue(value), nextTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+		}
+		else
+		{
+			super.put(key, value);
+		}
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value)
+	{
+		if (!isJittered())
+		{
+			return super.putIfAbsent(key, value);
+		}
+
+		final Object existing = getNativeCache().putIfAbsent(key, toStoreValue(value), nextTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+
+		return existing == null ? null : new SimpleValueWrapper(fromStoreValue(existing));
+	}
+
+	@Override
+	public void evict(final Object key)
+	{
+		if (this.nonBlockingWrites)
+		{
+			whenWritten(getNativeCache().deleteAsync(key), "evict");
+		}
+		else
+		{
+			super.evict(key);
+		}
+	}
+
+	/**
+	 * Reads entries of provided keys with a single {@link IMap#getAll(Set)} call,
+	 * which sends one operation per partition on clients and per member on members, instead of one per key.
+	 *
+	 * @param keys keys of the entries.
+	 * @return values of the cached keys, absent keys are not included.
+	 */
+	public Map<Object, ValueWrapper> getAll(final Set<?> keys)
+	{
+		final Map<Object, ValueWrapper> values = new HashMap<>();
+
+		getNativeCache().getAll(Set.copyOf(keys)).forEach((key, value) -> values.put(key, new SimpleValueWrapper(fromStoreValue(value))));
+
+		return values;
+	}
+
+	/**
+	 * Writes provided entries with a single {@link IMap#setAll(Map)} call (or {@link IMap#setAllAsync(Map)} with
+	 * {nonBlockingWrites}), which sends one operation per partition on clients and per member on members, instead of one per key.
+	 * With {timeToLiveJitter}, entries are written individually and concurrently, each with its own time-to-live.
+	 *
+	 * @param entries entries to be cached.
+	 */
+	public void putAll(final Map<?, ?> entries)
+	{
+		final Map<Object, Object> storeValues = new HashMap<>();
+
+		entries.forEach((key, value) -> storeValues.put(key, toStoreValue(value)));
+
+		if (isJittered())
+		{
+			// Writing entries individually as {IMap#setAll(Map)} applies the map default time-to-live to all of them
+			final List<CompletableFuture<Void>> writes = new ArrayList<>(storeValues.size());
+
+			storeValues.forEach((key, value) -> writes.add(setAsync(key, value).toCompletableFuture()));
+
+			final CompletableFuture<Void> written = CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new));
+
+			if (this.nonBlockingWrites)
+			{
+				whenWritten(written, "putAll");
+			}
+			else
+			{
+				written.join();
+			}
+		}
+		else if (this.nonBlockingWrites)
+		{
+			whenWritten(getNativeCache().setAllAsync(storeValues), "putAll");
+		}
+		else
+		{
+			getNativeCache().setAll(storeValues);
+		}
+	}
+
+	/**
+	 * @return number of per-key locks taken for loading missing values.
+	 */
+	public long getLockCount()
+	{
+		return this.locks.sum();
+	}
+
+	/**
+	 * @return number of asynchronous writes which failed, with {nonBlockingWrites}.
+	 */
+	public long getWriteFailureCount()
+	{
+		return this.writeFailures.sum();
+	}
+
+	/**
+	 * @return whether large values are stored compressed, hence stored values may not be read or mutated directly.
+	 */
+	public boolean isCompressed()
+	{
+		return this.compressor != null;
+	}
+
+	/**
+	 * @return whether values are stored as {@link TaggedValue}s.
+	 */
+	public boolean isTagged()
+	{
+		return this.tagged;
+	}
+
+	@Override
+	protected Object toStoreValue(final Object userValue)
+	{
+		final Object storeValue = super.toStoreValue(userValue);
+		final Object compressedValue = this.compressor == null ? storeValue : this.compressor.compress(storeValue);
+
+		// Tagging the compressed value, as tags are queried without deserializing the value
+		return this.tagged ? new TaggedValue(compressedValue, CacheTagManager.getCurrentTags()) : compressedValue;
+	}
+
+	/**
+	 * Exposes conversion of stored values for decorators reading the map directly e.g. {@link RefreshAheadCache}.
+	 */
+	@Override
+	public Object fromStoreValue(final Object storeValue)
+	{
+		final Object value = storeValue instanceof TaggedValue taggedValue ? taggedValue.getValue() : storeValue;
+
+		return super.fromStoreValue(this.compressor == null ? value : this.compressor.decompress(value));
+	}
+
+	/**
+	 * Writes provided entry asynchronously, with a jittered time-to-live if configured.
+	 *
+	 * @param key        key of the entry.
+	 * @param storeValue value in stored form.
+	 * @return stage completed once the entry is written.
+	 */
+	private CompletionStage<Void> setAsync(final Object key, final Object storeValue)
+	{
+		return isJittered() ? getNativeCache().setAsync(key, storeValue, nextTimeToLiveMillis(), TimeUnit.MILLISECONDS)
+							: getNativeCache().setAsync(key, storeValue);
+	}
+
+	/**
+	 * Logs and counts failure of an asynchronous write, otherwise unnoticed by callers.
+	 *
+	 * @param write     stage completed once the write completes.
+	 * @param operation name of the cache operation.
+	 */
+	private void whenWritten(final CompletionStage<?> write, final String operation)
+	{
+		write.whenComplete((ignored, failure) ->
+		{
+			if (failure != null)
+			{
+				this.writeFailures.increment();
+
+				logger.warn("Asynchronous {} of cache '{}' failed", operation, getName(), failure);
+			}
+		});
+	}
+
+	/**
+	 * @return whether entries are written with their own time-to-live.
+	 */
+	private boolean isJittered()
+	{
+		return this.timeToLiveMillis > 0 && this.timeToLiveJitter > 0;
+	}
+
+	/**
+	 * @return time-to-live of the next written entry, between (1 - {timeToLiveJitter}) * {timeToLive} and {timeToLive}.
+	 */
+	private long nextTimeToLiveMillis()
+	{
+		return Math.max(1, (long) (this.timeToLiveMillis * (1 - this.timeToLiveJitter * ThreadLocalRandom.current().nextDouble())));
+	}
+
+	/**
+	 * @param cache possibly decorated cache.
+	 * @return {@link AsyncHazelcastCache} backing provided cache or {@code null} if there is none.
+	 */
+	public static AsyncHazelcastCache unwrap(final Cache cache)
+	{
+		Cache target = cache;
+
+		while (target instanceof DelegatingCache delegatingCache)
+		{
+			target = delegatingCache.getDelegate();
+		}
+
+		return target instanceof AsyncHazelcastCache hazelcastCache ? hazelcastCache : null;
+	}
+}
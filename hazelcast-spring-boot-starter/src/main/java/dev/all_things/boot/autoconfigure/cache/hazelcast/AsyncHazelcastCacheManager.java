@@ -0,0 +1,85 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import com.hazelcast.spring.cache.HazelcastCacheManager;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link HazelcastCacheManager} providing {@link AsyncHazelcastCache}s.
+ */
+public class AsyncHazelcastCacheManager
+		extends HazelcastCacheManager
+{
+	private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+	private final boolean nonBlockingWrites;
+
+	private final Map<String, HazelcastProperties.Cache> cacheProperties;
+
+	/**
+	 * @param hazelcastInstance pre-configured instance of {@link HazelcastInstance}.
+	 * @param nonBlockingWrites whether caches perform {@code put} / {@code evict} without waiting for completion.
+	 */
+	public AsyncHazelcastCacheManager(final HazelcastInstance hazelcastInstance, final boolean nonBlockingWrites)
+	{
+		this(hazelcastInstance, nonBlockingWrites, Map.of());
+	}
+
+	/**
+	 * @param hazelcastInstance pre-configured instance of {@link HazelcastInstance}.
+	 * @param nonBlockingWrites whether caches perform {@code put} / {@code evict} without waiting for completion.
+	 * @param cacheProperties   user configured cache properties keyed by cache name, for jittering time-to-live of entries,
+	 *                          compressing and tagging values.
+	 */
+	public AsyncHazelcastCacheManager(final HazelcastInstance hazelcastInstance, final boolean nonBlockingWrites,
+									  final Map<String, HazelcastProperties.Cache> cacheProperties)
+	{
+		super(hazelcastInstance);
+
+		this.nonBlockingWrites = nonBlockingWrites;
+		this.cacheProperties = cacheProperties;
+	}
+
+	@Override
+	public Cache getCache(final String name)
+	{
+		return this.caches.computeIfAbsent(name, cacheName ->
+		{
+			final HazelcastProperties.Cache properties = this.cacheProperties.get(cacheName);
+			final AsyncHazelcastCache cache = properties == null
+											  ? new AsyncHazelcastCache(getHazelcastInstance().getMap(cacheName), this.nonBlockingWrites)
+											  : new AsyncHazelcastCache(getHazelcastInstance().getMap(cacheName), this.nonBlockingWrites,
+																		properties.getTimeToLive(), properties.getTimeToLiveJitter(), createCompressor(properties),
+																		properties.getTagged());
+
+			// Honouring read timeouts configured through {HazelcastCacheManager}
+			cache.setReadTimeout(getReadTimeoutMap().getOrDefault(cacheName, getDefaultReadTimeout()));
+
+			return cache;
+		});
+	}
+
+	/**
+	 * @param properties user configured properties of the cache.
+	 * @return compressor of the cache values or {@code null} if compression is disabled.
+	 */
+	private ValueCompressor createCompressor(final HazelcastProperties.Cache properties)
+	{
+		final HazelcastProperties.Cache.Compression compression = properties.getCompression();
+
+		if (!compression.getEnabled())
+		{
+			return null;
+		}
+
+		final SerializationService serializationService = ((SerializationServiceSupport) getHazelcastInstance()).getSerializationService();
+
+		return new ValueCompressor(serializationService, (int) compression.getThreshold().toBytes(), compression.getLevel());
+	}
+}
@@ -0,0 +1,156 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryStore;
+import com.hazelcast.map.MapLoader;
+import com.hazelcast.map.MapLoaderLifecycleSupport;
+import com.hazelcast.map.MapStore;
+import com.hazelcast.map.MapStoreFactory;
+import com.hazelcast.spring.cache.HazelcastCache;
+import org.springframework.beans.factory.BeanFactory;
+
+/**
+ * {@link MapStoreFactory} providing Spring beans as {@link MapStore} / {@link MapLoader}
+ * of maps, resolved by the {@link #BEAN_NAME_PROPERTY} property of their {@link com.hazelcast.config.MapStoreConfig}.
+ * <p>
+ * Beans are resolved when Hazelcast creates the map, hence after the application context is refreshed in most cases.
+ * Cached {@code null} values are placeholders of the cache rather than values of the store, hence they are not
+ * passed to {@link MapStore} beans; {@link EntryStore} beans receive all values.
+ */
+public class BeanMapStoreFactory
+		implements MapStoreFactory<Object, Object>
+{
+	/**
+	 * {@link com.hazelcast.config.MapStoreConfig} property holding the name of the bean.
+	 */
+	public static final String BEAN_NAME_PROPERTY = "bean-name";
+
+	/**
+	 * Class of the placeholder stored by {@link HazelcastCache} for cached {@code null} values.
+	 */
+	private static final String NULL_VALUE_CLASS_NAME = HazelcastCache.class.getName() + "$NullDataSerializable";
+
+	private final BeanFactory beanFactory;
+
+	/**
+	 * @param beanFactory {@link BeanFactory} providing the beans.
+	 */
+	public BeanMapStoreFactory(final BeanFactory beanFactory)
+	{
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public MapLoader<Object, Object> newMapStore(final String mapName, final Properties properties)
+	{
+		final MapLoader<Object, Object> mapLoader = this.beanFactory.getBean(properties.getProperty(BEAN_NAME_PROPERTY), MapLoader.class);
+
+		return mapLoader instanceof MapStore<Object, Object> mapStore && !EntryStore.class.isInstance(mapLoader)
+			   ? new NullValueSkippingMapStore(mapStore)
+			   : mapLoader;
+	}
+
+	/**
+	 * @param value value written to the map.
+	 * @return whether the value is the placeholder of a cached {@code null} value.
+	 */
+	private static boolean isNullValue(final Object value)
+	{
+		return value != null && value.getClass().getName().equals(NULL_VALUE_CLASS_NAME);
+	}
+
+	/**
+	 * {@link MapStore} not storing placeholders of cached {@code null} values.
+	 */
+	private record NullValueSkippingMapStore(MapStore<Object, Object> delegate)
+			implements MapStore<Object, Object>, MapLoaderLifecycleSupport
+	{
+		@Override
+		public void store(final Object key, final Object value)
+		{
+			if (!isNullValue(value))
+			{
+				this.delegate.store(key, value);
+			}
+		}
+
+		@Override
+		public void storeAll(final Map<Object, Object> entries)
+		{
+			final Map<Object, Object> values = new HashMap<>(entries);
+
+			values.values().removeIf(BeanMapStoreFactory::isNullValue);
+
+			try
+			{
+				if (!values.isEmpty())
+				{
+					this.delegate.storeAll(values);
+				}
+
+				entries.clear();
+			}
+			catch (final RuntimeException exception)
+			{
+				// Hazelcast retries entries left in the provided map, hence keeping only the ones the delegate did not store
+				entries.keySet().retainAll(values.keySet());
+
+				throw exception;
+			}
+		}
+
+		@Override
+		public void delete(final Object key)
+		{
+			this.delegate.delete(key);
+		}
+
+		@Override
+		public void deleteAll(final Collection<Object> keys)
+		{
+			this.delegate.deleteAll(keys);
+		}
+
+		@Override
+		public Object load(final Object key)
+		{
+			return this.delegate.load(key);
+		}
+
+		@Override
+		public Map<Object, Object> loadAll(final Collection<Object> keys)
+		{
+			return this.delegate.loadAll(keys);
+		}
+
+		@Override
+		public Iterable<Object> loadAllKeys()
+		{
+			return this.delegate.loadAllKeys();
+		}
+
+		@Override
+		public void init(final HazelcastInstance hazelcastInstance, final Properties properties, final String mapName)
+		{
+			if (this.delegate instanceof MapLoaderLifecycleSupport lifecycleSupport)
+			{
+				lifecycleSupport.init(hazelcastInstance, properties, mapName);
+			}
+		}
+
+		@Override
+		public void destroy()
+		{
+			if (this.delegate instanceof MapLoaderLifecycleSupport lifecycleSupport)
+			{
+				lifecycleSupport.destroy();
+			}
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.*;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+
+/**
+ * Multi-key view of a {@link Cache} for methods looking up many keys at once.
+ * <p>
+ * Cached entries are read with a single bulk read, the loader is invoked only for missing keys,
+ * and loaded entries are written back with a single bulk write. When the cache is backed by
+ * {@link AsyncHazelcastCache}, bulk operations go through {@code IMap.getAll} / {@code IMap.setAll}, which group keys
+ * by partition; otherwise (e.g. startup fallback) each key is read / written through the {@link Cache}.
+ * <p>
+ * Bulk operations bypass decorators such as in-process caches and metrics. In-process caches still observe
+ * the writes through map events.
+ */
+public class BulkCache
+{
+	private final Cache cache;
+
+	/**
+	 * @param cache cache to be accessed with multiple keys.
+	 */
+	public BulkCache(final Cache cache)
+	{
+		this.cache = cache;
+	}
+
+	public String getName()
+	{
+		return this.cache.getName();
+	}
+
+	/**
+	 * Returns cached values of provided keys, loading and caching missing ones.
+	 *
+	 * @param keys   keys to be looked up.
+	 * @param loader loads values of missing keys; keys absent from the returned map are neither cached nor returned.
+	 * @param <K>    type of the keys.
+	 * @param <V>    type of the values.
+	 * @return values keyed by key, in the iteration order of {keys}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> Map<K, V> getAll(final Collection<? extends K> keys, final Function<Set<K>, Map<K, V>> loader)
+	{
+		final Set<K> requested = new LinkedHashSet<>(keys);
+		final Map<Object, Cache.ValueWrapper> cached = getAll(requested);
+		final Set<K> missing = new LinkedHashSet<>();
+
+		requested.stream().filter(key -> !cached.containsKey(key)).forEach(missing::add);
+
+		final Map<K, V> loaded = missing.isEmpty() ? Map.of() : loader.apply(missing);
+
+		if (!loaded.isEmpty())
+		{
+			putAll(loaded);
+		}
+
+		final Map<K, V> values = new LinkedHashMap<>();
+
+		for (final K key : requested)
+		{
+			final Cache.ValueWrapper wrapper = cached.get(key);
+
+			if (wrapper != null)
+			{
+				values.put(key, (V) wrapper.get());
+			}
+			else if (loaded.containsKey(key))
+			{
+				values.put(key, loaded.get(key));
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Reads cached entries of provided keys.
+	 *
+	 * @param keys keys to be looked up.
+	 * @return cached values keyed by key, absent keys are not included.
+	 */
+	public Map<Object, Cache.ValueWrapper> getAll(final Set<?> keys)
+	{
+		final AsyncHazelcastCache hazelcastCache = AsyncHazelcastCache.unwrap(this.cache);
+
+		if (hazelcastCache != null)
+		{
+			return hazelcastCache.getAll(keys);
+		}
+
+		final Map<Object, Cache.ValueWrapper> values = new HashMap<>();
+
+		for (final Object key : keys)
+		{
+			final Cache.ValueWrapper wrapper = this.cache.get(key);
+
+			if (wrapper != null)
+			{
+				values.put(key, wrapper);
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Caches provided entries.
+	 *
+	 * @param entries entries to be cached.
+	 */
+	public void putAll(final Map<?, ?> entries)
+	{
+		final AsyncHazelcastCache hazelcastCache = AsyncHazelcastCache.unwrap(this.cache);
+
+		if (hazelcastCache != null)
+		{
+			hazelcastCache.putAll(entries);
+		}
+		else
+		{
+			entries.forEach(this.cache::put);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Provides {@link BulkCache} views of caches of a {@link CacheManager}.
+ */
+public class BulkCacheManager
+{
+	private final CacheManager cacheManager;
+
+	/**
+	 * @param cacheManager {@link CacheManager} providing the caches.
+	 */
+	public BulkCacheManager(final CacheManager cacheManager)
+	{
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * @param name name of the cache.
+	 * @return {@link BulkCache} view of the cache or {@code null} if the cache does not exist.
+	 */
+	public BulkCache getCache(final String name)
+	{
+		final Cache cache = this.cacheManager.getCache(name);
+
+		return cache == null ? null : new BulkCache(cache);
+	}
+}
@@ -0,0 +1,69 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import com.hazelcast.nio.serialization.DataSerializableFactory;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+/**
+ * Creates {@link IdentifiedDataSerializable} types provided by the starter.
+ * <p>
+ * Registered with server and client instances by {@link HazelcastSerializationConfigurer}.
+ */
+public class CacheDataSerializableFactory
+		implements DataSerializableFactory
+{
+	/**
+	 * Factory id of the starter types; must be unique among data serializable factories.
+	 */
+	public static final int FACTORY_ID = 1_300;
+
+	/**
+	 * Class id of {@link CacheKey}.
+	 */
+	public static final int CACHE_KEY = 1;
+
+	/**
+	 * Class id of {@link CompressedValue}.
+	 */
+	public static final int COMPRESSED_VALUE = 2;
+
+	/**
+	 * Class id of {@link IncrementProcessor}.
+	 */
+	public static final int INCREMENT_PROCESSOR = 3;
+
+	/**
+	 * Class id of {@link SetFieldProcessor}.
+	 */
+	public static final int SET_FIELD_PROCESSOR = 4;
+
+	/**
+	 * Class id of {@link AppendProcessor}.
+	 */
+	public static final int APPEND_PROCESSOR = 5;
+
+	/**
+	 * Class id of {@link UpdateProcessor}.
+	 */
+	public static final int UPDATE_PROCESSOR = 6;
+
+	/**
+	 * Class id of {@link TaggedValue}.
+	 */
+	public static final int TAGGED_VALUE = 7;
+
+	@Override
+	public IdentifiedDataSerializable create(final int classId)
+	{
+		return switch (classId)
+		{
+			case CACHE_KEY -> new CacheKey();
+			case COMPRESSED_VALUE -> new CompressedValue();
+			case INCREMENT_PROCESSOR -> new IncrementProcessor();
+			case SET_FIELD_PROCESSOR -> new SetFieldProcessor();
+			case APPEND_PROCESSOR -> new AppendProcessor();
+			case UPDATE_PROCESSOR -> new UpdateProcessor<>();
+			case TAGGED_VALUE -> new TaggedValue();
+			default -> null;
+		};
+	}
+}
@@ -0,0 +1,186 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.PartitionService;
+import org.springframework.cache.Cache;
+import org.springframework.core.Ordered;
+
+/**
+ * Samples key-based operations of all caches, counting hot keys per cache in {@link HotKeySketch}es and
+ * operations / latencies per partition of the Hazelcast maps backing the caches.
+ * <p>
+ * Partitions of sampled keys are resolved by the {@link PartitionService} of the instance, which serializes keys,
+ * hence only sampled operations pay for it. Caches not backed by Hazelcast maps are sampled for hot keys only.
+ */
+public class CacheDiagnostics
+		implements HazelcastCacheDecorator, Ordered
+{
+	/**
+	 * Order of the decorator; samples operations as observed by the application, inside {@link TimedCache}.
+	 */
+	public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+	private final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance;
+
+	private final HazelcastProperties.Diagnostics properties;
+
+	private final Map<String, HotKeySketch> sketches = new ConcurrentHashMap<>();
+
+	private volatile PartitionCounters partitionCounters;
+
+	/**
+	 * @param hazelcastInstance supplies a future completed with the {@link HazelcastInstance} backing the caches, once it is ready.
+	 * @param properties        user configured diagnostics properties.
+	 */
+	public CacheDiagnostics(final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance, final HazelcastProperties.Diagnostics properties)
+	{
+		this.hazelcastInstance = hazelcastInstance;
+		this.properties = properties;
+	}
+
+	@Override
+	public Cache decorate(final Cache cache)
+	{
+		if (this.properties.getSampleRate() <= 0)
+		{
+			return cache;
+		}
+
+		// Keeping more counters than reported keys, for the reported ranking to be reliable
+		this.sketches.putIfAbsent(cache.getName(), new HotKeySketch(this.properties.getTopKeys() * 8));
+
+		if (this.partitionCounters == null && AsyncHazelcastCache.unwrap(cache) != null)
+		{
+			// Caches are decorated once the instance is ready, hence resolving it does not wait
+			final PartitionService partitionService = this.hazelcastInstance.get().join().getPartitionService();
+
+			this.partitionCounters = new PartitionCounters(partitionService, partitionService.getPartitions().size());
+		}
+
+		return new SampledCache(cache, this, this.properties.getSampleRate());
+	}
+
+	@Override
+	public int getOrder()
+	{
+		return ORDER;
+	}
+
+	/**
+	 * Records a sampled operation.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the operation.
+	 * @param nanos     duration of the operation in nanoseconds.
+	 */
+	public void record(final String cacheName, final Object key, final long nanos)
+	{
+		final HotKeySketch sketch = this.sketches.get(cacheName);
+
+		if (sketch != null)
+		{
+			sketch.offer(key);
+		}
+
+		final PartitionCounters counters = this.partitionCounters;
+
+		if (counters != null && key != null)
+		{
+			counters.record(counters.partitionService().getPartition(key).getPartitionId(), nanos);
+		}
+	}
+
+	/**
+	 * @return hot keys of each sampled cache, most frequent first.
+	 */
+	public Map<String, List<HotKeySketch.HotKey>> getHotKeys()
+	{
+		final Map<String, List<HotKeySketch.HotKey>> hotKeys = new LinkedHashMap<>();
+
+		this.sketches.forEach((cacheName, sketch) -> hotKeys.put(cacheName, sketch.getHotKeys(this.properties.getTopKeys())));
+
+		return hotKeys;
+	}
+
+	/**
+	 * @return sampled operations of partitions with at least one sampled operation, busiest first.
+	 */
+	public List<PartitionOperations> getPartitionOperations()
+	{
+		final PartitionCounters counters = this.partitionCounters;
+
+		if (counters == null)
+		{
+			return List.of();
+		}
+
+		final List<PartitionOperations> operations = new ArrayList<>();
+
+		for (int partitionId = 0; partitionId < counters.operations().length(); partitionId++)
+		{
+			final long count = counters.operations().get(partitionId);
+
+			if (count > 0)
+			{
+				operations.add(new PartitionOperations(partitionId, count, counters.nanos().get(partitionId) / count / 1_000d));
+			}
+		}
+
+		operations.sort(Comparator.comparingLong(PartitionOperations::sampledOperations).reversed());
+
+		return operations;
+	}
+
+	/**
+	 * Clears sampled keys and partition operations.
+	 */
+	public void reset()
+	{
+		this.sketches.values().forEach(HotKeySketch::clear);
+
+		final PartitionCounters counters = this.partitionCounters;
+
+		if (counters != null)
+		{
+			this.partitionCounters = new PartitionCounters(counters.partitionService(), counters.operations().length());
+		}
+	}
+
+	/**
+	 * Sampled operations of a partition.
+	 *
+	 * @param partitionId       id of the partition.
+	 * @param sampledOperations number of sampled operations on keys of the partition.
+	 * @param meanLatencyMicros mean latency of the sampled operations, in microseconds.
+	 */
+	public record PartitionOperations(int partitionId, long sampledOperations, double meanLatencyMicros)
+	{
+	}
+
+	/**
+	 * Counts and cumulated durations of sampled operations, indexed by partition id.
+	 */
+	private record PartitionCounters(PartitionService partitionService, AtomicLongArray operations, AtomicLongArray nanos)
+	{
+		PartitionCounters(final PartitionService partitionService, final int partitionCount)
+		{
+			this(partitionService, new AtomicLongArray(partitionCount), new AtomicLongArray(partitionCount));
+		}
+
+		void record(final int partitionId, final long nanos)
+		{
+			this.operations.incrementAndGet(partitionId);
+			this.nanos.addAndGet(partitionId, nanos);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spring.cache.HazelcastCache;
+
+/**
+ * Base of {@link EntryProcessor}s provided by the starter, mutating cached values in place on the owning member.
+ * <p>
+ * Fields of cached values are accessed as entries of {@link Map} values, or reflectively as fields of other values,
+ * hence processors need no accessors of the cached types. Mutated entries keep their expiration time, and their tags
+ * in tagged caches, where created entries are tagged with the tags set by {@link CacheMutator}.
+ * <p>
+ * Subclasses write their fields after the fields of this class, calling {@code super.writeData} / {@code super.readData} first.
+ *
+ * @param <R> type of the processing result.
+ */
+public abstract class CacheEntryProcessor<R>
+		implements EntryProcessor<Object, Object, R>, IdentifiedDataSerializable
+{
+	private String[] tags;
+
+	/**
+	 * @param tags tags of entries created in a tagged cache or {@code null} if the cache is not tagged.
+	 */
+	public void setTags(final String[] tags)
+	{
+		this.tags = tags;
+	}
+
+	@Override
+	public int getFactoryId()
+	{
+		return CacheDataSerializableFactory.FACTORY_ID;
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		out.writeStringArray(this.tags);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		this.tags = in.readStringArray();
+	}
+
+	/**
+	 * @param entry processed entry.
+	 * @return cached value or {@code null} if the entry is absent or caches {@code null}.
+	 */
+	protected static Object getValue(final Map.Entry<Object, Object> entry)
+	{
+		final Object storeValue = entry.getValue();
+		final Object value = storeValue instanceof TaggedValue taggedValue ? taggedValue.getValue() : storeValue;
+
+		// HazelcastCache stores null values as an instance of its own null placeholder type
+		return value == null || value.getClass().getEnclosingClass() == HazelcastCache.class ? null : value;
+	}
+
+	/**
+	 * Stores the mutated value of an entry, keeping the expiration time and tags of an existing entry.
+	 *
+	 * @param entry   processed entry.
+	 * @param value   mutated value; {@code null} removes the entry.
+	 * @param existed whether the entry existed before processing.
+	 */
+	protected void store(final Map.Entry<Object, Object> entry, final Object value, final boolean existed)
+	{
+		final Object storeValue = value == null ? null : tag(entry.getValue(), value);
+
+		if (storeValue != null && existed && entry instanceof ExtendedMapEntry<Object, Object> extendedEntry)
+		{
+			extendedEntry.setValueWithoutChangingExpiryTime(storeValue);
+		}
+		else
+		{
+			entry.setValue(storeValue);
+		}
+	}
+
+	/**
+	 * @param current current stored value of the entry or {@code null} if absent.
+	 * @param value   mutated value.
+	 * @return mutated value tagged as the current value or, if absent, with the tags of the processor.
+	 */
+	private Object tag(final Object current, final Object value)
+	{
+		if (current instanceof TaggedValue taggedValue)
+		{
+			return new TaggedValue(value, taggedValue.getTags());
+		}
+
+		return this.tags == null ? value : new TaggedValue(value, this.tags);
+	}
+
+	/**
+	 * @param target value holding the field.
+	 * @param field  name of the field.
+	 * @return value of the field.
+	 */
+	protected static Object getField(final Object target, final String field)
+	{
+		if (target instanceof Map<?, ?> map)
+		{
+			return map.get(field);
+		}
+
+		try
+		{
+			return findField(target.getClass(), field).get(target);
+		}
+		catch (final IllegalAccessException exception)
+		{
+			throw new IllegalStateException("Field '" + field + "' of " + target.getClass().getName() + " is not accessible", exception);
+		}
+	}
+
+	/**
+	 * @param target value holding the field.
+	 * @param field  name of the field.
+	 * @param value  new value of the field.
+	 */
+	@SuppressWarnings("unchecked")
+	protected static void setField(final Object target, final String field, final Object value)
+	{
+		if (target instanceof Map<?, ?> map)
+		{
+			((Map<Object, Object>) map).put(field, value);
+
+			return;
+		}
+
+		try
+		{
+			findField(target.getClass(), field).set(target, value);
+		}
+		catch (final IllegalAccessException exception)
+		{
+			throw new IllegalStateException("Field '" + field + "' of " + target.getClass().getName() + " is not accessible", exception);
+		}
+	}
+
+	/**
+	 * @param type  type declaring or inheriting the field.
+	 * @param field name of the field.
+	 * @return accessible field.
+	 */
+	private static Field findField(final Class<?> type, final String field)
+	{
+		for (Class<?> declaringType = type; declaringType != null; declaringType = declaringType.getSuperclass())
+		{
+			try
+			{
+				final Field declaredField = declaringType.getDeclaredField(field);
+
+				declaredField.setAccessible(true);
+
+				return declaredField;
+			}
+			catch (final NoSuchFieldException exception)
+			{
+				// Looking up the field in the super class
+			}
+		}
+
+		throw new IllegalArgumentException("Field '" + field + "' not found in " + type.getName());
+	}
+}
@@ -0,0 +1,108 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.partition.PartitionAware;
+
+/**
+ * Cache key of multiple method parameters, optionally routed to the partition of one of them.
+ * <p>
+ * Unlike {@link org.springframework.cache.interceptor.SimpleKey}, it is serialized without class names or
+ * Java serialization, and its hash code is computed once.
+ */
+public class CacheKey
+		implements PartitionAware<Object>, IdentifiedDataSerializable
+{
+	/**
+	 * Key of methods without parameters.
+	 */
+	public static final CacheKey EMPTY = new CacheKey(new Object[0], -1);
+
+	private Object[] params;
+
+	private int partitionKeyIndex;
+
+	private int hashCode;
+
+	public CacheKey()
+	{
+	}
+
+	/**
+	 * @param params            method parameters.
+	 * @param partitionKeyIndex index of the parameter determining the partition; -1 to partition by the whole key.
+	 */
+	public CacheKey(final Object[] params, final int partitionKeyIndex)
+	{
+		this.params = params;
+		this.partitionKeyIndex = partitionKeyIndex;
+		this.hashCode = Arrays.deepHashCode(params);
+	}
+
+	@Override
+	public Object getPartitionKey()
+	{
+		return this.partitionKeyIndex < 0 ? null : this.params[this.partitionKeyIndex];
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		out.writeInt(this.params.length);
+
+		for (final Object param : this.params)
+		{
+			out.writeObject(param);
+		}
+
+		out.writeInt(this.partitionKeyIndex);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		this.params = new Object[in.readInt()];
+
+		for (int index = 0; index < this.params.length; index++)
+		{
+			this.params[index] = in.readObject();
+		}
+
+		this.partitionKeyIndex = in.readInt();
+		this.hashCode = Arrays.deepHashCode(this.params);
+	}
+
+	@Override
+	public int getFactoryId()
+	{
+		return CacheDataSerializableFactory.FACTORY_ID;
+	}
+
+	@Override
+	public int getClassId()
+	{
+		return CacheDataSerializableFactory.CACHE_KEY;
+	}
+
+	@Override
+	public boolean equals(final Object other)
+	{
+		return this == other || other instanceof CacheKey key && this.hashCode == key.hashCode && Arrays.deepEquals(this.params, key.params);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return this.hashCode;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "CacheKey " + Arrays.deepToString(this.params);
+	}
+}
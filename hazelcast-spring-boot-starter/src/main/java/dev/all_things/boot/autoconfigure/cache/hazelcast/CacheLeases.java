@@ -0,0 +1,68 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+
+/**
+ * Cluster-wide leases on keys of a cache, held in a side {@link IMap}, hence a single member / client works on a key at a time.
+ * <p>
+ * Leases expire after {leaseTime}, hence a lease held by a failed member / client does not block other ones for long.
+ */
+public class CacheLeases
+{
+	/**
+	 * Prefix of the names of maps holding leases, followed by the name of the cache.
+	 */
+	public static final String MAP_NAME_PREFIX = "__cache-leases.";
+
+	private final IMap<Object, UUID> leases;
+
+	private final long leaseTimeMillis;
+
+	private final UUID owner = UUID.randomUUID();
+
+	/**
+	 * @param hazelcastInstance instance providing the map holding leases.
+	 * @param cacheName         name of the cache whose keys are leased.
+	 * @param leaseTime         maximum duration for which a lease is held.
+	 */
+	public CacheLeases(final HazelcastInstance hazelcastInstance, final String cacheName, final Duration leaseTime)
+	{
+		this.leases = hazelcastInstance.getMap(MAP_NAME_PREFIX + cacheName);
+		this.leaseTimeMillis = leaseTime.toMillis();
+	}
+
+	/**
+	 * Acquires the lease of provided key, unless another member / client holds it.
+	 *
+	 * @param key key of the cache entry.
+	 * @return whether the lease was acquired.
+	 */
+	public boolean tryAcquire(final Object key)
+	{
+		return this.leases.putIfAbsent(key, this.owner, this.leaseTimeMillis, TimeUnit.MILLISECONDS) == null;
+	}
+
+	/**
+	 * @param key key of the cache entry.
+	 * @return whether any member / client holds the lease of provided key.
+	 */
+	public boolean isHeld(final Object key)
+	{
+		return this.leases.containsKey(key);
+	}
+
+	/**
+	 * Releases the lease of provided key, if still held by this instance.
+	 *
+	 * @param key key of the cache entry.
+	 */
+	public void release(final Object key)
+	{
+		this.leases.remove(key, this.owner);
+	}
+}
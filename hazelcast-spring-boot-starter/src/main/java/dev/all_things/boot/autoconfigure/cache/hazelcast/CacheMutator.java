@@ -0,0 +1,224 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Mutates cached values in place on the members owning them, through {@link EntryProcessor}s, instead of
+ * reading, modifying and writing back whole values.
+ * <p>
+ * Mutations run under the partition lock of the entry, hence concurrent mutations of an entry are not lost.
+ * Mutated entries keep their expiration time, and local entries of two-tier caches are invalidated.
+ * Members need classes of cached values and of custom processors / {@link UpdateFunction}s; the
+ * {@code OBJECT} in-memory format spares deserializing and serializing values on each mutation.
+ * Caches storing compressed values are not supported. In tagged caches, entries created by the processors of the starter
+ * are tagged with the tags set by {@link CacheTagManager} for the current thread; custom processors need to store
+ * {@link TaggedValue}s themselves.
+ */
+public class CacheMutator
+{
+	private final CacheManager cacheManager;
+
+	/**
+	 * @param cacheManager {@link CacheManager} providing the caches.
+	 */
+	public CacheMutator(final CacheManager cacheManager)
+	{
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * Runs provided processor on the entry of provided key.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the entry.
+	 * @param processor processor of the entry.
+	 * @param <R>       type of the processing result.
+	 * @return result of the processor.
+	 */
+	public <R> R executeOnKey(final String cacheName, final Object key, final EntryProcessor<Object, Object, R> processor)
+	{
+		final Cache cache = getCache(cacheName);
+		final IMap<Object, Object> map = getMap(cache);
+
+		tag(cache, processor);
+
+		final R result = map.executeOnKey(key, processor);
+
+		invalidateLocal(cache, key);
+
+		return result;
+	}
+
+	/**
+	 * Replaces the cached value of provided key with the result of provided function.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the entry.
+	 * @param function  mutation of the value, given {@code null} if the entry is absent.
+	 * @param <V>       type of the cached value.
+	 * @return new value or {@code null} if the entry was removed.
+	 */
+	public <V> V update(final String cacheName, final Object key, final UpdateFunction<V> function)
+	{
+		return executeOnKey(cacheName, key, new UpdateProcessor<>(function));
+	}
+
+	/**
+	 * Adds a delta to a counter cached as value, created if absent.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the entry.
+	 * @param delta     amount to be added, negative to decrement.
+	 * @return new value of the counter.
+	 */
+	public long increment(final String cacheName, final Object key, final long delta)
+	{
+		return executeOnKey(cacheName, key, new IncrementProcessor(null, delta));
+	}
+
+	/**
+	 * Adds a delta to a numeric field of a cached value.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the entry.
+	 * @param field     name of the field.
+	 * @param delta     amount to be added, negative to decrement.
+	 * @return new value of the field or {@code null} if the entry is absent.
+	 */
+	public Long increment(final String cacheName, final Object key, final String field, final long delta)
+	{
+		return executeOnKey(cacheName, key, new IncrementProcessor(field, delta));
+	}
+
+	/**
+	 * Sets a field of a cached value.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the entry.
+	 * @param field     name of the field.
+	 * @param value     new value of the field.
+	 * @return whether the entry was present, hence updated.
+	 */
+	public boolean set(final String cacheName, final Object key, final String field, final Object value)
+	{
+		return executeOnKey(cacheName, key, new SetFieldProcessor(field, value));
+	}
+
+	/**
+	 * Appends elements to a collection field of a cached value.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the entry.
+	 * @param field     name of the field or {@code null} to append to a collection cached as value, created if absent.
+	 * @param elements  elements to be appended.
+	 * @param maxSize   maximum number of elements kept by a list, dropping the oldest ones, or 0 for unbounded.
+	 * @return new size of the collection or {@code null} if the entry is absent.
+	 */
+	public Integer append(final String cacheName, final Object key, final String field, final Collection<?> elements, final int maxSize)
+	{
+		return executeOnKey(cacheName, key, new AppendProcessor(field, elements, maxSize));
+	}
+
+	/**
+	 * Runs provided processor on the entries of provided keys, in parallel on the members owning them.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param keys      keys of the entries.
+	 * @param processor processor of the entries.
+	 * @param <R>       type of the processing results.
+	 * @return results of the processor keyed by entry key.
+	 */
+	public <R> Map<Object, R> executeOnKeys(final String cacheName, final Set<?> keys, final EntryProcessor<Object, Object, R> processor)
+	{
+		final Cache cache = getCache(cacheName);
+		final IMap<Object, Object> map = getMap(cache);
+
+		tag(cache, processor);
+
+		@SuppressWarnings("unchecked")
+		final Map<Object, R> results = map.executeOnKeys((Set<Object>) keys, processor);
+
+		keys.forEach(key -> invalidateLocal(cache, key));
+
+		return results;
+	}
+
+	/**
+	 * @param cacheName name of the cache.
+	 * @return cache of provided name.
+	 */
+	private Cache getCache(final String cacheName)
+	{
+		final Cache cache = this.cacheManager.getCache(cacheName);
+
+		if (cache == null)
+		{
+			throw new IllegalArgumentException("Cache '" + cacheName + "' does not exist");
+		}
+
+		return cache;
+	}
+
+	/**
+	 * @param cache possibly decorated cache.
+	 * @return {@link IMap} backing provided cache.
+	 */
+	private static IMap<Object, Object> getMap(final Cache cache)
+	{
+		final AsyncHazelcastCache hazelcastCache = AsyncHazelcastCache.unwrap(cache);
+
+		if (hazelcastCache == null)
+		{
+			throw new IllegalStateException("Cache '" + cache.getName() + "' is not backed by a Hazelcast map");
+		}
+
+		if (hazelcastCache.isCompressed())
+		{
+			throw new IllegalStateException("Cache '" + cache.getName() + "' stores compressed values, which cannot be mutated in place");
+		}
+
+		return hazelcastCache.getNativeCache();
+	}
+
+	/**
+	 * Sets the current tags on processors of the starter run on a tagged cache, as all values of a tagged cache are indexed by tags.
+	 *
+	 * @param cache     possibly decorated cache.
+	 * @param processor processor of the entries.
+	 */
+	private static void tag(final Cache cache, final EntryProcessor<Object, Object, ?> processor)
+	{
+		if (processor instanceof CacheEntryProcessor<?> cacheEntryProcessor && AsyncHazelcastCache.unwrap(cache).isTagged())
+		{
+			cacheEntryProcessor.setTags(CacheTagManager.getCurrentTags());
+		}
+	}
+
+	/**
+	 * Removes local entries of two-tier caches, not to serve stale values until the invalidation event is received.
+	 *
+	 * @param cache possibly decorated cache.
+	 * @param key   key of the mutated entry.
+	 */
+	private static void invalidateLocal(final Cache cache, final Object key)
+	{
+		Cache target = cache;
+
+		while (target instanceof DelegatingCache delegatingCache)
+		{
+			if (delegatingCache instanceof TwoTierCache twoTierCache)
+			{
+				twoTierCache.invalidateLocal(key);
+			}
+
+			target = delegatingCache.getDelegate();
+		}
+	}
+}
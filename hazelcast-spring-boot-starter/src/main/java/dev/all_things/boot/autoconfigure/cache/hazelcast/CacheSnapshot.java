@@ -0,0 +1,121 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Binary snapshot file of cache entries, holding serialized keys and values.
+ * <p>
+ * Format: {@code magic (int), version (int), count (int)} followed by {@code count} records of
+ * {@code key length (int), key bytes, value length (int), value bytes, expiration time (long)}.
+ */
+public final class CacheSnapshot
+{
+	private static final int MAGIC = 0x485A_5755;
+
+	private static final int VERSION = 1;
+
+	private CacheSnapshot()
+	{
+	}
+
+	/**
+	 * Writes provided entries, replacing an existing snapshot atomically.
+	 *
+	 * @param file    snapshot file.
+	 * @param entries entries to be written.
+	 */
+	public static void write(final Path file, final Collection<Entry> entries)
+	{
+		try
+		{
+			Files.createDirectories(file.toAbsolutePath().getParent());
+
+			final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024)))
+			{
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeInt(entries.size());
+
+				for (final Entry entry : entries)
+				{
+					output.writeInt(entry.key().length);
+					output.write(entry.key());
+					output.writeInt(entry.value().length);
+					output.write(entry.value());
+					output.writeLong(entry.expirationTime());
+				}
+			}
+
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException("Snapshot could not be written : " + file, e);
+		}
+	}
+
+	/**
+	 * Streams entries of a snapshot through a memory-mapped buffer, without reading the whole file on heap.
+	 *
+	 * @param file     snapshot file.
+	 * @param consumer consumer of the entries, invoked in file order.
+	 * @return number of entries in the snapshot.
+	 */
+	public static int read(final Path file, final Consumer<Entry> consumer)
+	{
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+			{
+				throw new IllegalStateException("Unsupported snapshot : " + file);
+			}
+
+			final int count = buffer.getInt();
+
+			for (int index = 0; index < count; index++)
+			{
+				final byte[] key = new byte[buffer.getInt()];
+
+				buffer.get(key);
+
+				final byte[] value = new byte[buffer.getInt()];
+
+				buffer.get(value);
+
+				consumer.accept(new Entry(key, value, buffer.getLong()));
+			}
+
+			return count;
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException("Snapshot could not be read : " + file, e);
+		}
+	}
+
+	/**
+	 * Serialized cache entry.
+	 *
+	 * @param key            serialized key.
+	 * @param value          serialized value.
+	 * @param expirationTime epoch millis at which the entry expires; {@link Long#MAX_VALUE} if it never expires.
+	 */
+	public record Entry(byte[] key, byte[] value, long expirationTime)
+	{
+	}
+}
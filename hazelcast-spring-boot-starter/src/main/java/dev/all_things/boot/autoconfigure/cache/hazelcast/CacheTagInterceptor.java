@@ -0,0 +1,152 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Applies {@link CacheTags @CacheTags} and {@link EvictByTag @EvictByTag} to intercepted methods.
+ * <p>
+ * Runs outside Spring's cache interceptor, hence results cached by {@code @Cacheable} methods are tagged, and
+ * tags are evicted once {@code @CacheEvict} / {@code @CachePut} operations of the method are applied.
+ */
+public class CacheTagInterceptor
+		implements MethodInterceptor
+{
+	private static final Object NO_RESULT = new Object();
+
+	private final ExpressionParser parser = new SpelExpressionParser();
+
+	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+	private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+	private final Supplier<CacheTagManager> tagManager;
+
+	/**
+	 * @param tagManager supplies the {@link CacheTagManager} evicting tags, resolved on first eviction.
+	 */
+	public CacheTagInterceptor(final Supplier<CacheTagManager> tagManager)
+	{
+		this.tagManager = tagManager;
+	}
+
+	@Override
+	public Object invoke(final MethodInvocation invocation) throws Throwable
+	{
+		final Class<?> targetClass = invocation.getThis() == null ? invocation.getMethod().getDeclaringClass() : AopUtils.getTargetClass(invocation.getThis());
+		final Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+
+		final EvictByTag evictByTag = AnnotatedElementUtils.findMergedAnnotation(method, EvictByTag.class);
+
+		if (evictByTag != null && evictByTag.beforeInvocation())
+		{
+			evict(evictByTag, method, invocation.getArguments(), null);
+		}
+
+		final Object result = proceed(invocation, method, targetClass);
+
+		if (evictByTag != null && !evictByTag.beforeInvocation())
+		{
+			evict(evictByTag, method, invocation.getArguments(), result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Invokes the method with the tags of its {@link CacheTags @CacheTags}, if any.
+	 *
+	 * @param invocation  intercepted invocation.
+	 * @param method      most specific method of the target class.
+	 * @param targetClass class of the target.
+	 * @return result of the method.
+	 */
+	private Object proceed(final MethodInvocation invocation, final Method method, final Class<?> targetClass) throws Throwable
+	{
+		CacheTags cacheTags = AnnotatedElementUtils.findMergedAnnotation(method, CacheTags.class);
+
+		if (cacheTags == null)
+		{
+			cacheTags = AnnotatedElementUtils.findMergedAnnotation(targetClass, CacheTags.class);
+		}
+
+		if (cacheTags == null)
+		{
+			return invocation.proceed();
+		}
+
+		final List<String> tags = evaluate(cacheTags.value(), method, invocation.getArguments(), NO_RESULT);
+		final String[] previousTags = CacheTagManager.pushTags(tags.toArray(new String[0]));
+
+		try
+		{
+			return invocation.proceed();
+		}
+		finally
+		{
+			CacheTagManager.restoreTags(previousTags);
+		}
+	}
+
+	/**
+	 * @param evictByTag annotation of the method.
+	 * @param method     most specific method of the target class.
+	 * @param arguments  arguments of the invocation.
+	 * @param result     result of the method or {@code null} if evicting before invocation.
+	 */
+	private void evict(final EvictByTag evictByTag, final Method method, final Object[] arguments, final Object result)
+	{
+		final List<String> tags = evaluate(evictByTag.tags(), method, arguments, result);
+
+		for (final String cacheName : evictByTag.cacheNames())
+		{
+			this.tagManager.get().evictByTags(cacheName, tags);
+		}
+	}
+
+	/**
+	 * @param expressions SpEL expressions of the tags.
+	 * @param method      most specific method of the target class.
+	 * @param arguments   arguments of the invocation.
+	 * @param result      result of the method, exposed as {@code #result} unless {@link #NO_RESULT}.
+	 * @return non-null evaluated tags.
+	 */
+	private List<String> evaluate(final String[] expressions, final Method method, final Object[] arguments, final Object result)
+	{
+		final MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, arguments, this.parameterNameDiscoverer);
+
+		if (result != NO_RESULT)
+		{
+			context.setVariable("result", result);
+		}
+
+		final List<String> tags = new ArrayList<>(expressions.length);
+
+		for (final String expression : expressions)
+		{
+			final String tag = this.expressions.computeIfAbsent(expression, this.parser::parseExpression).getValue(context, String.class);
+
+			if (tag != null)
+			{
+				tags.add(tag);
+			}
+		}
+
+		return tags;
+	}
+}
@@ -0,0 +1,203 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Tags entries of tagged caches and evicts entries by tag, instead of clearing whole caches.
+ * <p>
+ * Entries written to a tagged cache by the current thread, through any cache operation including
+ * {@code @Cacheable} methods, are tagged with the tags set by {@link #callWithTags} / {@link #runWithTags}
+ * or {@link CacheTags @CacheTags}. Tags are indexed by the Hazelcast map, and entries of a tag are removed by
+ * {@link IMap#removeAll(Predicate)}, run in parallel on all partitions; local entries of two-tier caches are
+ * invalidated by the resulting remove events.
+ * <p>
+ * Entries reloaded in background by refresh-ahead keep the tags of the thread whose read triggered the reload.
+ */
+public class CacheTagManager
+{
+	private static final String[] NO_TAGS = new String[0];
+
+	private static final ThreadLocal<String[]> currentTags = new ThreadLocal<>();
+
+	private final CacheManager cacheManager;
+
+	/**
+	 * @param cacheManager {@link CacheManager} providing the caches.
+	 */
+	public CacheTagManager(final CacheManager cacheManager)
+	{
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * @return tags of entries written by the current thread, possibly empty.
+	 */
+	public static String[] getCurrentTags()
+	{
+		final String[] tags = currentTags.get();
+
+		return tags == null ? NO_TAGS : tags;
+	}
+
+	/**
+	 * Tags entries written by provided supplier with provided tags, in addition to the tags set by enclosing calls.
+	 *
+	 * @param supplier supplier writing cache entries.
+	 * @param tags     tags of the written entries.
+	 * @param <T>      type of the supplied result.
+	 * @return result of {supplier}.
+	 */
+	public static <T> T callWithTags(final Supplier<T> supplier, final String... tags)
+	{
+		final String[] previousTags = pushTags(tags);
+
+		try
+		{
+			return supplier.get();
+		}
+		finally
+		{
+			restoreTags(previousTags);
+		}
+	}
+
+	/**
+	 * Tags entries written by provided runnable with provided tags, in addition to the tags set by enclosing calls.
+	 *
+	 * @param runnable runnable writing cache entries.
+	 * @param tags     tags of the written entries.
+	 */
+	public static void runWithTags(final Runnable runnable, final String... tags)
+	{
+		callWithTags(() ->
+		{
+			runnable.run();
+
+			return null;
+		}, tags);
+	}
+
+	/**
+	 * Adds provided tags to the tags of the current thread.
+	 *
+	 * @param tags added tags.
+	 * @return previous tags of the current thread, to be restored by {@link #restoreTags}.
+	 */
+	static String[] pushTags(final String... tags)
+	{
+		final String[] previousTags = currentTags.get();
+		final Set<String> mergedTags = new LinkedHashSet<>(Arrays.asList(getCurrentTags()));
+
+		mergedTags.addAll(Arrays.asList(tags));
+		currentTags.set(mergedTags.toArray(NO_TAGS));
+
+		return previousTags;
+	}
+
+	/**
+	 * @param previousTags tags returned by {@link #pushTags}.
+	 */
+	static void restoreTags(final String[] previousTags)
+	{
+		if (previousTags == null)
+		{
+			currentTags.remove();
+		}
+		else
+		{
+			currentTags.set(previousTags);
+		}
+	}
+
+	/**
+	 * Caches a value tagged with provided tags, in addition to the tags of the current thread.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param key       key of the entry.
+	 * @param value     value of the entry.
+	 * @param tags      tags of the entry.
+	 */
+	public void put(final String cacheName, final Object key, final Object value, final String... tags)
+	{
+		final Cache cache = getCache(cacheName);
+
+		runWithTags(() -> cache.put(key, value), tags);
+	}
+
+	/**
+	 * Evicts entries of provided tag.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param tag       tag of the evicted entries.
+	 */
+	public void evictByTag(final String cacheName, final String tag)
+	{
+		evict(getCache(cacheName), Predicates.equal(TaggedValue.TAGS_ATTRIBUTE, tag));
+	}
+
+	/**
+	 * Evicts entries of any of provided tags.
+	 *
+	 * @param cacheName name of the cache.
+	 * @param tags      tags of the evicted entries.
+	 */
+	public void evictByTags(final String cacheName, final Collection<String> tags)
+	{
+		if (tags.isEmpty())
+		{
+			return;
+		}
+
+		evict(getCache(cacheName), Predicates.in(TaggedValue.TAGS_ATTRIBUTE, tags.toArray(NO_TAGS)));
+	}
+
+	/**
+	 * @param cache     possibly decorated cache.
+	 * @param predicate predicate of the evicted entries.
+	 */
+	private static void evict(final Cache cache, final Predicate<Object, Object> predicate)
+	{
+		final AsyncHazelcastCache hazelcastCache = AsyncHazelcastCache.unwrap(cache);
+
+		if (hazelcastCache == null)
+		{
+			// Local caches do not keep tags, hence evicting all entries not to serve stale ones
+			cache.clear();
+
+			return;
+		}
+
+		if (!hazelcastCache.isTagged())
+		{
+			throw new IllegalStateException("Cache '" + cache.getName() + "' is not tagged");
+		}
+
+		hazelcastCache.getNativeCache().removeAll(predicate);
+	}
+
+	/**
+	 * @param cacheName name of the cache.
+	 * @return cache of provided name.
+	 */
+	private Cache getCache(final String cacheName)
+	{
+		final Cache cache = this.cacheManager.getCache(cacheName);
+
+		if (cache == null)
+		{
+			throw new IllegalArgumentException("Cache '" + cacheName + "' does not exist");
+		}
+
+		return cache;
+	}
+}
@@ -0,0 +1,22 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.lang.annotation.*;
+
+/**
+ * Tags entries of tagged caches written while the annotated method runs, including by nested cached methods,
+ * for {@link EvictByTag @EvictByTag} / {@link CacheTagManager#evictByTag} to evict them.
+ * <p>
+ * On a {@code @Cacheable} method, the cached result of the method is tagged as well. Applies to all public methods
+ * when annotating a class.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface CacheTags
+{
+	/**
+	 * @return SpEL expressions of the tags, evaluated against method arguments e.g. {@code "'tenant:' + #tenantId"}.
+	 */
+	String[] value();
+}
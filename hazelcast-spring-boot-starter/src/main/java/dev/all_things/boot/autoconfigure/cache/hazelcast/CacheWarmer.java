@@ -0,0 +1,446 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.DistributedObject;
+import com.hazelcast.core.EntryView;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Snapshots the most accessed entries of each map owned by this member on shutdown, and loads them back on startup.
+ * <p>
+ * Snapshots are written in {@link CacheSnapshot} format, one file per map. On startup, snapshots are streamed through
+ * a memory-mapped buffer and loaded in parallel batches, rate limited, into partitions owned by this member;
+ * entries already present in the cluster are not overwritten, and loaded entries keep their remaining time-to-live.
+ * Loading is abandoned once the timeout elapses.
+ * <p>
+ * Snapshots are written when the application context stops, hence Hazelcast's own shutdown hook is disabled while
+ * warm-up is enabled; the member is shut down by the context, after snapshots are written.
+ * <p>
+ * Started before the web server, hence warm-up completes (or is abandoned) before the application reports readiness.
+ * Maps with a 'MapStore' are skipped, as the store is their source of truth.
+ */
+public class CacheWarmer
+		implements SmartLifecycle
+{
+	/**
+	 * Phase of the warmer; starts before and stops after the web server.
+	 */
+	public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+	private static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+	private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+	private final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance;
+
+	private final HazelcastProperties.Server.WarmUp properties;
+
+	private volatile boolean running;
+
+	/**
+	 * @param hazelcastInstance supplies a future completed with the member {@link HazelcastInstance}, once it is ready.
+	 * @param properties        warm-up configuration properties.
+	 */
+	public CacheWarmer(final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance, final HazelcastProperties.Server.WarmUp properties)
+	{
+		this.hazelcastInstance = hazelcastInstance;
+		this.properties = properties;
+	}
+
+	@Override
+	public void start()
+	{
+		this.running = true;
+
+		final CompletableFuture<HazelcastInstance> instance = this.hazelcastInstance.get();
+
+		if (instance.isDone())
+		{
+			// Blocking startup until warm-up completes or is abandoned
+			instance.thenAccept(this::warmUp);
+		}
+		else
+		{
+			// Instance is started in background, hence warm-up cannot delay readiness
+			instance.thenAcceptAsync(this::warmUp);
+		}
+	}
+
+	@Override
+	public void stop()
+	{
+		this.running = false;
+
+		final CompletableFuture<HazelcastInstance> instance = this.hazelcastInstance.get();
+
+		if (instance.isDone() && !instance.isCompletedExceptionally())
+		{
+			snapshot(instance.join());
+		}
+	}
+
+	@Override
+	public boolean isRunning()
+	{
+		return this.running;
+	}
+
+	@Override
+	public int getPhase()
+	{
+		return PHASE;
+	}
+
+	/**
+	 * Writes snapshots of the most accessed entries owned by this member.
+	 *
+	 * @param instance member {@link HazelcastInstance}.
+	 */
+	public void snapshot(final HazelcastInstance instance)
+	{
+		if (!instance.getLifecycleService().isRunning())
+		{
+			return;
+		}
+
+		final SerializationService serializationService = ((SerializationServiceSupport) instance).getSerializationService();
+		final Path directory = directory(instance);
+
+		for (final DistributedObject distributedObject : instance.getDistributedObjects())
+		{
+			if (!(distributedObject instanceof IMap<?, ?> map) || !isWarmedUp(instance, map.getName()))
+			{
+				continue;
+			}
+
+			try
+			{
+				final List<CacheSnapshot.Entry> entries = new ArrayList<>();
+
+				for (final EntryView<?, ?> view : hottestEntries(map))
+				{
+					entries.add(new CacheSnapshot.Entry(serializationService.toData(view.getKey()).toByteArray(),
+														serializationService.toData(view.getValue()).toByteArray(), view.getExpirationTime()));
+				}
+
+				CacheSnapshot.write(directory.resolve(URLEncoder.encode(map.getName(), StandardCharsets.UTF_8) + SNAPSHOT_EXTENSION), entries);
+
+				logger.info("Cache snapshot written : {} ({} entries)", map.getName(), entries.size());
+			}
+			catch (final RuntimeException e)
+			{
+				logger.warn("Cache snapshot could not be written : {}", map.getName(), e);
+			}
+		}
+	}
+
+	/**
+	 * Loads snapshots written by {@link #snapshot(HazelcastInstance)} into partitions owned by this member.
+	 *
+	 * @param instance member {@link HazelcastInstance}.
+	 */
+	public void warmUp(final HazelcastInstance instance)
+	{
+		final Path directory = directory(instance);
+
+		if (!Files.isDirectory(directory))
+		{
+			return;
+		}
+
+		final long startTime = System.nanoTime();
+		final long deadline = startTime + this.properties.getTimeout().toNanos();
+		final AtomicInteger loaded = new AtomicInteger();
+		final AtomicInteger threadCount = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(this.properties.getParallelism(), task ->
+		{
+			final Thread thread = new Thread(task, "hazelcast-warm-up-" + threadCount.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		final WarmUpTask task = new WarmUpTask(instance, executor, deadline, loaded);
+
+		try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(directory, "*" + SNAPSHOT_EXTENSION))
+		{
+			for (final Path snapshot : snapshots)
+			{
+				final String fileName = snapshot.getFileName().toString();
+				final String mapName = URLDecoder.decode(fileName.substring(0, fileName.length() - SNAPSHOT_EXTENSION.length()), StandardCharsets.UTF_8);
+
+				if (isWarmedUp(instance, mapName))
+				{
+					task.load(instance.getMap(mapName), snapshot);
+				}
+			}
+
+			executor.shutdown();
+
+			if (executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS))
+			{
+				logger.info("Cache warm-up completed : {} entries in {} ms", loaded.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+			}
+			else
+			{
+				logger.warn("Cache warm-up abandoned after {} : {} entries loaded", this.properties.getTimeout(), loaded.get());
+			}
+		}
+		catch (final CancellationException e)
+		{
+			logger.warn("Cache warm-up abandoned after {} : {} entries loaded", this.properties.getTimeout(), loaded.get());
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			logger.warn("Cache warm-up failed : {} entries loaded", loaded.get(), e);
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return up to 'max-entries' entries of the map owned by this member, with most hits.
+	 */
+	@SuppressWarnings("unchecked")
+	private Collection<EntryView<?, ?>> hottestEntries(final IMap<?, ?> map)
+	{
+		final int maxEntries = this.properties.getMaxEntries();
+		final PriorityQueue<EntryView<?, ?>> hottest = new PriorityQueue<>(Comparator.comparingLong(EntryView::getHits));
+
+		for (final Object key : map.localKeySet())
+		{
+			final EntryView<?, ?> view = ((IMap<Object, ?>) map).getEntryView(key);
+
+			if (view != null)
+			{
+				hottest.add(view);
+
+				if (hottest.size() > maxEntries)
+				{
+					hottest.poll();
+				}
+			}
+		}
+
+		return hottest;
+	}
+
+	/**
+	 * @return whether the map is warmed up i.e. it is selected by 'caches' and has no 'MapStore'.
+	 */
+	private boolean isWarmedUp(final HazelcastInstance instance, final String mapName)
+	{
+		final List<String> caches = this.properties.getCaches();
+
+		return !mapName.startsWith("__") && (caches.isEmpty() || caches.contains(mapName))
+			   && !instance.getConfig().getMapConfig(mapName).getMapStoreConfig().isEnabled();
+	}
+
+	/**
+	 * @return directory holding snapshots of the instance.
+	 */
+	private Path directory(final HazelcastInstance instance)
+	{
+		return Path.of(this.properties.getDirectory(), URLEncoder.encode(instance.getName(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Loads snapshots of a single warm-up run in batches.
+	 */
+	private class WarmUpTask
+	{
+		private final HazelcastInstance instance;
+
+		private final SerializationService serializationService;
+
+		private final ExecutorService executor;
+
+		private final long deadline;
+
+		private final AtomicInteger loaded;
+
+		private final Semaphore pendingBatches;
+
+		private final long nanosPerEntry;
+
+		private long nextLoadTime = System.nanoTime();
+
+		WarmUpTask(final HazelcastInstance instance, final ExecutorService executor, final long deadline, final AtomicInteger loaded)
+		{
+			this.instance = instance;
+			this.serializationService = ((SerializationServiceSupport) instance).getSerializationService();
+			this.executor = executor;
+			this.deadline = deadline;
+			this.loaded = loaded;
+			this.pendingBatches = new Semaphore(2 * CacheWarmer.this.properties.getParallelism());
+
+			final int rateLimit = CacheWarmer.this.properties.getRateLimit();
+
+			this.nanosPerEntry = rateLimit > 0 ? TimeUnit.SECONDS.toNanos(1) / rateLimit : 0;
+		}
+
+		/**
+		 * Streams a snapshot, submitting its entries in batches; blocks while enough batches are pending.
+		 */
+		void load(final IMap<Object, Object> map, final Path snapshot)
+		{
+			final int batchSize = CacheWarmer.this.properties.getBatchSize();
+			final List<CacheSnapshot.Entry> batch = new ArrayList<>(batchSize);
+
+			CacheSnapshot.read(snapshot, entry ->
+			{
+				batch.add(entry);
+
+				if (batch.size() == batchSize)
+				{
+					submit(map, List.copyOf(batch));
+					batch.clear();
+				}
+			});
+
+			if (!batch.isEmpty())
+			{
+				submit(map, List.copyOf(batch));
+			}
+		}
+
+		private void submit(final IMap<Object, Object> map, final List<CacheSnapshot.Entry> batch)
+		{
+			try
+			{
+				if (!this.pendingBatches.tryAcquire(Math.max(0, this.deadline - System.nanoTime()), TimeUnit.NANOSECONDS))
+				{
+					throw new CancellationException();
+				}
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+
+				throw new CancellationException();
+			}
+
+			this.executor.execute(() ->
+			{
+				try
+				{
+					if (acquire(batch.size()))
+					{
+						this.loaded.addAndGet(load(map, batch));
+					}
+				}
+				catch (final InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+				catch (final RuntimeException e)
+				{
+					logger.warn("Cache warm-up batch could not be loaded : {}", map.getName(), e);
+				}
+				finally
+				{
+					this.pendingBatches.release();
+				}
+			});
+		}
+
+		/**
+		 * Loads entries of a batch owned by this member and absent from the map, with their remaining time-to-live.
+		 *
+		 * @return number of loaded entries.
+		 */
+		private int load(final IMap<Object, Object> map, final List<CacheSnapshot.Entry> batch)
+		{
+			int loaded = 0;
+
+			for (final CacheSnapshot.Entry entry : batch)
+			{
+				final long now = System.currentTimeMillis();
+
+				if (entry.expirationTime() <= now)
+				{
+					continue;
+				}
+
+				final Object key = this.serializationService.toObject(new HeapData(entry.key()));
+				final Member owner = this.instance.getPartitionService().getPartition(key).getOwner();
+
+				if (owner == null || !owner.localMember())
+				{
+					continue;
+				}
+
+				final Object value = this.serializationService.toObject(new HeapData(entry.value()));
+
+				// Not overwriting entries written since this member left, atomically per entry; entries without expiration get the map's TTL
+				final Object previous = entry.expirationTime() == Long.MAX_VALUE
+										? map.putIfAbsent(key, value)
+										: map.putIfAbsent(key, value, entry.expirationTime() - now, TimeUnit.MILLISECONDS);
+
+				if (previous == null)
+				{
+					loaded++;
+				}
+			}
+
+			return loaded;
+		}
+
+		/**
+		 * Waits for the rate limit to permit loading {permits} entries.
+		 *
+		 * @return whether the entries can be loaded before the deadline.
+		 */
+		private boolean acquire(final int permits) throws InterruptedException
+		{
+			if (this.nanosPerEntry == 0)
+			{
+				return true;
+			}
+
+			final long loadTime;
+
+			synchronized (this)
+			{
+				loadTime = Math.max(this.nextLoadTime, System.nanoTime());
+
+				if (loadTime - this.deadline > 0)
+				{
+					return false;
+				}
+
+				this.nextLoadTime = loadTime + permits * this.nanosPerEntry;
+			}
+
+			TimeUnit.NANOSECONDS.sleep(loadTime - System.nanoTime());
+
+			return true;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.cluster.MembershipEvent;
+import com.hazelcast.cluster.MembershipListener;
+import com.hazelcast.core.HazelcastInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists addresses of the last known cluster members to a local file, to be tried on the next start
+ * along with the configured members, including members outside of the configured addresses.
+ * <p>
+ * Failures reading or writing the file are logged and otherwise ignored, as the configured members still apply.
+ */
+public class ClusterMembers
+{
+	private static final Logger logger = LoggerFactory.getLogger(ClusterMembers.class);
+
+	private final Path file;
+
+	/**
+	 * @param file file holding one member address per line.
+	 */
+	public ClusterMembers(final Path file)
+	{
+		this.file = file;
+	}
+
+	/**
+	 * @return addresses of the last known members or an empty list if none were persisted.
+	 */
+	public List<String> load()
+	{
+		if (!Files.isReadable(this.file))
+		{
+			return Collections.emptyList();
+		}
+
+		try
+		{
+			return Files.readAllLines(this.file).stream().map(String::trim).filter(member -> !member.isEmpty()).toList();
+		}
+		catch (final IOException exception)
+		{
+			logger.warn("Last known cluster members could not be read from : {}", this.file, exception);
+
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Persists members of provided instance, other than the instance itself, now and on each membership change.
+	 *
+	 * @param hazelcastInstance member of the cluster.
+	 * @return registration id of the membership listener.
+	 */
+	public UUID register(final HazelcastInstance hazelcastInstance)
+	{
+		store(hazelcastInstance);
+
+		return hazelcastInstance.getCluster().addMembershipListener(new MembershipListener()
+		{
+			@Override
+			public void memberAdded(final MembershipEvent event)
+			{
+				store(hazelcastInstance);
+			}
+
+			@Override
+			public void memberRemoved(final MembershipEvent event)
+			{
+				// Keeping the last members of a cluster being shut down, for them to be tried on restart
+				if (event.getMembers().size() > 1)
+				{
+					store(hazelcastInstance);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Writes current members of provided instance, replacing the file atomically.
+	 *
+	 * @param hazelcastInstance member of the cluster.
+	 */
+	private void store(final HazelcastInstance hazelcastInstance)
+	{
+		final List<String> members = hazelcastInstance.getCluster().getMembers().stream().filter(member -> !member.localMember())
+													  .map(Member::getAddress).map(address -> address.getHost() + ":" + address.getPort())
+													  .toList();
+
+		if (members.isEmpty())
+		{
+			return;
+		}
+
+		try
+		{
+			final Path parent = this.file.toAbsolutePath().getParent();
+			final Path temporaryFile = Files.createTempFile(Files.createDirectories(parent), this.file.getFileName().toString(), ".tmp");
+
+			Files.write(temporaryFile, members);
+			Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (final IOException | RuntimeException exception)
+		{
+			logger.warn("Last known cluster members could not be written to : {}", this.file, exception);
+		}
+	}
+}
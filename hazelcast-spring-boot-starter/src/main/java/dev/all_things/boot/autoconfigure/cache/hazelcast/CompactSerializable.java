@@ -0,0 +1,16 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a cached key / value type to be serialized with (zero-config) Compact serialization.
+ * <p>
+ * Annotated types are discovered in packages configured through
+ * {@code application.cache.hazelcast.serialization.compact-packages}.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CompactSerializable
+{
+}
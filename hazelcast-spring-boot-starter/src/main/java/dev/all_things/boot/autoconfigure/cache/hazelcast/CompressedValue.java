@@ -0,0 +1,70 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+/**
+ * Cached value compressed by {@link ValueCompressor}, holding the serialized form of the original value as deflated bytes.
+ * <p>
+ * Values below the compression threshold are stored as is, hence only large values pay for this header.
+ */
+public class CompressedValue
+		implements IdentifiedDataSerializable
+{
+	private int length;
+
+	private byte[] bytes;
+
+	public CompressedValue()
+	{
+	}
+
+	/**
+	 * @param length length of the serialized form of the original value.
+	 * @param bytes  deflated serialized form of the original value.
+	 */
+	public CompressedValue(final int length, final byte[] bytes)
+	{
+		this.length = length;
+		this.bytes = bytes;
+	}
+
+	public int getLength()
+	{
+		return this.length;
+	}
+
+	public byte[] getBytes()
+	{
+		return this.bytes;
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		out.writeInt(this.length);
+		out.writeByteArray(this.bytes);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		this.length = in.readInt();
+		this.bytes = in.readByteArray();
+	}
+
+	@Override
+	public int getFactoryId()
+	{
+		return CacheDataSerializableFactory.FACTORY_ID;
+	}
+
+	@Override
+	public int getClassId()
+	{
+		return CacheDataSerializableFactory.COMPRESSED_VALUE;
+	}
+}
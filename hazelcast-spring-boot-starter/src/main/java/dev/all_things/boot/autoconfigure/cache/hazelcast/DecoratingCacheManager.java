@@ -0,0 +1,78 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * {@link CacheManager} applying {@link HazelcastCacheDecorator}s to caches of another {@link CacheManager}.
+ * <p>
+ * Each cache is decorated once and the decorated instance is reused afterward.
+ */
+public class DecoratingCacheManager
+		implements CacheManager
+{
+	private final CacheManager delegate;
+
+	private final List<HazelcastCacheDecorator> decorators;
+
+	private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * @param delegate   {@link CacheManager} providing caches to be decorated.
+	 * @param decorators decorators to be applied, in order, to each cache.
+	 */
+	public DecoratingCacheManager(final CacheManager delegate, final List<HazelcastCacheDecorator> decorators)
+	{
+		this.delegate = delegate;
+		this.decorators = List.copyOf(decorators);
+	}
+
+	public CacheManager getDelegate()
+	{
+		return this.delegate;
+	}
+
+	@Override
+	public Cache getCache(final String name)
+	{
+		final Cache cache = this.caches.get(name);
+
+		if (cache != null)
+		{
+			return cache;
+		}
+
+		final Cache target = this.delegate.getCache(name);
+
+		return target == null ? null : this.caches.computeIfAbsent(name, cacheName -> decorate(target));
+	}
+
+	@Override
+	public Collection<String> getCacheNames()
+	{
+		return this.delegate.getCacheNames();
+	}
+
+	/**
+	 * Applies all decorators to provided cache.
+	 *
+	 * @param cache cache to be decorated.
+	 * @return decorated cache.
+	 */
+	private Cache decorate(final Cache cache)
+	{
+		Cache decorated = cache;
+
+		for (final HazelcastCacheDecorator decorator : this.decorators)
+		{
+			decorated = decorator.decorate(decorated);
+		}
+
+		return decorated;
+	}
+}
@@ -0,0 +1,311 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * {@link CacheManager} serving caches from a fallback until the target {@link CacheManager} is ready.
+ * <p>
+ * Each cache switches to the target on its first operation after the target became ready, and its fallback
+ * entries are discarded then, as the target may hold newer values. Evictions and clears applied to the fallback
+ * are replayed on the target before switching, hence entries evicted meanwhile are not served stale by the target.
+ * Caches requested afterward are served by the target directly.
+ * <p>
+ * If the target fails to be created, caches remain served by their fallback.
+ */
+public class DeferredCacheManager
+		implements CacheManager
+{
+	/**
+	 * Maximum number of evicted keys recorded per cache, beyond which the whole target cache is cleared on switch.
+	 */
+	private static final int MAX_PENDING_EVICTIONS = 10_000;
+
+	private static final Logger logger = LoggerFactory.getLogger(DeferredCacheManager.class);
+
+	private final Function<String, Cache> fallback;
+
+	private final ConcurrentMap<String, DeferredCache> caches = new ConcurrentHashMap<>();
+
+	private volatile CacheManager target;
+
+	/**
+	 * @param target   completes with the target {@link CacheManager} once it is ready.
+	 * @param fallback creates the fallback cache of the given name.
+	 */
+	public DeferredCacheManager(final CompletionStage<? extends CacheManager> target, final Function<String, Cache> fallback)
+	{
+		this.fallback = fallback;
+
+		target.whenComplete((cacheManager, failure) ->
+		{
+			if (failure != null)
+			{
+				logger.error("Hazelcast caches could not be created, caches remain served by fallback", failure);
+
+				return;
+			}
+
+			this.target = cacheManager;
+
+			logger.info("Caches switched from fallback to Hazelcast");
+		});
+	}
+
+	/**
+	 * @return whether caches are served by the target {@link CacheManager}.
+	 */
+	public boolean isReady()
+	{
+		return this.target != null;
+	}
+
+	@Override
+	public Cache getCache(final String name)
+	{
+		final CacheManager cacheManager = this.target;
+
+		if (cacheManager != null)
+		{
+			return cacheManager.getCache(name);
+		}
+
+		return this.caches.computeIfAbsent(name, cacheName -> new DeferredCache(this.fallback.apply(cacheName)));
+	}
+
+	@Override
+	public Collection<String> getCacheNames()
+	{
+		final CacheManager cacheManager = this.target;
+
+		return cacheManager != null ? cacheManager.getCacheNames() : Collections.unmodifiableSet(this.caches.keySet());
+	}
+
+	/**
+	 * {@link Cache} served by its fallback until the target {@link CacheManager} is ready.
+	 */
+	private class DeferredCache
+			implements Cache
+	{
+		private final Cache fallback;
+
+		private volatile Cache current;
+
+		// Evictions applied to the fallback, replayed on the target; guarded by 'this'
+		private final Set<Object> pendingEvictions = new HashSet<>();
+
+		private boolean pendingClear;
+
+		DeferredCache(final Cache fallback)
+		{
+			this.fallback = fallback;
+			this.current = fallback;
+		}
+
+		/**
+		 * @return cache currently serving operations.
+		 */
+		private Cache cache()
+		{
+			final Cache cache = this.current;
+			final CacheManager cacheManager = DeferredCacheManager.this.target;
+
+			if (cache != this.fallback || cacheManager == null)
+			{
+				return cache;
+			}
+
+			synchronized (this)
+			{
+				if (this.current != this.fallback)
+				{
+					return this.current;
+				}
+
+				final Cache targetCache = cacheManager.getCache(this.fallback.getName());
+
+				replayEvictions(targetCache);
+
+				this.current = targetCache;
+				this.fallback.clear();
+
+				return targetCache;
+			}
+		}
+
+		/**
+		 * Applies an eviction to the current cache, recording it if applied to the fallback.
+		 *
+		 * @param key      evicted key or {@code null} if the cache is cleared.
+		 * @param eviction eviction applied to the current cache.
+		 * @param <T>      type of the result of the eviction.
+		 * @return result of {eviction}.
+		 */
+		private <T> T evict(final Object key, final Function<Cache, T> eviction)
+		{
+			final Cache cache = cache();
+
+			if (cache != this.fallback)
+			{
+				return eviction.apply(cache);
+			}
+
+			synchronized (this)
+			{
+				if (this.current != this.fallback)
+				{
+					// Switched meanwhile, hence the eviction is applied to the target directly
+					return eviction.apply(this.current);
+				}
+
+				if (key == null)
+				{
+					this.pendingClear = true;
+					this.pendingEvictions.clear();
+				}
+				else if (!this.pendingClear)
+				{
+					this.pendingEvictions.add(key);
+
+					if (this.pendingEvictions.size() > MAX_PENDING_EVICTIONS)
+					{
+						logger.warn("More than {} evictions applied to fallback of cache '{}', the cache will be cleared once switched to Hazelcast",
+									MAX_PENDING_EVICTIONS, getName());
+
+						this.pendingClear = true;
+						this.pendingEvictions.clear();
+					}
+				}
+
+				return eviction.apply(this.fallback);
+			}
+		}
+
+		/**
+		 * Replays evictions applied to the fallback on the target cache; may evict entries written to the target
+		 * meanwhile by other members / clients, only costing a cache miss.
+		 *
+		 * @param targetCache cache of the target {@link CacheManager}.
+		 */
+		private void replayEvictions(final Cache targetCache)
+		{
+			if (this.pendingClear)
+			{
+				logger.warn("Clearing cache '{}', as it was cleared while served by fallback", getName());
+
+				targetCache.clear();
+			}
+			else if (!this.pendingEvictions.isEmpty())
+			{
+				logger.warn("Evicting {} entries of cache '{}', evicted while served by fallback", this.pendingEvictions.size(), getName());
+
+				this.pendingEvictions.forEach(targetCache::evict);
+			}
+
+			this.pendingClear = false;
+			this.pendingEvictions.clear();
+		}
+
+		@Override
+		public String getName()
+		{
+			return this.fallback.getName();
+		}
+
+		@Override
+		public Object getNativeCache()
+		{
+			return cache().getNativeCache();
+		}
+
+		@Override
+		public ValueWrapper get(final Object key)
+		{
+			return cache().get(key);
+		}
+
+		@Override
+		public <T> T get(final Object key, final Class<T> type)
+		{
+			return cache().get(key, type);
+		}
+
+		@Override
+		public <T> T get(final Object key, final Callable<T> valueLoader)
+		{
+			return cache().get(key, valueLoader);
+		}
+
+		@Override
+		public CompletableFuture<?> retrieve(final Object key)
+		{
+			return cache().retrieve(key);
+		}
+
+		@Override
+		public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+		{
+			return cache().retrieve(key, valueLoader);
+		}
+
+		@Override
+		public void put(final Object key, final Object value)
+		{
+			cache().put(key, value);
+		}
+
+		@Override
+		public ValueWrapper putIfAbsent(final Object key, final Object value)
+		{
+			return cache().putIfAbsent(key, value);
+		}
+
+		@Override
+		public void evict(final Object key)
+		{
+			evict(key, cache ->
+			{
+				cache.evict(key);
+
+				return null;
+			});
+		}
+
+		@Override
+		public boolean evictIfPresent(final Object key)
+		{
+			return evict(key, cache -> cache.evictIfPresent(key));
+		}
+
+		@Override
+		public void clear()
+		{
+			evict(null, cache ->
+			{
+				cache.clear();
+
+				return null;
+			});
+		}
+
+		@Override
+		public boolean invalidate()
+		{
+			return evict(null, Cache::invalidate);
+		}
+	}
+}
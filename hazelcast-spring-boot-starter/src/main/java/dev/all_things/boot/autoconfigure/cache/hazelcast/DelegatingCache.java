@@ -0,0 +1,106 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} delegating all operations to another {@link Cache}.
+ * <p>
+ * To be extended by caches decorating specific operations.
+ */
+public abstract class DelegatingCache
+		implements Cache
+{
+	protected final Cache delegate;
+
+	protected DelegatingCache(final Cache delegate)
+	{
+		this.delegate = delegate;
+	}
+
+	public Cache getDelegate()
+	{
+		return this.delegate;
+	}
+
+	@Override
+	public String getName()
+	{
+		return this.delegate.getName();
+	}
+
+	@Override
+	public Object getNativeCache()
+	{
+		return this.delegate.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(final Object key)
+	{
+		return this.delegate.get(key);
+	}
+
+	@Override
+	public <T> T get(final Object key, final Class<T> type)
+	{
+		return this.delegate.get(key, type);
+	}
+
+	@Override
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		return this.delegate.get(key, valueLoader);
+	}
+
+	@Override
+	public CompletableFuture<?> retrieve(final Object key)
+	{
+		return this.delegate.retrieve(key);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+	{
+		return this.delegate.retrieve(key, valueLoader);
+	}
+
+	@Override
+	public void put(final Object key, final Object value)
+	{
+		this.delegate.put(key, value);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value)
+	{
+		return this.delegate.putIfAbsent(key, value);
+	}
+
+	@Override
+	public void evict(final Object key)
+	{
+		this.delegate.evict(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(final Object key)
+	{
+		return this.delegate.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear()
+	{
+		this.delegate.clear();
+	}
+
+	@Override
+	public boolean invalidate()
+	{
+		return this.delegate.invalidate();
+	}
+}
@@ -0,0 +1,31 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.lang.annotation.*;
+
+/**
+ * Evicts entries of provided tags from provided caches once the annotated method returns, instead of clearing
+ * the caches as {@code @CacheEvict(allEntries = true)} does.
+ * <p>
+ * Caches need to be tagged, except local caches, which are cleared.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface EvictByTag
+{
+	/**
+	 * @return names of the caches.
+	 */
+	String[] cacheNames();
+
+	/**
+	 * @return SpEL expressions of the tags, evaluated against method arguments and {@code #result} e.g. {@code "'tenant:' + #tenantId"}.
+	 */
+	String[] tags();
+
+	/**
+	 * @return whether to evict before invoking the method, hence whether it throws or not; {@code #result} is then {@code null}.
+	 */
+	boolean beforeInvocation() default false;
+}
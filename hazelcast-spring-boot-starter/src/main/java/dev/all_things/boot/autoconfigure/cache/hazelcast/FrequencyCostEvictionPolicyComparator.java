@@ -0,0 +1,39 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.map.MapEvictionPolicyComparator;
+
+/**
+ * Evicts entries bringing the fewest hits per byte of heap first, keeping small and frequently read entries.
+ * <p>
+ * The access frequency of an entry is its hits per second since it was created, hence entries read by a scan once
+ * are evicted before entries read steadily, unlike with LRU. The frequency is weighted by the memory cost of the entry,
+ * evicting a large entry before several small ones of the same frequency. Memory costs are not tracked for the
+ * {@code OBJECT} in-memory format, where entries are ranked by frequency only.
+ */
+public class FrequencyCostEvictionPolicyComparator
+		implements MapEvictionPolicyComparator<Object, Object>
+{
+	@Override
+	public int compare(final EntryView<Object, Object> entry1, final EntryView<Object, Object> entry2)
+	{
+		final long now = System.currentTimeMillis();
+
+		// Lower scores are evicted first
+		return Double.compare(score(entry1, now), score(entry2, now));
+	}
+
+	/**
+	 * @param entry entry of the map.
+	 * @param now   current time in milliseconds.
+	 * @return hits per second since creation, per byte of memory cost.
+	 */
+	private static double score(final EntryView<Object, Object> entry, final long now)
+	{
+		// Bounding the age of new entries, which would otherwise appear frequently read
+		final double ageSeconds = Math.max(1_000, now - entry.getCreationTime()) / 1_000d;
+		final double frequency = (entry.getHits() + 1) / ageSeconds;
+
+		return frequency / Math.max(1, entry.getCost());
+	}
+}
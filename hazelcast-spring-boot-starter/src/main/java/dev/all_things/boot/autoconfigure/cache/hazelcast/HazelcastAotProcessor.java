@@ -0,0 +1,64 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * Registers reflection hints of types named by user configured properties, as resolved at build time.
+ * <p>
+ * Compact types of 'compact-classes' and 'compact-packages' are serialized reflectively by Hazelcast, and
+ * 'eviction-comparator' classes are instantiated by class name. Packages are scanned at build time only;
+ * in a native image, types of 'compact-packages' are not registered with Compact serialization upfront.
+ */
+public class HazelcastAotProcessor
+		implements BeanFactoryInitializationAotProcessor
+{
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(final ConfigurableListableBeanFactory beanFactory)
+	{
+		// Binding only the properties naming types, as other properties may not be resolvable at build time
+		final Binder binder = Binder.get(beanFactory.getBean(Environment.class));
+		final HazelcastProperties.Serialization serialization = binder.bindOrCreate("application.cache.hazelcast.serialization",
+																					HazelcastProperties.Serialization.class);
+		final Map<String, HazelcastProperties.Cache> caches = binder.bind("application.cache.hazelcast.caches",
+																		  Bindable.mapOf(String.class, HazelcastProperties.Cache.class))
+																	.orElse(Map.of());
+
+		// Resolving Compact types as a server / client instance does
+		final Set<Class<?>> compactTypes = new HazelcastSerializationConfigurer(serialization, beanFactory.getBeanClassLoader()).getCompactTypes();
+
+		final Set<String> evictionComparators = new LinkedHashSet<>();
+
+		caches.values().stream()
+				  .map(HazelcastProperties.Cache::getEvictionComparator)
+				  .filter(Objects::nonNull)
+				  .forEach(evictionComparators::add);
+
+		if (compactTypes.isEmpty() && evictionComparators.isEmpty())
+		{
+			return null;
+		}
+
+		return (generationContext, beanFactoryInitializationCode) ->
+		{
+			final ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+
+			compactTypes.forEach(type -> reflection.registerType(type, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+																  MemberCategory.INVOKE_DECLARED_METHODS));
+
+			evictionComparators.forEach(comparator -> reflection.registerTypeIfPresent(beanFactory.getBeanClassLoader(), comparator,
+																					   MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+		};
+	}
+}
@@ -4,13 +4,16 @@ import com.hazelcast.core.HazelcastInstance;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Provides auto-configuration for Hazelcast.
  */
 @AutoConfiguration
-@Import(HazelcastConfiguration.class)
+@Import({ HazelcastConfiguration.class, HazelcastMetricsConfiguration.class, HazelcastDiagnosticsConfiguration.class,
+		  HazelcastHealthConfiguration.class })
 @ConditionalOnClass(value = { HazelcastInstance.class })
+@ImportRuntimeHints(HazelcastRuntimeHints.class)
 public class HazelcastAutoConfiguration
 {
 }
@@ -0,0 +1,23 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+
+/**
+ * Provides a way to decorate caches created by the {@link CacheManager} bean.
+ * <p>
+ * Decorators are applied in ascending {@link Ordered order} i.e. decorator with the lowest order
+ * wraps the Hazelcast backed cache directly.
+ */
+@FunctionalInterface
+public interface HazelcastCacheDecorator
+{
+	/**
+	 * Decorates provided cache.
+	 *
+	 * @param cache cache to be decorated.
+	 * @return decorated cache or {@code cache} itself if the cache needs no decoration.
+	 */
+	public Cache decorate(final Cache cache);
+}
@@ -0,0 +1,220 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+import com.hazelcast.internal.management.dto.SlowOperationDTO;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint reporting where cache latency comes from: busiest partitions, slow operations of the member and
+ * hot keys of each cache.
+ * <p>
+ * Operations executed per partition and slow operations (with their stack traces) are read from the internals of
+ * a member, hence reported in server mode only; sampled operations and hot keys come from {@link CacheDiagnostics}.
+ * While the instance is started in background, or if the internals of the member cannot be read (e.g. with another
+ * Hazelcast version), only sampled data is reported.
+ */
+@Endpoint(id = "hazelcastcache")
+public class HazelcastCacheEndpoint
+{
+	private static final Logger logger = LoggerFactory.getLogger(HazelcastCacheEndpoint.class);
+
+	private final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance;
+
+	private final CacheDiagnostics diagnostics;
+
+	private final int topPartitions;
+
+	/**
+	 * @param hazelcastInstance supplies a future completed with the {@link HazelcastInstance} backing the caches, once it is ready.
+	 * @param diagnostics       sampler of cache operations.
+	 * @param topPartitions     number of busiest partitions reported.
+	 */
+	public HazelcastCacheEndpoint(final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance, final CacheDiagnostics diagnostics,
+								  final int topPartitions)
+	{
+		this.hazelcastInstance = hazelcastInstance;
+		this.diagnostics = diagnostics;
+		this.topPartitions = topPartitions;
+	}
+
+	/**
+	 * @return diagnostics of the caches.
+	 */
+	@ReadOperation
+	public Report report()
+	{
+		final HazelcastInstance instance = this.hazelcastInstance.get().getNow(null);
+		final NodeEngineImpl nodeEngine = instance == null ? null : getNodeEngine(instance);
+
+		return new Report(instance == null ? null : instance.getName(), getPartitions(nodeEngine), getSlowOperations(nodeEngine),
+						  this.diagnostics.getHotKeys());
+	}
+
+	/**
+	 * Clears sampled operations and hot keys; operations executed by the member are counted since it started.
+	 */
+	@DeleteOperation
+	public void reset()
+	{
+		this.diagnostics.reset();
+	}
+
+	/**
+	 * @param nodeEngine internals of the member or {@code null} for a client.
+	 * @return busiest partitions, by operations executed on the member and then by sampled operations.
+	 */
+	private List<PartitionReport> getPartitions(final NodeEngineImpl nodeEngine)
+	{
+		final Map<Integer, Long> executedOperations = new HashMap<>();
+
+		if (nodeEngine != null)
+		{
+			try
+			{
+				for (final OperationRunner runner : nodeEngine.getOperationService().getOperationExecutor().getPartitionOperationRunners())
+				{
+					executedOperations.put(runner.getPartitionId(), runner.executedOperationsCount());
+				}
+			}
+			catch (final RuntimeException | LinkageError exception)
+			{
+				// Reporting sampled operations only
+				executedOperations.clear();
+
+				logger.debug("Operations executed per partition cannot be read from the member", exception);
+			}
+		}
+
+		final Map<Integer, CacheDiagnostics.PartitionOperations> sampledOperations = new HashMap<>();
+
+		this.diagnostics.getPartitionOperations().forEach(operations -> sampledOperations.put(operations.partitionId(), operations));
+
+		final Set<Integer> partitionIds = new HashSet<>(sampledOperations.keySet());
+
+		executedOperations.forEach((partitionId, count) ->
+		{
+			if (count > 0)
+			{
+				partitionIds.add(partitionId);
+			}
+		});
+
+		return partitionIds.stream().map(partitionId ->
+						   {
+							   final CacheDiagnostics.PartitionOperations sampled = sampledOperations.get(partitionId);
+
+							   return new PartitionReport(partitionId, executedOperations.get(partitionId),
+														  sampled == null ? 0 : sampled.sampledOperations(), sampled == null ? 0 : sampled.meanLatencyMicros());
+						   })
+						   .sorted(Comparator.comparing((PartitionReport partition) -> partition.executedOperations() == null ? 0 : partition.executedOperations())
+											 .thenComparing(PartitionReport::sampledOperations).reversed())
+						   .limit(this.topPartitions)
+						   .toList();
+	}
+
+	/**
+	 * @param nodeEngine internals of the member or {@code null} for a client.
+	 * @return slow operations of the member, slowest first.
+	 */
+	private static List<SlowOperation> getSlowOperations(final NodeEngineImpl nodeEngine)
+	{
+		if (nodeEngine == null)
+		{
+			return List.of();
+		}
+
+		try
+		{
+			final List<SlowOperationDTO> slowOperations = nodeEngine.getOperationService().getSlowOperationDTOs();
+
+			return slowOperations.stream().map(operation ->
+								 {
+									 final int maxDuration = operation.invocations.stream().mapToInt(invocation -> invocation.durationMs).max().orElse(0);
+									 final String details = operation.invocations.stream().max(Comparator.comparingInt(invocation -> invocation.durationMs))
+																				 .map(invocation -> invocation.operationDetails).orElse(null);
+
+									 return new SlowOperation(operation.operation, details, operation.totalInvocations, maxDuration, operation.stackTrace);
+								 })
+								 .sorted(Comparator.comparingInt(SlowOperation::maxDurationMillis).reversed())
+								 .toList();
+		}
+		catch (final RuntimeException | LinkageError exception)
+		{
+			logger.debug("Slow operations cannot be read from the member", exception);
+
+			return List.of();
+		}
+	}
+
+	/**
+	 * @param hazelcastInstance instance backing the caches.
+	 * @return internals of a member or {@code null} for a client, or if they cannot be read.
+	 */
+	private static NodeEngineImpl getNodeEngine(final HazelcastInstance hazelcastInstance)
+	{
+		try
+		{
+			final HazelcastInstanceImpl instance = hazelcastInstance instanceof HazelcastInstanceProxy proxy ? proxy.getOriginal()
+												   : hazelcastInstance instanceof HazelcastInstanceImpl impl ? impl : null;
+
+			return instance == null ? null : instance.node.getNodeEngine();
+		}
+		catch (final RuntimeException | LinkageError exception)
+		{
+			// e.g. the proxy of a member shut down meanwhile, or internals of another Hazelcast version
+			logger.debug("Internals of the member cannot be read", exception);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Diagnostics of the caches.
+	 *
+	 * @param instance       name of the instance, or {@code null} while it is started in background.
+	 * @param partitions     busiest partitions.
+	 * @param slowOperations slow operations of the member, slowest first.
+	 * @param hotKeys        hot keys of each cache, most frequent first.
+	 */
+	public record Report(String instance, List<PartitionReport> partitions, List<SlowOperation> slowOperations,
+						 Map<String, List<HotKeySketch.HotKey>> hotKeys)
+	{
+	}
+
+	/**
+	 * Operations of a partition.
+	 *
+	 * @param partitionId        id of the partition.
+	 * @param executedOperations operations executed by the member on the partition since it started, or {@code null} for a client.
+	 * @param sampledOperations  sampled cache operations on keys of the partition.
+	 * @param meanLatencyMicros  mean latency of the sampled operations, in microseconds.
+	 */
+	public record PartitionReport(int partitionId, Long executedOperations, long sampledOperations, double meanLatencyMicros)
+	{
+	}
+
+	/**
+	 * Operation of the member which ran longer than the slow operation threshold.
+	 *
+	 * @param operation         type of the operation.
+	 * @param details           details of the slowest invocation e.g. the map and key.
+	 * @param invocations       number of slow invocations.
+	 * @param maxDurationMillis duration of the slowest invocation.
+	 * @param stackTrace        stack trace of the operation while it was slow.
+	 */
+	public record SlowOperation(String operation, String details, int invocations, int maxDurationMillis, String stackTrace)
+	{
+	}
+}
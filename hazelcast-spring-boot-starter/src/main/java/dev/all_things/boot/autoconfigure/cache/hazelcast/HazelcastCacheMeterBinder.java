@@ -0,0 +1,229 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.query.LocalIndexStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.HazelcastCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.core.Ordered;
+
+/**
+ * Binds Hazelcast map statistics and cache operation latencies to a {@link MeterRegistry}.
+ * <p>
+ * Map statistics ({@link com.hazelcast.map.LocalMapStats} including Near Cache statistics) are bound for each cache
+ * created through the cache manager, as it is created, hence maps not used as caches are not created for metrics.
+ * Cache operations are timed by wrapping each cache with {@link TimedCache}. Map locks taken on misses and loads of
+ * {@link StampedeProtectedCache}s are counted, for comparing contention with and without stampede protection.
+ * In server mode, the time taken by the member to join the cluster is bound as well.
+ */
+public class HazelcastCacheMeterBinder
+		implements MeterBinder, HazelcastCacheDecorator, Ordered
+{
+	private final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance;
+
+	private final boolean serverMode;
+
+	private final boolean percentileHistogram;
+
+	private final Map<String, TimedCache> caches = new ConcurrentHashMap<>();
+
+	private final Set<String> boundMaps = ConcurrentHashMap.newKeySet();
+
+	private volatile MeterRegistry registry;
+
+	/**
+	 * @param hazelcastInstance   supplies a future completed with the {@link HazelcastInstance} backing the caches, once it is ready.
+	 * @param serverMode          whether the instance is a member, hence records its join time.
+	 * @param percentileHistogram whether operation timers publish percentile histograms.
+	 */
+	public HazelcastCacheMeterBinder(final Supplier<CompletableFuture<HazelcastInstance>> hazelcastInstance, final boolean serverMode, final boolean percentileHistogram)
+	{
+		this.hazelcastInstance = hazelcastInstance;
+		this.serverMode = serverMode;
+		this.percentileHistogram = percentileHistogram;
+	}
+
+	@Override
+	public void bindTo(final MeterRegistry registry)
+	{
+		this.registry = registry;
+
+		// Binding caches decorated before the registry became available
+		this.caches.values().forEach(cache -> bind(registry, cache));
+
+		if (!this.serverMode)
+		{
+			return;
+		}
+
+		// Binding the join time once the instance is ready
+		this.hazelcastInstance.get().thenAccept(instance ->
+		{
+			if (instance != null)
+			{
+				bindJoinTime(registry, instance);
+			}
+		});
+	}
+
+	@Override
+	public Cache decorate(final Cache cache)
+	{
+		final TimedCache timedCache = new TimedCache(cache);
+
+		this.caches.put(cache.getName(), timedCache);
+
+		final MeterRegistry meterRegistry = this.registry;
+
+		if (meterRegistry != null)
+		{
+			bind(meterRegistry, timedCache);
+		}
+
+		return timedCache;
+	}
+
+	@Override
+	public int getOrder()
+	{
+		// Timing operations as observed by the application
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+
+	/**
+	 * Binds operation timers and map statistics of a cache.
+	 */
+	private void bind(final MeterRegistry meterRegistry, final TimedCache cache)
+	{
+		cache.bind(meterRegistry, this.percentileHistogram);
+
+		if (cache.getNativeCache() instanceof IMap<?, ?> map)
+		{
+			bind(meterRegistry, cache.getName(), map);
+		}
+
+		bindLoads(meterRegistry, cache);
+	}
+
+	/**
+	 * Binds the time taken by the member to start and join the cluster, if recorded.
+	 */
+	private static void bindJoinTime(final MeterRegistry meterRegistry, final HazelcastInstance instance)
+	{
+		if (instance.getUserContext().get(HazelcastConfiguration.JOIN_TIME) instanceof Duration joinTime)
+		{
+			TimeGauge.builder("hazelcast.cluster.join.time", joinTime, TimeUnit.MILLISECONDS, Duration::toMillis)
+					 .description("Time taken to start the member and join the cluster")
+					 .register(meterRegistry);
+		}
+	}
+
+	/**
+	 * Binds counts of map locks and loads of a cache, as decorated.
+	 */
+	private static void bindLoads(final MeterRegistry meterRegistry, final Cache cache)
+	{
+		Cache target = cache;
+
+		while (target instanceof DelegatingCache delegatingCache)
+		{
+			if (delegatingCache instanceof StampedeProtectedCache protectedCache)
+			{
+				bindLoads(meterRegistry, protectedCache, "leader", StampedeProtectedCache::getLeaderLoadCount);
+				bindLoads(meterRegistry, protectedCache, "coalesced", StampedeProtectedCache::getCoalescedLoadCount);
+				bindLoads(meterRegistry, protectedCache, "awaited", StampedeProtectedCache::getAwaitedLoadCount);
+				bindLoads(meterRegistry, protectedCache, "fallback", StampedeProtectedCache::getFallbackLoadCount);
+			}
+
+			target = delegatingCache.getDelegate();
+		}
+
+		if (target instanceof AsyncHazelcastCache hazelcastCache)
+		{
+			FunctionCounter.builder("hazelcast.cache.locks", hazelcastCache, AsyncHazelcastCache::getLockCount)
+						   .tags("cache", cache.getName())
+						   .description("Map locks taken for loading missing keys")
+						   .register(meterRegistry);
+
+			FunctionCounter.builder("hazelcast.cache.write.failures", hazelcastCache, AsyncHazelcastCache::getWriteFailureCount)
+						   .tags("cache", cache.getName())
+						   .description("Asynchronous writes which failed, with non-blocking writes")
+						   .register(meterRegistry);
+		}
+	}
+
+	/**
+	 * Binds count of loads of a {@link StampedeProtectedCache} with provided outcome.
+	 */
+	private static void bindLoads(final MeterRegistry meterRegistry, final StampedeProtectedCache cache, final String outcome,
+								  final ToDoubleFunction<StampedeProtectedCache> count)
+	{
+		FunctionCounter.builder("hazelcast.cache.loads", cache, count)
+					   .tags("cache", cache.getName(), "outcome", outcome)
+					   .description("Loads of missing keys by outcome")
+					   .register(meterRegistry);
+	}
+
+	/**
+	 * Binds statistics of a map, once per map.
+	 */
+	private void bind(final MeterRegistry meterRegistry, final String name, final IMap<?, ?> map)
+	{
+		if (this.boundMaps.add(name))
+		{
+			new HazelcastCacheMetrics(map, Tags.empty()).bindTo(meterRegistry);
+
+			bindQueries(meterRegistry, name, map);
+		}
+	}
+
+	/**
+	 * Binds counts of queries served by indexes versus full scans, and hits of each index of a map.
+	 */
+	private static void bindQueries(final MeterRegistry meterRegistry, final String name, final IMap<?, ?> map)
+	{
+		FunctionCounter.builder("hazelcast.cache.queries", map, queried -> queried.getLocalMapStats().getIndexedQueryCount())
+					   .tags("cache", name, "type", "indexed")
+					   .description("Queries served by indexes")
+					   .register(meterRegistry);
+
+		FunctionCounter.builder("hazelcast.cache.queries", map, queried ->
+					   {
+						   final LocalMapStats stats = queried.getLocalMapStats();
+
+						   return stats.getQueryCount() - stats.getIndexedQueryCount();
+					   })
+					   .tags("cache", name, "type", "full-scan")
+					   .description("Queries scanning all entries")
+					   .register(meterRegistry);
+
+		// Indexes of a map are created along with the map
+		for (final String index : map.getLocalMapStats().getIndexStats().keySet())
+		{
+			FunctionCounter.builder("hazelcast.cache.index.hits", map, queried ->
+						   {
+							   final LocalIndexStats stats = queried.getLocalMapStats().getIndexStats().get(index);
+
+							   return stats == null ? 0 : stats.getHitCount();
+						   })
+						   .tags("cache", name, "index", index)
+						   .description("Queries served by the index")
+						   .register(meterRegistry);
+		}
+	}
+}
@@ -1,6 +1,9 @@
 package dev.all_things.boot.autoconfigure.cache.hazelcast;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import com.hazelcast.client.HazelcastClient;
@@ -9,18 +12,39 @@ import com.hazelcast.client.config.ClientNetworkConfig;
 import com.hazelcast.config.*;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.diagnostics.*;
+import com.hazelcast.internal.nearcache.impl.invalidation.RepairingTask;
+import com.hazelcast.query.Predicates;
 import com.hazelcast.spi.properties.ClusterProperty;
-import com.hazelcast.spring.cache.HazelcastCacheManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.NoOpCache;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.*;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.ClassUtils;
 
 /**
  * Configures {@link HazelcastInstance} with provided properties.
@@ -37,6 +61,16 @@ import org.springframework.context.annotation.*;
 @Configuration(value = "defaultHazelcastConfiguration", proxyBeanMethods = false)
 public class HazelcastConfiguration
 {
+	/**
+	 * Key of the {@link Duration} taken by a server instance to start and join the cluster, in its user context.
+	 */
+	public static final String JOIN_TIME = "application.cache.hazelcast.join-time";
+
+	/**
+	 * Actuator class required by the 'hazelcastcache' endpoint, see {@link HazelcastDiagnosticsConfiguration}.
+	 */
+	private static final String ACTUATOR_ENDPOINT_CLASS_NAME = "org.springframework.boot.actuate.endpoint.annotation.Endpoint";
+
 	private static final Logger logger = LoggerFactory.getLogger(HazelcastConfiguration.class);
 
 	/**
@@ -49,7 +83,36 @@ public class HazelcastConfiguration
 	@Bean(name = "hazelcastInstance", destroyMethod = "shutdown")
 	@ConditionalOnMissingBean(HazelcastInstance.class)
 	@ConditionalOnProperty(prefix = "application.cache.hazelcast", name = "mode", havingValue = "client")
-	public HazelcastInstance hazelcastClientInstance(final HazelcastProperties hazelcastProperties)
+	public HazelcastInstance hazelcastClientInstance(final HazelcastProperties hazelcastProperties, final HazelcastSerializationConfigurer serializationConfigurer)
+	{
+		return createClientInstance(hazelcastProperties, serializationConfigurer);
+	}
+
+	/**
+	 * Creates a server instance of {@link HazelcastInstance} for caching.
+	 * This instance will be used by cache manager application level caching.
+	 *
+	 * @param hazelcastProperties for configuring {@link HazelcastInstance}.
+	 * @return {@link HazelcastInstance} instance customized according to {@link HazelcastProperties}.
+	 */
+	@Bean(name = "hazelcastInstance", destroyMethod = "shutdown")
+	@ConditionalOnMissingBean(HazelcastInstance.class)
+	@ConditionalOnProperty(prefix = "application.cache.hazelcast", name = "mode", havingValue = "server", matchIfMissing = true)
+	public HazelcastInstance hazelcastServerInstance(final HazelcastProperties hazelcastProperties, final HazelcastMapConfigurer mapConfigurer,
+													 final HazelcastSerializationConfigurer serializationConfigurer, final BeanFactory beanFactory)
+	{
+		return createServerInstance(hazelcastProperties, mapConfigurer, serializationConfigurer, beanFactory);
+	}
+
+	/**
+	 * Creates a client instance of {@link HazelcastInstance}, connected to the cluster.
+	 *
+	 * @param hazelcastProperties     for configuring {@link HazelcastInstance}.
+	 * @param serializationConfigurer for configuring serialization of cached keys and values.
+	 * @return {@link HazelcastInstance} instance customized according to {@link HazelcastProperties}.
+	 */
+	public static HazelcastInstance createClientInstance(final HazelcastProperties hazelcastProperties,
+														 final HazelcastSerializationConfigurer serializationConfigurer)
 	{
 		System.setProperty("hazelcast.phone.home.enabled", "false");
 
@@ -63,7 +126,9 @@ public class HazelcastConfiguration
 		// Configuring client connection retry properties
 		config.getConnectionStrategyConfig()
 			  .getConnectionRetryConfig()
-			  .setClusterConnectTimeoutMillis(Long.MAX_VALUE); // Retry connecting to cluster indefinitely
+			  .setClusterConnectTimeoutMillis(properties.getClusterConnectTimeout() == null
+											  ? Long.MAX_VALUE // Retry connecting to cluster indefinitely
+											  : properties.getClusterConnectTimeout().toMillis());
 
 		// Configuration network properties
 		final ClientNetworkConfig networkConfig = config.getNetworkConfig();
@@ -74,24 +139,46 @@ public class HazelcastConfiguration
 		// Configuring routing mode
 		networkConfig.getClusterRoutingConfig().setRoutingMode(properties.getRoutingMode());
 
+		// Sizing thread pools and limiting concurrent invocations
+		ThreadSizing.configure(config::setProperty, properties.getThreads(), properties.getBackpressure());
+
+		// Configuring serialization of cached keys and values
+		serializationConfigurer.configure(config);
+
+		// Configuring Near Caches for serving reads without a network round trip
+		properties.getNearCache().forEach((cacheName, nearCache) -> config.addNearCacheConfig(createNearCacheConfig(cacheName, nearCache)));
+
+		// Configuring Continuous Query Caches for serving predicate queries in-process
+		properties.getQueryCaches().forEach((name, queryCache) ->
+			config.addQueryCacheConfig(queryCache.getMap() == null ? name : queryCache.getMap(), createQueryCacheConfig(name, queryCache)));
+
+		// Configuring handling of missed / reordered Near Cache invalidation events
+		final HazelcastProperties.Client.NearCacheInvalidation invalidation = properties.getNearCacheInvalidation();
+
+		config.setProperty(RepairingTask.MAX_TOLERATED_MISS_COUNT.getName(), String.valueOf(invalidation.getMaxToleratedMissCount()));
+		config.setProperty(RepairingTask.RECONCILIATION_INTERVAL_SECONDS.getName(), String.valueOf(invalidation.getReconciliationInterval().toSeconds()));
+
 		final HazelcastInstance hazelcastInstance = HazelcastClient.newHazelcastClient(config);
 
 		logger.info("Hazelcast client instance created : {}", hazelcastInstance.getName());
 
+		// Creating query caches eagerly, as populating them queries the whole map
+		properties.getQueryCaches().forEach((name, queryCache) -> QueryCacheManager.getQueryCache(hazelcastInstance, name, queryCache));
+
 		return hazelcastInstance;
 	}
 
 	/**
-	 * Creates a server instance of {@link HazelcastInstance} for caching.
-	 * This instance will be used by cache manager application level caching.
+	 * Creates a server instance of {@link HazelcastInstance}, joined to the cluster.
 	 *
-	 * @param hazelcastProperties for configuring {@link HazelcastInstance}.
+	 * @param hazelcastProperties     for configuring {@link HazelcastInstance}.
+	 * @param mapConfigurer           for customizing map configurations.
+	 * @param serializationConfigurer for configuring serialization of cached keys and values.
+	 * @param beanFactory             for resolving 'MapStore' beans of maps.
 	 * @return {@link HazelcastInstance} instance customized according to {@link HazelcastProperties}.
 	 */
-	@Bean(name = "hazelcastInstance", destroyMethod = "shutdown")
-	@ConditionalOnMissingBean(HazelcastInstance.class)
-	@ConditionalOnProperty(prefix = "application.cache.hazelcast", name = "mode", havingValue = "server", matchIfMissing = true)
-	public HazelcastInstance hazelcastServerInstance(final HazelcastProperties hazelcastProperties, final HazelcastMapConfigurer mapConfigurer)
+	public static HazelcastInstance createServerInstance(final HazelcastProperties hazelcastProperties, final HazelcastMapConfigurer mapConfigurer,
+														 final HazelcastSerializationConfigurer serializationConfigurer, final BeanFactory beanFactory)
 	{
 		System.setProperty("hazelcast.phone.home.enabled", "false");
 
@@ -102,6 +189,12 @@ public class HazelcastConfiguration
 		config.setInstanceName(hazelcastProperties.getInstanceName()); // Configuring cluster wide instance name
 		config.setProperty(ClusterProperty.LOGGING_TYPE.getName(), "slf4j"); // Configuring Hazelcast to use SLF4J logging
 
+		if (properties.getWarmUp().getEnabled())
+		{
+			// Shutting down the member with the application context, once cache snapshots are written
+			config.setProperty(ClusterProperty.SHUTDOWNHOOK_ENABLED.getName(), "false");
+		}
+
 		// Configuration network properties
 		final NetworkConfig networkConfig = config.getNetworkConfig();
 		final List<String> secondaryAddresses = properties.getSecondaryAddresses();
@@ -131,17 +224,107 @@ public class HazelcastConfiguration
 
 		// Configuring clustering properties
 		final HazelcastProperties.Server.Cluster cluster = properties.getCluster();
+		final ClusterMembers lastMembers = cluster.getLastMembersFile().isEmpty() ? null : new ClusterMembers(Path.of(cluster.getLastMembersFile()));
 
 		join.getTcpIpConfig()
 			.setEnabled(cluster.getEnabled()) // Enabling support for well-known members, if specified
-			.setMembers(createMembers(properties)); // Setting well-known members of the cluster
+			.setMembers(createMembers(properties, lastMembers == null ? List.of() : lastMembers.load())) // Setting well-known members of the cluster
+			.setConnectionTimeoutSeconds((int) cluster.getConnectionTimeout().toSeconds()); // Bounding the time unreachable members delay the join
+
+		// Configuring join and split-brain merge timings
+		config.setProperty(ClusterProperty.WAIT_SECONDS_BEFORE_JOIN.getName(), String.valueOf(cluster.getWaitBeforeJoin().toSeconds()));
+		config.setProperty(ClusterProperty.MAX_WAIT_SECONDS_BEFORE_JOIN.getName(), String.valueOf(cluster.getMaxWaitBeforeJoin().toSeconds()));
+		config.setProperty(ClusterProperty.MAX_JOIN_SECONDS.getName(), String.valueOf(cluster.getMaxJoinTime().toSeconds()));
+		config.setProperty(ClusterProperty.MERGE_FIRST_RUN_DELAY_SECONDS.getName(), String.valueOf(cluster.getMergeFirstRunDelay().toSeconds()));
+		config.setProperty(ClusterProperty.MERGE_NEXT_RUN_DELAY_SECONDS.getName(), String.valueOf(cluster.getMergeNextRunDelay().toSeconds()));
+
+		// Configuring batching of Near Cache invalidation events sent to clients / members
+		final HazelcastProperties.Server.NearCacheInvalidation invalidation = properties.getNearCacheInvalidation();
+
+		config.setProperty(ClusterProperty.MAP_INVALIDATION_MESSAGE_BATCH_ENABLED.getName(), String.valueOf(invalidation.getBatchEnabled()));
+		config.setProperty(ClusterProperty.MAP_INVALIDATION_MESSAGE_BATCH_SIZE.getName(), String.valueOf(invalidation.getBatchSize()));
+		config.setProperty(ClusterProperty.MAP_INVALIDATION_MESSAGE_BATCH_FREQUENCY_SECONDS.getName(), String.valueOf(invalidation.getBatchFrequency().toSeconds()));
+
+		// Sizing thread pools and limiting concurrent invocations
+		ThreadSizing.configure(config::setProperty, properties.getThreads(), properties.getBackpressure());
+
+		// Configuring detection of slow operations, when reported by the 'hazelcastcache' endpoint; Hazelcast defaults apply otherwise
+		final HazelcastProperties.Diagnostics diagnostics = hazelcastProperties.getDiagnostics();
+
+		if (diagnostics.getEnabled() && ClassUtils.isPresent(ACTUATOR_ENDPOINT_CLASS_NAME, HazelcastConfiguration.class.getClassLoader()))
+		{
+			config.setProperty(ClusterProperty.SLOW_OPERATION_DETECTOR_ENABLED.getName(), "true");
+			config.setProperty(ClusterProperty.SLOW_OPERATION_DETECTOR_THRESHOLD_MILLIS.getName(), String.valueOf(diagnostics.getSlowOperationThreshold().toMillis()));
+			config.setProperty(ClusterProperty.SLOW_OPERATION_DETECTOR_STACK_TRACE_LOGGING_ENABLED.getName(), String.valueOf(diagnostics.getSlowOperationStackTraceLogging()));
+		}
+
+		if (diagnostics.getPluginsEnabled())
+		{
+			// Periodically reporting operation latencies per type, slow operations / invocations and operation thread usage
+			final String period = String.valueOf(diagnostics.getPluginsPeriod().toSeconds());
+
+			config.setProperty(Diagnostics.ENABLED.getName(), "true");
+			config.setProperty(Diagnostics.OUTPUT_TYPE.getName(), diagnostics.getPluginsOutputType());
+			config.setProperty(OperationProfilerPlugin.PERIOD_SECONDS.getName(), period);
+			config.setProperty(SlowOperationPlugin.PERIOD_SECONDS.getName(), period);
+			config.setProperty(InvocationSamplePlugin.SAMPLE_PERIOD_SECONDS.getName(), period);
+			config.setProperty(OperationThreadSamplerPlugin.PERIOD_SECONDS.getName(), period);
+		}
+
+		// Configuring serialization of cached keys and values
+		serializationConfigurer.configure(config);
+
+		// Configuring capacity of write-behind queues, rejecting writes beyond it
+		config.setProperty(ClusterProperty.MAP_WRITE_BEHIND_QUEUE_CAPACITY.getName(), String.valueOf(properties.getWriteBehindQueueCapacity()));
+
+		// Configuring maps declared through properties; {mapConfigurer} may override them
+		final BeanMapStoreFactory mapStoreFactory = new BeanMapStoreFactory(beanFactory);
+
+		final HazelcastProperties.HeapSizing heapSizing = hazelcastProperties.getHeapSizing();
+		final Map<String, Integer> heapSizes = HazelcastMapConfigurer.createHeapSizes(hazelcastProperties.getCaches(), heapSizing);
+
+		hazelcastProperties.getCaches().forEach((cacheName, cache) ->
+		{
+			final MapConfig mapConfig = HazelcastMapConfigurer.createMapConfig(config, cacheName, cache);
+
+			if (heapSizes.containsKey(cacheName))
+			{
+				// Sizing the cache from its share of the maximum heap, which follows the size of the container
+				mapConfig.getEvictionConfig().setMaxSizePolicy(heapSizing.getPolicy()).setSize(heapSizes.get(cacheName));
+
+				logger.info("Cache '{}' sized to {} {}% of the maximum heap ({} MB)", cacheName, heapSizing.getPolicy(), heapSizes.get(cacheName),
+							Runtime.getRuntime().maxMemory() / 100 * heapSizes.get(cacheName) / (1024 * 1024));
+
+				if (cache.getInMemoryFormat() == InMemoryFormat.OBJECT && heapSizing.getPolicy() == MaxSizePolicy.USED_HEAP_PERCENTAGE)
+				{
+					logger.warn("Heap used by cache '{}' is not tracked with the OBJECT in-memory format, hence it is not evicted by heap-sizing", cacheName);
+				}
+			}
+
+			final MapStoreConfig mapStoreConfig = mapConfig.getMapStoreConfig();
+
+			if (mapStoreConfig.isEnabled())
+			{
+				mapStoreConfig.setFactoryImplementation(mapStoreFactory);
+			}
+		});
 
 		// Updating {config} with custom map configurations
 		mapConfigurer.configure(config);
 
+		final long startTime = System.nanoTime();
 		final HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+		final Duration joinTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+		// Exposing the time taken to start and join the cluster, bound as a metric
+		hazelcastInstance.getUserContext().put(JOIN_TIME, joinTime);
 
-		logger.info("Hazelcast server instance created : {}", hazelcastInstance.getName());
+		if (lastMembers != null && cluster.getEnabled())
+		{
+			lastMembers.register(hazelcastInstance);
+		}
+
+		logger.info("Hazelcast server instance created : {} (joined in {} ms)", hazelcastInstance.getName(), joinTime.toMillis());
 
 		return hazelcastInstance;
 	}
@@ -158,6 +341,131 @@ public class HazelcastConfiguration
 		return new NoOpHazelcastMapConfigurer();
 	}
 
+	/**
+	 * Provides serialization configuration shared by server and client instances.
+	 *
+	 * @param hazelcastProperties for configuring serialization.
+	 * @param resourceLoader      for resolving Compact serialization types.
+	 * @return {@link HazelcastSerializationConfigurer} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(HazelcastSerializationConfigurer.class)
+	public HazelcastSerializationConfigurer hazelcastSerializationConfigurer(final HazelcastProperties hazelcastProperties, final ResourceLoader resourceLoader)
+	{
+		return new HazelcastSerializationConfigurer(hazelcastProperties.getSerialization(), resourceLoader.getClassLoader());
+	}
+
+	/**
+	 * Fails startup if a cached type would fall back to Java serialization.
+	 *
+	 * @param beanFactory             for discovering caching methods.
+	 * @param serializationConfigurer serialization configuration shared by server and client instances.
+	 * @return {@link JavaSerializationVerifier} instance.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "application.cache.hazelcast.serialization", name = "fail-on-java-serialization", havingValue = "true")
+	public JavaSerializationVerifier javaSerializationVerifier(final ConfigurableListableBeanFactory beanFactory,
+															   final HazelcastSerializationConfigurer serializationConfigurer)
+	{
+		return new JavaSerializationVerifier(beanFactory, serializationConfigurer);
+	}
+
+	/**
+	 * Provides statistics of client side Near Caches.
+	 *
+	 * @param hazelcastInstance provider of the pre-configured {@link HazelcastInstance}.
+	 * @return {@link NearCacheStatistics} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(NearCacheStatistics.class)
+	@ConditionalOnProperty(prefix = "application.cache.hazelcast", name = "mode", havingValue = "client")
+	public NearCacheStatistics nearCacheStatistics(final @Qualifier("hazelcastInstance") ObjectProvider<HazelcastInstance> hazelcastInstance)
+	{
+		// Resolving the instance on first use; it may still be starting in background
+		return new NearCacheStatistics(hazelcastInstance::getObject);
+	}
+
+	/**
+	 * Provides client side Continuous Query Caches declared through properties.
+	 *
+	 * @param hazelcastInstance   provider of the pre-configured {@link HazelcastInstance}.
+	 * @param hazelcastProperties for resolving declared query caches.
+	 * @return {@link QueryCacheManager} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(QueryCacheManager.class)
+	@ConditionalOnProperty(prefix = "application.cache.hazelcast", name = "mode", havingValue = "client")
+	public QueryCacheManager queryCacheManager(final @Qualifier("hazelcastInstance") ObjectProvider<HazelcastInstance> hazelcastInstance,
+											   final HazelcastProperties hazelcastProperties)
+	{
+		// Resolving the instance on first use; it may still be starting in background
+		return new QueryCacheManager(hazelcastInstance::getObject, hazelcastProperties.getClient().getQueryCaches());
+	}
+
+	/**
+	 * Creates a {@link NearCacheConfig} from provided Near Cache properties.
+	 *
+	 * @param cacheName name (or wildcard pattern) of the cache being configured.
+	 * @param nearCache user configured Near Cache properties.
+	 * @return configured {@link NearCacheConfig} instance.
+	 */
+	public static NearCacheConfig createNearCacheConfig(final String cacheName, final HazelcastProperties.Client.NearCache nearCache)
+	{
+		final NearCacheConfig nearCacheConfig = new NearCacheConfig(cacheName);
+
+		nearCacheConfig.setInMemoryFormat(nearCache.getInMemoryFormat())
+					   .setInvalidateOnChange(nearCache.getInvalidateOnChange())
+					   .setLocalUpdatePolicy(nearCache.getLocalUpdatePolicy())
+					   .setTimeToLiveSeconds((int) nearCache.getTimeToLive().toSeconds())
+					   .setMaxIdleSeconds((int) nearCache.getMaxIdle().toSeconds());
+
+		// Configuring Near Cache eviction by entry count
+		nearCacheConfig.getEvictionConfig()
+					   .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+					   .setSize(nearCache.getMaxSize())
+					   .setEvictionPolicy(nearCache.getEvictionPolicy());
+
+		// Configuring persistence of Near Cache keys for preloading on restart
+		final HazelcastProperties.Client.NearCache.Preloader preloader = nearCache.getPreloader();
+
+		nearCacheConfig.getPreloaderConfig()
+					   .setEnabled(preloader.getEnabled())
+					   .setDirectory(preloader.getDirectory())
+					   .setStoreInitialDelaySeconds((int) preloader.getStoreInitialDelay().toSeconds())
+					   .setStoreIntervalSeconds((int) preloader.getStoreInterval().toSeconds());
+
+		return nearCacheConfig;
+	}
+
+	/**
+	 * Creates a {@link QueryCacheConfig} from provided query cache properties.
+	 *
+	 * @param name       name of the query cache.
+	 * @param queryCache user configured query cache properties.
+	 * @return configured {@link QueryCacheConfig} instance.
+	 */
+	public static QueryCacheConfig createQueryCacheConfig(final String name, final HazelcastProperties.Client.QueryCache queryCache)
+	{
+		final QueryCacheConfig queryCacheConfig = new QueryCacheConfig(name);
+
+		queryCacheConfig.setInMemoryFormat(queryCache.getInMemoryFormat())
+						.setIncludeValue(queryCache.getIncludeValue())
+						.setPopulate(queryCache.getPopulate())
+						.setBatchSize(queryCache.getBatchSize())
+						.setBufferSize(queryCache.getBufferSize())
+						.setDelaySeconds((int) queryCache.getDelay().toSeconds())
+						.setCoalesce(queryCache.getCoalesce());
+
+		// Selecting cached entries; all entries without a predicate
+		queryCacheConfig.setPredicateConfig(queryCache.getPredicate() == null ? new PredicateConfig(Predicates.alwaysTrue())
+																			   : new PredicateConfig().setSql(queryCache.getPredicate()));
+
+		// Configuring indexes used by predicate queries of the query cache
+		queryCache.getIndexes().forEach(index -> queryCacheConfig.addIndexConfig(HazelcastMapConfigurer.createIndexConfig(index)));
+
+		return queryCacheConfig;
+	}
+
 	/**
 	 * Creates a member list from grouped configuration format.
 	 *
@@ -165,12 +473,39 @@ public class HazelcastConfiguration
 	 * @return list of cluster members.
 	 */
 	public static List<String> createMembers(final HazelcastProperties.Server server)
+	{
+		return createMembers(server, List.of());
+	}
+
+	/**
+	 * Creates a deduplicated member list from grouped configuration format and last known members.
+	 * <p>
+	 * Members are ordered by likelihood of being up: last known members first, then members on lower ports of
+	 * port ranges, as members bind to the lowest available port.
+	 *
+	 * @param server      user configured Hazelcast server properties.
+	 * @param lastMembers addresses of the last known members.
+	 * @return list of cluster members.
+	 */
+	public static List<String> createMembers(final HazelcastProperties.Server server, final Collection<String> lastMembers)
 	{
 		final String primaryMember = server.getPrimaryAddress() + ":" + server.getPort();
+		final Map<String, Integer> ranks = new LinkedHashMap<>();
+
+		lastMembers.forEach(member -> ranks.put(member, -1));
 
-		return server.getCluster().getMembers().stream().map(HazelcastConfiguration::createMembers)
-					 .flatMap(Collection::stream).filter(member -> !member.equals(primaryMember))
-					 .toList();
+		server.getCluster().getMembers().stream().map(HazelcastConfiguration::createPortGroups).flatMap(Collection::stream).forEach(portGroup ->
+		{
+			// Ranking members by their position in port ranges
+			for (int index = 0; index < portGroup.size(); index++)
+			{
+				ranks.merge(portGroup.get(index), index, Math::min);
+			}
+		});
+
+		return ranks.entrySet().stream().filter(member -> !member.getKey().equals(primaryMember))
+					.sorted(Map.Entry.comparingByValue()).map(Map.Entry::getKey)
+					.toList();
 	}
 
 	/**
@@ -180,18 +515,28 @@ public class HazelcastConfiguration
 	 * @return list of cluster members.
 	 */
 	public static List<String> createMembers(final String member)
+	{
+		return createPortGroups(member).stream().flatMap(Collection::stream).toList();
+	}
+
+	/**
+	 * Creates member lists per port group from grouped configuration format.
+	 *
+	 * @param member grouped member addresses.
+	 * @return lists of cluster members, one per port group.
+	 */
+	private static List<List<String>> createPortGroups(final String member)
 	{
 		if (!member.contains("["))
 		{
 			// Handles simple member addresses like 127.0.0.1:5701
-			return Collections.singletonList(member);
+			return Collections.singletonList(Collections.singletonList(member));
 		}
 
 		final String address = member.substring(0, member.indexOf(":"));
 		final String[] portGroups = member.substring(member.indexOf("[") + 1, member.indexOf("]")).split(";");
 
-		return Arrays.stream(portGroups).map(portGroup -> createMembers(address, portGroup))
-					 .flatMap(Collection::stream).toList();
+		return Arrays.stream(portGroups).map(portGroup -> createMembers(address, portGroup)).toList();
 	}
 
 	/**
@@ -232,14 +577,334 @@ public class HazelcastConfiguration
 
 	/**
 	 * Creates an instance of {@link CacheManager} for caching.
+	 * <p>
+	 * When the instance is started in background, caches are served from the configured fallback until it is ready.
 	 *
-	 * @param hazelcastInstance pre-configured instance of {@link HazelcastInstance}.
+	 * @param hazelcastInstance   provider of the pre-configured {@link HazelcastInstance}.
+	 * @param instanceStarter     provider of the {@link HazelcastInstanceStarter}, if started in background.
+	 * @param hazelcastProperties for configuring caches.
+	 * @param cacheDecorators     decorators to be applied to each cache.
 	 * @return Customized instance of {@link CacheManager}.
 	 */
 	@Bean(name = "cacheManager")
 	@ConditionalOnMissingBean(CacheManager.class)
-	public CacheManager cacheManager(final @Qualifier("hazelcastInstance") HazelcastInstance hazelcastInstance)
+	@ConditionalOnExpression("'${application.cache.hazelcast.mode:server}' != 'local'")
+	public CacheManager cacheManager(final @Qualifier("hazelcastInstance") ObjectProvider<HazelcastInstance> hazelcastInstance,
+									 final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+									 final HazelcastProperties hazelcastProperties,
+									 final ObjectProvider<HazelcastCacheDecorator> cacheDecorators)
 	{
-		return new HazelcastCacheManager(hazelcastInstance);
+		final List<HazelcastCacheDecorator> decorators = cacheDecorators.orderedStream().toList();
+		final HazelcastInstanceStarter starter = instanceStarter.getIfAvailable();
+
+		if (starter == null)
+		{
+			return createCacheManager(hazelcastInstance.getObject(), hazelcastProperties, decorators);
+		}
+
+		final HazelcastProperties.Startup.Fallback fallback = hazelcastProperties.getStartup().getFallback();
+		final Function<String, Cache> fallbackCache = switch (fallback.getType())
+		{
+			case LOCAL -> cacheName -> new LocalStoreCache(cacheName, new LocalCacheStore(fallback.getMaxSize(), fallback.getTimeToLive()));
+			case PASS_THROUGH -> NoOpCache::new;
+		};
+
+		return new DeferredCacheManager(starter.getInstance().thenApply(instance -> createCacheManager(instance, hazelcastProperties, decorators)),
+										fallbackCache);
+	}
+
+	/**
+	 * Creates an instance of {@link CacheManager} serving caches from in-process stores, without any {@link HazelcastInstance}.
+	 *
+	 * @param hazelcastProperties for configuring caches.
+	 * @param mapConfigurer       for customizing map configurations, applied to in-process stores.
+	 * @param cacheDecorators     decorators to be applied to each cache.
+	 * @return Customized instance of {@link CacheManager}.
+	 */
+	@Bean(name = "cacheManager")
+	@ConditionalOnMissingBean(CacheManager.class)
+	@ConditionalOnProperty(prefix = "application.cache.hazelcast", name = "mode", havingValue = "local")
+	public CacheManager localCacheManager(final HazelcastProperties hazelcastProperties, final HazelcastMapConfigurer mapConfigurer,
+										  final ObjectProvider<HazelcastCacheDecorator> cacheDecorators)
+	{
+		return createLocalCacheManager(hazelcastProperties, mapConfigurer, cacheDecorators.orderedStream().toList());
+	}
+
+	/**
+	 * Creates a {@link CacheManager} serving caches from in-process stores, sized and expired as maps of a server instance.
+	 *
+	 * @param hazelcastProperties for configuring caches.
+	 * @param mapConfigurer       for customizing map configurations, applied to in-process stores.
+	 * @param decorators          decorators to be applied to each cache.
+	 * @return Customized instance of {@link CacheManager}.
+	 */
+	public static CacheManager createLocalCacheManager(final HazelcastProperties hazelcastProperties, final HazelcastMapConfigurer mapConfigurer,
+													   final List<HazelcastCacheDecorator> decorators)
+	{
+		// Configuring maps as for a server instance, which is never created; only sizes, time-to-live and max-idle are used
+		final Config config = new Config();
+
+		hazelcastProperties.getCaches().forEach((cacheName, cache) ->
+		{
+			// Heap shares replace 'max-size' with a percentage of the heap, which is not measured for in-process entries
+			if (cache.getHeapShare() != null)
+			{
+				throw new IllegalStateException("Cache '" + cacheName + "' is sized by 'heap-share', which cannot bound local caches; use 'max-size' instead");
+			}
+
+			HazelcastMapConfigurer.createMapConfig(config, cacheName, cache);
+		});
+
+		mapConfigurer.configure(config);
+
+		logger.info("Local cache manager created, without Hazelcast instance");
+
+		final CacheManager cacheManager = new LocalCacheManager(config);
+
+		return decorators.isEmpty() ? cacheManager : new DecoratingCacheManager(cacheManager, decorators);
+	}
+
+	/**
+	 * Creates a {@link CacheManager} backed by provided {@link HazelcastInstance}.
+	 *
+	 * @param hazelcastInstance   pre-configured instance of {@link HazelcastInstance}.
+	 * @param hazelcastProperties for configuring caches.
+	 * @param decorators          decorators to be applied to each cache.
+	 * @return Customized instance of {@link CacheManager}.
+	 */
+	public static CacheManager createCacheManager(final HazelcastInstance hazelcastInstance, final HazelcastProperties hazelcastProperties,
+												  final List<HazelcastCacheDecorator> decorators)
+	{
+		final CacheManager cacheManager = new AsyncHazelcastCacheManager(hazelcastInstance, hazelcastProperties.getAsync().getNonBlockingWrites(),
+																		 hazelcastProperties.getCaches());
+
+		return decorators.isEmpty() ? cacheManager : new DecoratingCacheManager(cacheManager, decorators);
+	}
+
+	/**
+	 * Provides multi-key access to caches of the cache manager.
+	 *
+	 * @param cacheManager {@link CacheManager} providing the caches.
+	 * @return {@link BulkCacheManager} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(BulkCacheManager.class)
+	public BulkCacheManager bulkCacheManager(final CacheManager cacheManager)
+	{
+		return new BulkCacheManager(cacheManager);
+	}
+
+	/**
+	 * Provides in-place partial updates of cached values through entry processors.
+	 *
+	 * @param cacheManager {@link CacheManager} providing the caches.
+	 * @return {@link CacheMutator} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(CacheMutator.class)
+	public CacheMutator cacheMutator(final CacheManager cacheManager)
+	{
+		return new CacheMutator(cacheManager);
+	}
+
+	/**
+	 * Provides tagging of cache entries and eviction of entries by tag.
+	 *
+	 * @param cacheManager {@link CacheManager} providing the caches.
+	 * @return {@link CacheTagManager} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(CacheTagManager.class)
+	public CacheTagManager cacheTagManager(final CacheManager cacheManager)
+	{
+		return new CacheTagManager(cacheManager);
+	}
+
+	/**
+	 * Applies {@link CacheTags @CacheTags} / {@link EvictByTag @EvictByTag} to annotated beans, outside Spring's cache interceptor.
+	 * <p>
+	 * Declared static and as infrastructure bean to be picked up by the proxy creator of {@link EnableCaching}.
+	 *
+	 * @param tagManager {@link CacheTagManager} evicting tags, resolved on first eviction.
+	 * @return {@link Advisor} instance.
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public static Advisor cacheTagAdvisor(final ObjectProvider<CacheTagManager> tagManager)
+	{
+		final Pointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(CacheTags.class, true))
+				.union(new AnnotationMatchingPointcut(null, CacheTags.class, true))
+				.union(new AnnotationMatchingPointcut(null, EvictByTag.class, true));
+
+		final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new CacheTagInterceptor(tagManager::getObject));
+
+		// Running before the cache interceptor, of lowest precedence, for results cached by annotated methods to be tagged
+		advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+
+		return advisor;
+	}
+
+	/**
+	 * Registers reflection hints of types named by properties, for building a native image.
+	 * <p>
+	 * Declared static for the processor to be instantiated without the configuration, at build time only.
+	 *
+	 * @return {@link HazelcastAotProcessor} instance.
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public static HazelcastAotProcessor hazelcastAotProcessor()
+	{
+		return new HazelcastAotProcessor();
+	}
+
+	/**
+	 * Provides partition-aware keys, available to cached methods as {@code keyGenerator = "partitionAwareKeyGenerator"}.
+	 *
+	 * @return {@link PartitionAwareKeyGenerator} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(PartitionAwareKeyGenerator.class)
+	public PartitionAwareKeyGenerator partitionAwareKeyGenerator()
+	{
+		return new PartitionAwareKeyGenerator();
+	}
+
+	/**
+	 * Generates keys of all cached methods with {@link PartitionAwareKeyGenerator}.
+	 *
+	 * @param keyGenerator partition-aware key generator.
+	 * @return {@link CachingConfigurer} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(CachingConfigurer.class)
+	@ConditionalOnProperty(prefix = "application.cache.hazelcast.key-generator", name = "partition-aware", havingValue = "true")
+	public CachingConfigurer hazelcastCachingConfigurer(final PartitionAwareKeyGenerator keyGenerator)
+	{
+		return new CachingConfigurer()
+		{
+			@Override
+			public KeyGenerator keyGenerator()
+			{
+				return keyGenerator;
+			}
+		};
+	}
+
+	/**
+	 * Provides in-process (L1) caches in front of caches with enabled 'local-cache' properties.
+	 *
+	 * @param hazelcastProperties for configuring in-process caches.
+	 * @return {@link TwoTierCacheDecorator} instance.
+	 */
+	@Bean
+	public TwoTierCacheDecorator twoTierCacheDecorator(final HazelcastProperties hazelcastProperties)
+	{
+		return new TwoTierCacheDecorator(hazelcastProperties.getCaches());
+	}
+
+	/**
+	 * Protects caches with enabled 'stampede-protection' properties against concurrent loads of missing keys.
+	 *
+	 * @param hazelcastInstance   provider of the pre-configured {@link HazelcastInstance}.
+	 * @param instanceStarter     provider of the {@link HazelcastInstanceStarter}, if started in background.
+	 * @param hazelcastProperties for configuring stampede protection.
+	 * @return {@link StampedeProtectionCacheDecorator} instance.
+	 */
+	@Bean
+	public StampedeProtectionCacheDecorator stampedeProtectionCacheDecorator(final @Qualifier("hazelcastInstance") ObjectProvider<HazelcastInstance> hazelcastInstance,
+																			 final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+																			 final HazelcastProperties hazelcastProperties)
+	{
+		// Caches are decorated once the instance is ready, hence resolving it does not wait
+		return new StampedeProtectionCacheDecorator(hazelcastProperties.getCaches(),
+													() -> HazelcastInstanceStarter.getInstance(instanceStarter, hazelcastInstance).join());
+	}
+
+	/**
+	 * Reloads entries ahead of expiry for caches with enabled 'refresh-ahead' properties.
+	 *
+	 * @param hazelcastInstance   provider of the pre-configured {@link HazelcastInstance}.
+	 * @param instanceStarter     provider of the {@link HazelcastInstanceStarter}, if started in background.
+	 * @param hazelcastProperties for configuring refresh-ahead.
+	 * @param taskDecorator       provider of the {@link TaskDecorator} propagating context of readers to reloads, if unique.
+	 * @return {@link RefreshAheadCacheDecorator} instance.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public RefreshAheadCacheDecorator refreshAheadCacheDecorator(final @Qualifier("hazelcastInstance") ObjectProvider<HazelcastInstance> hazelcastInstance,
+																 final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+																 final HazelcastProperties hazelcastProperties,
+																 final ObjectProvider<TaskDecorator> taskDecorator)
+	{
+		// Caches are decorated once the instance is ready, hence resolving it does not wait
+		return new RefreshAheadCacheDecorator(hazelcastProperties.getCaches(), hazelcastProperties.getRefresh(),
+											  () -> HazelcastInstanceStarter.getInstance(instanceStarter, hazelcastInstance).join(),
+											  taskDecorator.getIfUnique());
+	}
+
+	/**
+	 * Warms up caches of a member with entries snapshotted on its previous shutdown.
+	 *
+	 * @param hazelcastInstance   provider of the member {@link HazelcastInstance}.
+	 * @param instanceStarter     provider of the {@link HazelcastInstanceStarter}, if started in background.
+	 * @param hazelcastProperties for configuring warm-up.
+	 * @return {@link CacheWarmer} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(CacheWarmer.class)
+	@ConditionalOnExpression("'${application.cache.hazelcast.mode:server}' == 'server' && ${application.cache.hazelcast.server.warm-up.enabled:false}")
+	public CacheWarmer cacheWarmer(final @Qualifier("hazelcastInstance") ObjectProvider<HazelcastInstance> hazelcastInstance,
+								   final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+								   final HazelcastProperties hazelcastProperties)
+	{
+		return new CacheWarmer(() -> HazelcastInstanceStarter.getInstance(instanceStarter, hazelcastInstance), hazelcastProperties.getServer().getWarmUp());
+	}
+
+	/**
+	 * Creates {@link HazelcastInstance} in background when 'application.cache.hazelcast.startup.background' is enabled.
+	 * <p>
+	 * Member classes are registered before the enclosing class, hence the lazy 'hazelcastInstance' bean
+	 * takes precedence over the instances created during startup.
+	 */
+	@ConditionalOnExpression("${application.cache.hazelcast.startup.background:false} && '${application.cache.hazelcast.mode:server}' != 'local'")
+	@Configuration(value = "defaultHazelcastBackgroundStartupConfiguration", proxyBeanMethods = false)
+	static class BackgroundStartupConfiguration
+	{
+		/**
+		 * Starts creating the {@link HazelcastInstance} on a background thread.
+		 *
+		 * @param hazelcastProperties     for configuring {@link HazelcastInstance}.
+		 * @param mapConfigurer           for customizing map configurations.
+		 * @param serializationConfigurer for configuring serialization of cached keys and values.
+		 * @param beanFactory             for resolving 'MapStore' beans of maps.
+		 * @return {@link HazelcastInstanceStarter} instance.
+		 */
+		@Bean(destroyMethod = "shutdown")
+		@ConditionalOnMissingBean({ HazelcastInstance.class, HazelcastInstanceStarter.class })
+		public HazelcastInstanceStarter hazelcastInstanceStarter(final HazelcastProperties hazelcastProperties, final HazelcastMapConfigurer mapConfigurer,
+																 final HazelcastSerializationConfigurer serializationConfigurer, final BeanFactory beanFactory)
+		{
+			if ("client".equals(hazelcastProperties.getMode()))
+			{
+				return new HazelcastInstanceStarter(() -> createClientInstance(hazelcastProperties, serializationConfigurer));
+			}
+
+			return new HazelcastInstanceStarter(() -> createServerInstance(hazelcastProperties, mapConfigurer, serializationConfigurer, beanFactory));
+		}
+
+		/**
+		 * Exposes the {@link HazelcastInstance} created in background; beans injecting it wait until it is ready.
+		 * It is shut down by {@link HazelcastInstanceStarter}.
+		 *
+		 * @param instanceStarter starter creating the {@link HazelcastInstance}.
+		 * @return {@link HazelcastInstance} instance once it is ready.
+		 */
+		@Lazy
+		@Bean(name = "hazelcastInstance", destroyMethod = "")
+		@ConditionalOnBean(HazelcastInstanceStarter.class)
+		public HazelcastInstance hazelcastInstance(final HazelcastInstanceStarter instanceStarter)
+		{
+			return instanceStarter.getInstance().join();
+		}
 	}
 }
@@ -0,0 +1,55 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures sampling of cache operations and the 'hazelcastcache' endpoint when actuator is available.
+ */
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnProperty(prefix = "application.cache.hazelcast.diagnostics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration(value = "defaultHazelcastDiagnosticsConfiguration", proxyBeanMethods = false)
+public class HazelcastDiagnosticsConfiguration
+{
+	/**
+	 * Samples keys and latencies of cache operations.
+	 *
+	 * @param hazelcastInstance   provider of the {@link HazelcastInstance} backing the caches.
+	 * @param instanceStarter     provider of the {@link HazelcastInstanceStarter}, if the instance is started in background.
+	 * @param hazelcastProperties for configuring sampling.
+	 * @return {@link CacheDiagnostics} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(CacheDiagnostics.class)
+	public CacheDiagnostics cacheDiagnostics(final ObjectProvider<HazelcastInstance> hazelcastInstance,
+											 final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+											 final HazelcastProperties hazelcastProperties)
+	{
+		return new CacheDiagnostics(() -> HazelcastInstanceStarter.getInstance(instanceStarter, hazelcastInstance), hazelcastProperties.getDiagnostics());
+	}
+
+	/**
+	 * Reports busiest partitions, slow operations and hot keys of the caches.
+	 *
+	 * @param hazelcastInstance   provider of the {@link HazelcastInstance} backing the caches.
+	 * @param instanceStarter     provider of the {@link HazelcastInstanceStarter}, if the instance is started in background.
+	 * @param diagnostics         sampler of cache operations.
+	 * @param hazelcastProperties for configuring reports.
+	 * @return {@link HazelcastCacheEndpoint} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(HazelcastCacheEndpoint.class)
+	public HazelcastCacheEndpoint hazelcastCacheEndpoint(final ObjectProvider<HazelcastInstance> hazelcastInstance,
+														 final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+														 final CacheDiagnostics diagnostics, final HazelcastProperties hazelcastProperties)
+	{
+		return new HazelcastCacheEndpoint(() -> HazelcastInstanceStarter.getInstance(instanceStarter, hazelcastInstance), diagnostics,
+										  hazelcastProperties.getDiagnostics().getTopPartitions());
+	}
+}
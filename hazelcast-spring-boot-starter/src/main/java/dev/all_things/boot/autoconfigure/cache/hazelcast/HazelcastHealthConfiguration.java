@@ -0,0 +1,34 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the 'hazelcastStartup' health indicator when actuator is available and the instance is started in background.
+ * <p>
+ * Imported after {@link HazelcastConfiguration}, hence its {@link HazelcastInstanceStarter} bean, if any, is registered already.
+ */
+@ConditionalOnClass(HealthIndicator.class)
+@ConditionalOnExpression("${application.cache.hazelcast.startup.background:false} && '${application.cache.hazelcast.mode:server}' != 'local'")
+@Configuration(value = "defaultHazelcastHealthConfiguration", proxyBeanMethods = false)
+public class HazelcastHealthConfiguration
+{
+	/**
+	 * Reports failure of the {@link HazelcastInstanceStarter}, caches then remaining served by their fallback.
+	 *
+	 * @param instanceStarter starter of the {@link com.hazelcast.core.HazelcastInstance}.
+	 * @return {@link HazelcastStartupHealthIndicator} instance.
+	 */
+	@Bean
+	@ConditionalOnBean(HazelcastInstanceStarter.class)
+	@ConditionalOnMissingBean(name = "hazelcastStartupHealthIndicator")
+	public HazelcastStartupHealthIndicator hazelcastStartupHealthIndicator(final HazelcastInstanceStarter instanceStarter)
+	{
+		return new HazelcastStartupHealthIndicator(instanceStarter);
+	}
+}
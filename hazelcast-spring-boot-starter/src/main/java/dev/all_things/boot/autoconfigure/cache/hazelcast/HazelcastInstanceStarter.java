@@ -0,0 +1,97 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Creates a {@link HazelcastInstance} on a background thread, hence joining / connecting to the cluster
+ * does not delay startup of the application.
+ * <p>
+ * The instance is shut down along with the starter, including an instance still being created at that time.
+ */
+public class HazelcastInstanceStarter
+{
+	private static final Logger logger = LoggerFactory.getLogger(HazelcastInstanceStarter.class);
+
+	private final CompletableFuture<HazelcastInstance> instance;
+
+	private volatile Throwable failure;
+
+	/**
+	 * Starts creating the instance.
+	 *
+	 * @param instanceFactory creates the {@link HazelcastInstance}; invoked on a background thread.
+	 */
+	public HazelcastInstanceStarter(final Supplier<HazelcastInstance> instanceFactory)
+	{
+		this.instance = CompletableFuture.supplyAsync(instanceFactory, task ->
+		{
+			final Thread thread = new Thread(task, "hazelcast-instance-starter");
+
+			thread.setDaemon(true);
+			thread.start();
+		});
+
+		this.instance.whenComplete((hazelcastInstance, failure) ->
+		{
+			if (failure != null)
+			{
+				this.failure = failure;
+
+				logger.error("Hazelcast instance could not be created", failure);
+			}
+		});
+	}
+
+	/**
+	 * @return future completed with the {@link HazelcastInstance} once it is ready.
+	 */
+	public CompletableFuture<HazelcastInstance> getInstance()
+	{
+		return this.instance.copy();
+	}
+
+	/**
+	 * @return whether the {@link HazelcastInstance} is ready.
+	 */
+	public boolean isReady()
+	{
+		return this.instance.isDone() && !this.instance.isCompletedExceptionally();
+	}
+
+	/**
+	 * @return failure of creating the {@link HazelcastInstance}, or {@code null} if it is ready or still being created.
+	 */
+	public Throwable getFailure()
+	{
+		return this.failure;
+	}
+
+	/**
+	 * Shuts down the instance now if it is ready, or as soon as it is created otherwise.
+	 */
+	public void shutdown()
+	{
+		this.instance.thenAccept(HazelcastInstance::shutdown);
+	}
+
+	/**
+	 * Resolves the {@link HazelcastInstance} without waiting for an instance started in background.
+	 *
+	 * @param instanceStarter   provider of the {@link HazelcastInstanceStarter}, if the instance is started in background.
+	 * @param hazelcastInstance provider of the {@link HazelcastInstance} otherwise.
+	 * @return future completed with the {@link HazelcastInstance} (or {@code null} if there is none) once it is ready.
+	 */
+	public static CompletableFuture<HazelcastInstance> getInstance(final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+																   final ObjectProvider<HazelcastInstance> hazelcastInstance)
+	{
+		final HazelcastInstanceStarter starter = instanceStarter.getIfAvailable();
+
+		return starter != null ? starter.getInstance() : CompletableFuture.completedFuture(hazelcastInstance.getIfAvailable());
+	}
+}
@@ -1,6 +1,9 @@
 package dev.all_things.boot.autoconfigure.cache.hazelcast;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
 import com.hazelcast.config.*;
 import com.hazelcast.core.HazelcastInstance;
@@ -42,12 +45,31 @@ public interface HazelcastMapConfigurer
 	 * @param maxCacheSize  maximum size of {@link IMap} being configured.
 	 */
 	public static void createMapConfig(final Config config, final String cacheName, final Duration cacheDuration, final MaxSizePolicy maxSizePolicy, final int maxCacheSize)
+	{
+		createMapConfig(config, cacheName, cacheDuration, maxSizePolicy, maxCacheSize, EvictionPolicy.LRU);
+	}
+
+	/**
+	 * Creates and configures a {@link MapConfig} instance with provided configuration values.
+	 *
+	 * @param config         configuration for {@link HazelcastInstance}.
+	 * @param cacheName      the name of the cache being configured.
+	 * @param cacheDuration  maximum duration for which values will be cached.
+	 * @param maxSizePolicy  interpretation of the {maxCacheSize} value e.g. memory size, entry count, etc.
+	 * @param maxCacheSize   maximum size of {@link IMap} being configured.
+	 * @param evictionPolicy policy used to evict entries once {maxCacheSize} is reached e.g. {@link EvictionPolicy#LFU} for scan-heavy workloads.
+	 */
+	public static void createMapConfig(final Config config, final String cacheName, final Duration cacheDuration, final MaxSizePolicy maxSizePolicy, final int maxCacheSize,
+									   final EvictionPolicy evictionPolicy)
 	{
 		final MapConfig mapConfig = new MapConfig(cacheName);
 
 		// Configuring cache retention duration
 		mapConfig.setTimeToLiveSeconds((int) cacheDuration.toSeconds());
 
+		// Collecting map statistics for metrics
+		mapConfig.setStatisticsEnabled(true);
+
 		// Configuring cache eviction policy
 		mapConfig.getEvictionConfig()
 
@@ -57,10 +79,166 @@ public interface HazelcastMapConfigurer
 				 // Configuration cache max size to avoid {OutOfMemoryError} by limited map size
 				 .setSize(maxCacheSize)
 
-				 // Least recently used entries will be evicted first from the cache
-				 .setEvictionPolicy(EvictionPolicy.LRU);
+				 // Entries to be evicted first from the cache e.g. least recently used ones
+				 .setEvictionPolicy(evictionPolicy);
+
+		// Adding created {MapConfig} to {HazelcastInstance} configuration.
+		config.addMapConfig(mapConfig);
+	}
+
+	/**
+	 * Creates and configures a {@link MapConfig} instance with provided cache properties.
+	 *
+	 * @param config    configuration for {@link HazelcastInstance}.
+	 * @param cacheName the name of the cache being configured.
+	 * @param cache     user configured properties of the cache.
+	 * @return {@link MapConfig} added to {config}.
+	 */
+	public static MapConfig createMapConfig(final Config config, final String cacheName, final HazelcastProperties.Cache cache)
+	{
+		final MapConfig mapConfig = new MapConfig(cacheName);
+
+		mapConfig.setInMemoryFormat(cache.getInMemoryFormat()) // Configuring storage format of entries
+				 .setBackupCount(cache.getBackupCount()) // Configuring synchronous backups
+				 .setAsyncBackupCount(cache.getAsyncBackupCount()) // Configuring asynchronous backups
+				 .setReadBackupData(cache.getReadBackupData()) // Configuring reads from local backups
+				 .setTimeToLiveSeconds((int) cache.getTimeToLive().toSeconds()) // Configuring cache retention duration
+				 .setMaxIdleSeconds((int) cache.getMaxIdle().toSeconds()) // Configuring cache idle duration
+				 .setStatisticsEnabled(cache.getStatisticsEnabled());
+
+		// Configuring cache eviction policy
+		mapConfig.getEvictionConfig()
+				 .setMaxSizePolicy(cache.getMaxSizePolicy())
+				 .setSize(cache.getMaxSize())
+				 .setEvictionPolicy(cache.getEvictionPolicy());
+
+		if (cache.getEvictionComparator() != null)
+		{
+			// Ranking entries with the comparator; Hazelcast rejects a comparator along with a non-default policy
+			mapConfig.getEvictionConfig()
+					 .setComparatorClassName(cache.getEvictionComparator())
+					 .setEvictionPolicy(MapConfig.DEFAULT_EVICTION_POLICY);
+		}
+
+		// Configuring persistence through a 'MapStore' bean; resolved by {BeanMapStoreFactory}
+		final HazelcastProperties.Cache.MapStore mapStore = cache.getMapStore();
+
+		if (mapStore.getEnabled())
+		{
+			if (cache.getCompression().getEnabled() || cache.getTagged())
+			{
+				// The store would receive compressed / serialized values or values wrapped with their tags
+				throw new IllegalStateException("Cache '" + cacheName + "' cannot enable 'map-store' along with 'compression' or 'tagged'");
+			}
+
+			if (mapStore.getBeanName() == null || mapStore.getBeanName().isBlank())
+			{
+				throw new IllegalStateException("Cache '" + cacheName + "' must set 'map-store.bean-name' when enabling 'map-store'");
+			}
+
+			mapConfig.getMapStoreConfig()
+					 .setEnabled(true)
+					 .setWriteDelaySeconds((int) mapStore.getWriteDelay().toSeconds()) // Enabling write-behind when greater than 0
+					 .setWriteBatchSize(mapStore.getWriteBatchSize())
+					 .setWriteCoalescing(mapStore.getWriteCoalescing())
+					 .setInitialLoadMode(mapStore.getInitialLoadMode())
+					 .setProperty(BeanMapStoreFactory.BEAN_NAME_PROPERTY, mapStore.getBeanName());
+		}
+
+		// Configuring indexes used by predicate queries
+		cache.getIndexes().forEach(index -> mapConfig.addIndexConfig(createIndexConfig(index)));
+
+		if (cache.getTagged())
+		{
+			// Indexing tags of values for evicting entries by tag without scanning all entries
+			mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, TaggedValue.TAGS_ATTRIBUTE));
+		}
 
 		// Adding created {MapConfig} to {HazelcastInstance} configuration.
 		config.addMapConfig(mapConfig);
+
+		return mapConfig;
+	}
+
+	/**
+	 * Divides the heap used by caches with a 'heap-share' between them, in proportion of their shares.
+	 *
+	 * @param caches     user configured cache properties keyed by cache name.
+	 * @param heapSizing heap-based sizing properties.
+	 * @return size of each cache with a 'heap-share' as per {@link HazelcastProperties.HeapSizing#getPolicy()}, keyed by cache name.
+	 */
+	public static Map<String, Integer> createHeapSizes(final Map<String, HazelcastProperties.Cache> caches, final HazelcastProperties.HeapSizing heapSizing)
+	{
+		final double totalShare = caches.values().stream().map(HazelcastProperties.Cache::getHeapShare).filter(Objects::nonNull)
+										.mapToDouble(Double::doubleValue).sum();
+		final Map<String, Integer> heapSizes = new LinkedHashMap<>();
+
+		caches.forEach((cacheName, cache) ->
+		{
+			if (cache.getHeapShare() != null)
+			{
+				// Caches share the used heap, while the free heap of a member is shared by all of them
+				heapSizes.put(cacheName, heapSizing.getPolicy() == MaxSizePolicy.FREE_HEAP_PERCENTAGE
+										 ? Math.max(1, 100 - heapSizing.getPercentage())
+										 : Math.max(1, (int) (heapSizing.getPercentage() * cache.getHeapShare() / totalShare)));
+			}
+		});
+
+		return heapSizes;
+	}
+
+	/**
+	 * Adds an index to the {@link MapConfig} of provided cache, creating it from the default configuration if required.
+	 *
+	 * @param config     configuration for {@link HazelcastInstance}.
+	 * @param cacheName  the name of the cache being configured.
+	 * @param type       type of the index e.g. {@link IndexType#HASH} for equality, {@link IndexType#SORTED} for range queries.
+	 * @param attributes indexed attributes; multiple attributes create a composite index.
+	 */
+	public static void addIndex(final Config config, final String cacheName, final IndexType type, final String... attributes)
+	{
+		config.getMapConfig(cacheName).addIndexConfig(new IndexConfig(type, attributes));
+	}
+
+	/**
+	 * Adds a {@link IndexType#BITMAP} index to the {@link MapConfig} of provided cache, creating it from the default configuration if required.
+	 *
+	 * @param config                  configuration for {@link HazelcastInstance}.
+	 * @param cacheName               the name of the cache being configured.
+	 * @param attribute               indexed attribute.
+	 * @param uniqueKey               attribute uniquely identifying entries e.g. '__key'.
+	 * @param uniqueKeyTransformation transformation of {uniqueKey} values e.g. {@link BitmapIndexOptions.UniqueKeyTransformation#LONG} for numeric keys.
+	 */
+	public static void addBitmapIndex(final Config config, final String cacheName, final String attribute, final String uniqueKey,
+									  final BitmapIndexOptions.UniqueKeyTransformation uniqueKeyTransformation)
+	{
+		final IndexConfig indexConfig = new IndexConfig(IndexType.BITMAP, attribute);
+
+		indexConfig.getBitmapIndexOptions()
+				   .setUniqueKey(uniqueKey)
+				   .setUniqueKeyTransformation(uniqueKeyTransformation);
+
+		config.getMapConfig(cacheName).addIndexConfig(indexConfig);
+	}
+
+	/**
+	 * Creates an {@link IndexConfig} from provided index properties.
+	 *
+	 * @param index user configured index properties.
+	 * @return configured {@link IndexConfig} instance.
+	 */
+	public static IndexConfig createIndexConfig(final HazelcastProperties.Cache.Index index)
+	{
+		final IndexConfig indexConfig = new IndexConfig(index.getType()).setName(index.getName())
+																		.setAttributes(index.getAttributes());
+
+		if (index.getType() == IndexType.BITMAP)
+		{
+			indexConfig.getBitmapIndexOptions()
+					   .setUniqueKey(index.getUniqueKey())
+					   .setUniqueKeyTransformation(index.getUniqueKeyTransformation());
+		}
+
+		return indexConfig;
 	}
 }
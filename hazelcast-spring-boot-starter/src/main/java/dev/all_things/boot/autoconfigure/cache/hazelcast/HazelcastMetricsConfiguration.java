@@ -0,0 +1,37 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import com.hazelcast.core.HazelcastInstance;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures Micrometer metrics of Hazelcast caches when Micrometer is available.
+ */
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "application.cache.hazelcast.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Configuration(value = "defaultHazelcastMetricsConfiguration", proxyBeanMethods = false)
+public class HazelcastMetricsConfiguration
+{
+	/**
+	 * Provides metrics of map statistics and cache operations.
+	 *
+	 * @param hazelcastInstance   provider of the {@link HazelcastInstance} backing the caches.
+	 * @param instanceStarter     provider of the {@link HazelcastInstanceStarter}, if the instance is started in background.
+	 * @param hazelcastProperties for configuring metrics.
+	 * @return {@link HazelcastCacheMeterBinder} instance.
+	 */
+	@Bean
+	@ConditionalOnMissingBean(HazelcastCacheMeterBinder.class)
+	public HazelcastCacheMeterBinder hazelcastCacheMeterBinder(final ObjectProvider<HazelcastInstance> hazelcastInstance,
+															   final ObjectProvider<HazelcastInstanceStarter> instanceStarter,
+															   final HazelcastProperties hazelcastProperties)
+	{
+		return new HazelcastCacheMeterBinder(() -> HazelcastInstanceStarter.getInstance(instanceStarter, hazelcastInstance),
+											 "server".equals(hazelcastProperties.getMode()), hazelcastProperties.getMetrics().getPercentileHistogram());
+	}
+}
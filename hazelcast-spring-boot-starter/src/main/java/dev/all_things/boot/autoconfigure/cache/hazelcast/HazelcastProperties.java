@@ -2,9 +2,12 @@ package dev.all_things.boot.autoconfigure.cache.hazelcast;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.zip.Deflater;
 
 import com.hazelcast.client.impl.connection.tcp.RoutingMode;
+import com.hazelcast.config.*;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Configuration properties for Hazelcast.
@@ -13,7 +16,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class HazelcastProperties
 {
 	/**
-	 * Whether to configure Hazelcast instance in 'client' or 'server' mode.
+	 * Whether to configure Hazelcast instance in 'client' or 'server' mode, or to serve caches from in-process stores
+	 * without any Hazelcast instance in 'local' mode.
 	 * <p>
 	 * By default, Hazelcast is configured in 'server' mode.
 	 */
@@ -39,6 +43,51 @@ public class HazelcastProperties
 	 */
 	private final Server server = new Server();
 
+	/**
+	 * Hazelcast map configuration properties keyed by cache name.
+	 */
+	private final Map<String, Cache> caches = new LinkedHashMap<>();
+
+	/**
+	 * Hazelcast serialization configuration properties.
+	 */
+	private final Serialization serialization = new Serialization();
+
+	/**
+	 * Asynchronous cache operation configuration properties.
+	 */
+	private final Async async = new Async();
+
+	/**
+	 * Micrometer metrics configuration properties.
+	 */
+	private final Metrics metrics = new Metrics();
+
+	/**
+	 * Startup configuration properties.
+	 */
+	private final Startup startup = new Startup();
+
+	/**
+	 * Cache key generation configuration properties.
+	 */
+	private final KeyGenerator keyGenerator = new KeyGenerator();
+
+	/**
+	 * Refresh-ahead configuration properties shared by all caches.
+	 */
+	private final Refresh refresh = new Refresh();
+
+	/**
+	 * Heap-based sizing properties shared by caches with a 'heap-share'.
+	 */
+	private final HeapSizing heapSizing = new HeapSizing();
+
+	/**
+	 * Diagnostics configuration properties, reported by the 'hazelcastcache' actuator endpoint.
+	 */
+	private final Diagnostics diagnostics = new Diagnostics();
+
 	public String getMode()
 	{
 		return this.mode;
@@ -79,130 +128,2191 @@ public class HazelcastProperties
 		return this.server;
 	}
 
-	/**
-	 * Configuration properties for configuring Hazelcast client instance.
-	 */
-	public static class Client
-	{
-		/**
-		 * Comma-separated list of server addresses to which the Hazelcast client will connect
-		 * e.g. 10.10.20.20:5701,10.10.20.30:5701
-		 */
-		private final List<String> serverAddresses = new ArrayList<>();
+	public Map<String, Cache> getCaches()
+	{
+		return this.caches;
+	}
+
+	public Serialization getSerialization()
+	{
+		return this.serialization;
+	}
+
+	public Async getAsync()
+	{
+		return this.async;
+	}
+
+	public Metrics getMetrics()
+	{
+		return this.metrics;
+	}
+
+	public Startup getStartup()
+	{
+		return this.startup;
+	}
+
+	public KeyGenerator getKeyGenerator()
+	{
+		return this.keyGenerator;
+	}
+
+	public Refresh getRefresh()
+	{
+		return this.refresh;
+	}
+
+	public HeapSizing getHeapSizing()
+	{
+		return this.heapSizing;
+	}
+
+	public Diagnostics getDiagnostics()
+	{
+		return this.diagnostics;
+	}
+
+	/**
+	 * Configuration properties for generating keys of cached methods.
+	 */
+	public static class KeyGenerator
+	{
+		/**
+		 * Whether to generate keys of all cached methods with {@link PartitionAwareKeyGenerator} instead of
+		 * Spring's 'SimpleKeyGenerator'. Default value is false.
+		 */
+		private Boolean partitionAware = false;
+
+		public Boolean getPartitionAware()
+		{
+			return this.partitionAware;
+		}
+
+		public void setPartitionAware(final Boolean partitionAware)
+		{
+			this.partitionAware = partitionAware;
+		}
+	}
+
+	/**
+	 * Configuration properties for refreshing entries of caches with enabled 'refresh-ahead' properties.
+	 */
+	public static class Refresh
+	{
+		/**
+		 * Number of threads reloading entries in background. Default value is 2.
+		 */
+		private Integer threads = 2;
+
+		/**
+		 * Maximum number of pending reloads; further reloads are skipped until the queue drains. Default value is 1000.
+		 */
+		private Integer queueCapacity = 1_000;
+
+		/**
+		 * Maximum duration for which a member holds the cluster-wide lease of a reloaded key,
+		 * released earlier once the reload completes. Default value is 30 seconds.
+		 */
+		private Duration leaseTime = Duration.ofSeconds(30);
+
+		public Integer getThreads()
+		{
+			return this.threads;
+		}
+
+		public void setThreads(final Integer threads)
+		{
+			this.threads = threads;
+		}
+
+		public Integer getQueueCapacity()
+		{
+			return this.queueCapacity;
+		}
+
+		public void setQueueCapacity(final Integer queueCapacity)
+		{
+			this.queueCapacity = queueCapacity;
+		}
+
+		public Duration getLeaseTime()
+		{
+			return this.leaseTime;
+		}
+
+		public void setLeaseTime(final Duration leaseTime)
+		{
+			this.leaseTime = leaseTime;
+		}
+	}
+
+	/**
+	 * Configuration properties for sizing caches with a 'heap-share' from the maximum heap of members.
+	 */
+	public static class HeapSizing
+	{
+		/**
+		 * Percentage of the maximum heap of a member used by all caches with a 'heap-share', divided between them
+		 * in proportion of their shares. Default value is 50.
+		 */
+		private Integer percentage = 50;
+
+		/**
+		 * Heap-based policy of the caches; 'USED_HEAP_PERCENTAGE' limits the heap used by each cache to its part of 'percentage',
+		 * while 'FREE_HEAP_PERCENTAGE' evicts from each cache once less than (100 - 'percentage')% of the heap is free.
+		 * Default value is 'USED_HEAP_PERCENTAGE'.
+		 */
+		private MaxSizePolicy policy = MaxSizePolicy.USED_HEAP_PERCENTAGE;
+
+		public Integer getPercentage()
+		{
+			return this.percentage;
+		}
+
+		public void setPercentage(final Integer percentage)
+		{
+			this.percentage = percentage;
+		}
+
+		public MaxSizePolicy getPolicy()
+		{
+			return this.policy;
+		}
+
+		public void setPolicy(final MaxSizePolicy policy)
+		{
+			this.policy = policy;
+		}
+	}
+
+	/**
+	 * Configuration properties for startup of the Hazelcast instance.
+	 */
+	public static class Startup
+	{
+		/**
+		 * Whether to create the Hazelcast instance on a background thread, serving caches from
+		 * {@link #fallback} until the instance is ready. Default value is false.
+		 */
+		private Boolean background = false;
+
+		/**
+		 * Fallback serving caches until the Hazelcast instance is ready.
+		 */
+		private final Fallback fallback = new Fallback();
+
+		public Boolean getBackground()
+		{
+			return this.background;
+		}
+
+		public void setBackground(final Boolean background)
+		{
+			this.background = background;
+		}
+
+		public Fallback getFallback()
+		{
+			return this.fallback;
+		}
+
+		/**
+		 * Configuration properties for caches served before the Hazelcast instance is ready.
+		 */
+		public static class Fallback
+		{
+			/**
+			 * Whether to cache in-process ('local') or not to cache at all ('pass-through'). Default value is 'local'.
+			 */
+			private Type type = Type.LOCAL;
+
+			/**
+			 * Maximum number of entries kept in-process per cache. Default value is 10000.
+			 */
+			private Integer maxSize = 10_000;
+
+			/**
+			 * Maximum duration for which an entry stays in-process. Default value is 1 minute.
+			 */
+			private Duration timeToLive = Duration.ofMinutes(1);
+
+			public Type getType()
+			{
+				return this.type;
+			}
+
+			public void setType(final Type type)
+			{
+				this.type = type;
+			}
+
+			public Integer getMaxSize()
+			{
+				return this.maxSize;
+			}
+
+			public void setMaxSize(final Integer maxSize)
+			{
+				this.maxSize = maxSize;
+			}
+
+			public Duration getTimeToLive()
+			{
+				return this.timeToLive;
+			}
+
+			public void setTimeToLive(final Duration timeToLive)
+			{
+				this.timeToLive = timeToLive;
+			}
+
+			public enum Type
+			{
+				LOCAL,
+				PASS_THROUGH
+			}
+		}
+	}
+
+	/**
+	 * Configuration properties for Micrometer metrics of caches.
+	 */
+	public static class Metrics
+	{
+		/**
+		 * Whether to bind map statistics and cache operation timers when Micrometer is available.
+		 * Default value is true.
+		 */
+		private Boolean enabled = true;
+
+		/**
+		 * Whether cache operation timers publish percentile histograms. Default value is true.
+		 */
+		private Boolean percentileHistogram = true;
+
+		public Boolean getEnabled()
+		{
+			return this.enabled;
+		}
+
+		public void setEnabled(final Boolean enabled)
+		{
+			this.enabled = enabled;
+		}
+
+		public Boolean getPercentileHistogram()
+		{
+			return this.percentileHistogram;
+		}
+
+		public void setPercentileHistogram(final Boolean percentileHistogram)
+		{
+			this.percentileHistogram = percentileHistogram;
+		}
+	}
+
+	/**
+	 * Configuration properties for diagnosing latency of caches.
+	 */
+	public static class Diagnostics
+	{
+		/**
+		 * Whether to sample cache operations and expose the 'hazelcastcache' endpoint when actuator is available.
+		 * Default value is true.
+		 */
+		private Boolean enabled = true;
+
+		/**
+		 * Fraction of key-based cache operations whose key and latency are sampled, between 0 and 1. Default value is 0.01.
+		 */
+		private Double sampleRate = 0.01;
+
+		/**
+		 * Number of hot keys reported per cache. Default value is 10.
+		 */
+		private Integer topKeys = 10;
+
+		/**
+		 * Number of busiest partitions reported. Default value is 20.
+		 */
+		private Integer topPartitions = 20;
+
+		/**
+		 * Execution time after which an operation of a member is reported as slow. Default value is 1s.
+		 */
+		private Duration slowOperationThreshold = Duration.ofSeconds(1);
+
+		/**
+		 * Whether to log stack traces of slow operations of a member. Default value is false.
+		 */
+		private Boolean slowOperationStackTraceLogging = false;
+
+		/**
+		 * Whether to run the diagnostics plugins of a member (operation profiler, slow operations, invocation
+		 * and operation thread samplers). Default value is false.
+		 */
+		private Boolean pluginsEnabled = false;
+
+		/**
+		 * Interval at which diagnostics plugins report. Default value is 1m.
+		 */
+		private Duration pluginsPeriod = Duration.ofMinutes(1);
+
+		/**
+		 * Output of diagnostics plugins; 'LOGGER', 'FILE' or 'STDOUT'. Default value is 'LOGGER'.
+		 */
+		private String pluginsOutputType = "LOGGER";
+
+		public Boolean getEnabled()
+		{
+			return this.enabled;
+		}
+
+		public void setEnabled(final Boolean enabled)
+		{
+			this.enabled = enabled;
+		}
+
+		public Double getSampleRate()
+		{
+			return this.sampleRate;
+		}
+
+		public void setSampleRate(final Double sampleRate)
+		{
+			this.sampleRate = sampleRate;
+		}
+
+		public Integer getTopKeys()
+		{
+			return this.topKeys;
+		}
+
+		public void setTopKeys(final Integer topKeys)
+		{
+			this.topKeys = topKeys;
+		}
+
+		public Integer getTopPartitions()
+		{
+			return this.topPartitions;
+		}
+
+		public void setTopPartitions(final Integer topPartitions)
+		{
+			this.topPartitions = topPartitions;
+		}
+
+		public Duration getSlowOperationThreshold()
+		{
+			return this.slowOperationThreshold;
+		}
+
+		public void setSlowOperationThreshold(final Duration slowOperationThreshold)
+		{
+			this.slowOperationThreshold = slowOperationThreshold;
+		}
+
+		public Boolean getSlowOperationStackTraceLogging()
+		{
+			return this.slowOperationStackTraceLogging;
+		}
+
+		public void setSlowOperationStackTraceLogging(final Boolean slowOperationStackTraceLogging)
+		{
+			this.slowOperationStackTraceLogging = slowOperationStackTraceLogging;
+		}
+
+		public Boolean getPluginsEnabled()
+		{
+			return this.pluginsEnabled;
+		}
+
+		public void setPluginsEnabled(final Boolean pluginsEnabled)
+		{
+			this.pluginsEnabled = pluginsEnabled;
+		}
+
+		public Duration getPluginsPeriod()
+		{
+			return this.pluginsPeriod;
+		}
+
+		public void setPluginsPeriod(final Duration pluginsPeriod)
+		{
+			this.pluginsPeriod = pluginsPeriod;
+		}
+
+		public String getPluginsOutputType()
+		{
+			return this.pluginsOutputType;
+		}
+
+		public void setPluginsOutputType(final String pluginsOutputType)
+		{
+			this.pluginsOutputType = pluginsOutputType;
+		}
+	}
+
+	/**
+	 * Configuration properties for asynchronous cache operations.
+	 */
+	public static class Async
+	{
+		/**
+		 * Whether cache 'put' and 'evict' return without waiting for the Hazelcast operation to complete.
+		 * Default value is false.
+		 */
+		private Boolean nonBlockingWrites = false;
+
+		public Boolean getNonBlockingWrites()
+		{
+			return this.nonBlockingWrites;
+		}
+
+		public void setNonBlockingWrites(final Boolean nonBlockingWrites)
+		{
+			this.nonBlockingWrites = nonBlockingWrites;
+		}
+	}
+
+	/**
+	 * Configuration properties for serialization of cached keys and values.
+	 * <p>
+	 * Applied to both server and client instances.
+	 */
+	public static class Serialization
+	{
+		/**
+		 * Comma-separated list of packages scanned for types annotated with {@link CompactSerializable}.
+		 */
+		private List<String> compactPackages = new ArrayList<>();
+
+		/**
+		 * Comma-separated list of types to be serialized with (zero-config) Compact serialization.
+		 */
+		private List<Class<?>> compactClasses = new ArrayList<>();
+
+		/**
+		 * Whether to serialize Spring's 'SimpleKey' (default cache key of multi-argument methods)
+		 * with a dedicated serializer instead of Java serialization. Default value is false.
+		 */
+		private Boolean simpleKeySerializerEnabled = false;
+
+		/**
+		 * Whether to fail startup if a key or value type of a '@Cacheable' / '@CachePut' method
+		 * would be serialized with Java serialization. Default value is false.
+		 */
+		private Boolean failOnJavaSerialization = false;
+
+		public List<String> getCompactPackages()
+		{
+			return this.compactPackages;
+		}
+
+		public void setCompactPackages(final List<String> compactPackages)
+		{
+			this.compactPackages = compactPackages;
+		}
+
+		public List<Class<?>> getCompactClasses()
+		{
+			return this.compactClasses;
+		}
+
+		public void setCompactClasses(final List<Class<?>> compactClasses)
+		{
+			this.compactClasses = compactClasses;
+		}
+
+		public Boolean getSimpleKeySerializerEnabled()
+		{
+			return this.simpleKeySerializerEnabled;
+		}
+
+		public void setSimpleKeySerializerEnabled(final Boolean simpleKeySerializerEnabled)
+		{
+			this.simpleKeySerializerEnabled = simpleKeySerializerEnabled;
+		}
+
+		public Boolean getFailOnJavaSerialization()
+		{
+			return this.failOnJavaSerialization;
+		}
+
+		public void setFailOnJavaSerialization(final Boolean failOnJavaSerialization)
+		{
+			this.failOnJavaSerialization = failOnJavaSerialization;
+		}
+	}
+
+	/**
+	 * Configuration properties for configuring Hazelcast map backing a cache.
+	 * <p>
+	 * Applied to {@link MapConfig} of server instances before {@link HazelcastMapConfigurer} is invoked.
+	 */
+	public static class Cache
+	{
+		/**
+		 * Format in which entries are stored; 'OBJECT' avoids deserialization on local reads and entry processing.
+		 * Default value is 'BINARY'.
+		 */
+		private InMemoryFormat inMemoryFormat = MapConfig.DEFAULT_IN_MEMORY_FORMAT;
+
+		/**
+		 * Number of synchronous backups. Default value is 1.
+		 */
+		private Integer backupCount = MapConfig.DEFAULT_BACKUP_COUNT;
+
+		/**
+		 * Number of asynchronous backups. Default value is 0.
+		 */
+		private Integer asyncBackupCount = 0;
+
+		/**
+		 * Whether to serve reads from local backups. Default value is false.
+		 */
+		private Boolean readBackupData = false;
+
+		/**
+		 * Policy used to evict entries once 'maxSize' is reached. Default value is 'LRU'.
+		 */
+		private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+		/**
+		 * Class name of a 'MapEvictionPolicyComparator' ranking entries for eviction, replacing 'evictionPolicy'
+		 * e.g. {@link FrequencyCostEvictionPolicyComparator}. Default is none.
+		 */
+		private String evictionComparator;
+
+		/**
+		 * Interpretation of the 'maxSize' value e.g. memory size, entry count, etc. Default value is 'PER_NODE'.
+		 */
+		private MaxSizePolicy maxSizePolicy = MaxSizePolicy.PER_NODE;
+
+		/**
+		 * Maximum size of the map as per 'maxSizePolicy'. Default value is unbounded.
+		 */
+		private Integer maxSize = MapConfig.DEFAULT_MAX_SIZE;
+
+		/**
+		 * Relative share of the cache in the heap used by caches, as per 'heap-sizing' properties, replacing
+		 * 'maxSizePolicy' and 'maxSize'. Default is none, sizing the cache with 'maxSize'.
+		 */
+		private Double heapShare;
+
+		/**
+		 * Maximum duration for which values will be cached. Default value is 0 i.e. infinite.
+		 */
+		private Duration timeToLive = Duration.ZERO;
+
+		/**
+		 * Fraction of 'timeToLive' by which the time-to-live of each written entry is randomly shortened,
+		 * hence entries written together do not expire together. Default value is 0 i.e. no jitter.
+		 */
+		private Double timeToLiveJitter = 0.0;
+
+		/**
+		 * Maximum duration for which values will be cached without being accessed.
+		 * Default value is 0 i.e. infinite.
+		 */
+		private Duration maxIdle = Duration.ZERO;
+
+		/**
+		 * Whether to collect map statistics. Default value is true.
+		 */
+		private Boolean statisticsEnabled = true;
+
+		/**
+		 * Whether to store values along with the tags set by '@CacheTags' / 'CacheTagManager', indexed for evicting
+		 * entries by tag. Attributes of cached values are then queried as 'value.<attribute>'. Default value is false.
+		 */
+		private Boolean tagged = false;
+
+		/**
+		 * In-process (L1) cache configuration properties applied in front of the Hazelcast map.
+		 */
+		private final LocalCache localCache = new LocalCache();
+
+		/**
+		 * 'MapStore' / 'MapLoader' configuration properties of the Hazelcast map. Applicable to server instances.
+		 */
+		private final MapStore mapStore = new MapStore();
+
+		/**
+		 * Indexes of the Hazelcast map, used by predicate queries instead of scanning all entries.
+		 */
+		private final List<Index> indexes = new ArrayList<>();
+
+		/**
+		 * Refresh-ahead configuration properties, reloading entries in background before they expire.
+		 */
+		private final RefreshAhead refreshAhead = new RefreshAhead();
+
+		/**
+		 * Stampede protection configuration properties, collapsing concurrent loads of a missing key.
+		 */
+		private final StampedeProtection stampedeProtection = new StampedeProtection();
+
+		/**
+		 * Compression configuration properties of large values.
+		 */
+		private final Compression compression = new Compression();
+
+		public InMemoryFormat getInMemoryFormat()
+		{
+			return this.inMemoryFormat;
+		}
+
+		public void setInMemoryFormat(final InMemoryFormat inMemoryFormat)
+		{
+			this.inMemoryFormat = inMemoryFormat;
+		}
+
+		public Integer getBackupCount()
+		{
+			return this.backupCount;
+		}
+
+		public void setBackupCount(final Integer backupCount)
+		{
+			this.backupCount = backupCount;
+		}
+
+		public Integer getAsyncBackupCount()
+		{
+			return this.asyncBackupCount;
+		}
+
+		public void setAsyncBackupCount(final Integer asyncBackupCount)
+		{
+			this.asyncBackupCount = asyncBackupCount;
+		}
+
+		public Boolean getReadBackupData()
+		{
+			return this.readBackupData;
+		}
+
+		public void setReadBackupData(final Boolean readBackupData)
+		{
+			this.readBackupData = readBackupData;
+		}
+
+		public EvictionPolicy getEvictionPolicy()
+		{
+			return this.evictionPolicy;
+		}
+
+		public void setEvictionPolicy(final EvictionPolicy evictionPolicy)
+		{
+			this.evictionPolicy = evictionPolicy;
+		}
+
+		public String getEvictionComparator()
+		{
+			return this.evictionComparator;
+		}
+
+		public void setEvictionComparator(final String evictionComparator)
+		{
+			this.evictionComparator = evictionComparator;
+		}
+
+		public MaxSizePolicy getMaxSizePolicy()
+		{
+			return this.maxSizePolicy;
+		}
+
+		public void setMaxSizePolicy(final MaxSizePolicy maxSizePolicy)
+		{
+			this.maxSizePolicy = maxSizePolicy;
+		}
+
+		public Integer getMaxSize()
+		{
+			return this.maxSize;
+		}
+
+		public void setMaxSize(final Integer maxSize)
+		{
+			this.maxSize = maxSize;
+		}
+
+		public Double getHeapShare()
+		{
+			return this.heapShare;
+		}
+
+		public void setHeapShare(final Double heapShare)
+		{
+			this.heapShare = heapShare;
+		}
+
+		public Duration getTimeToLive()
+		{
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(final Duration timeToLive)
+		{
+			this.timeToLive = timeToLive;
+		}
+
+		public Double getTimeToLiveJitter()
+		{
+			return this.timeToLiveJitter;
+		}
+
+		public void setTimeToLiveJitter(final Double timeToLiveJitter)
+		{
+			this.timeToLiveJitter = timeToLiveJitter;
+		}
+
+		public Duration getMaxIdle()
+		{
+			return this.maxIdle;
+		}
+
+		public void setMaxIdle(final Duration maxIdle)
+		{
+			this.maxIdle = maxIdle;
+		}
+
+		public Boolean getStatisticsEnabled()
+		{
+			return this.statisticsEnabled;
+		}
+
+		public void setStatisticsEnabled(final Boolean statisticsEnabled)
+		{
+			this.statisticsEnabled = statisticsEnabled;
+		}
+
+		public Boolean getTagged()
+		{
+			return this.tagged;
+		}
+
+		public void setTagged(final Boolean tagged)
+		{
+			this.tagged = tagged;
+		}
+
+		public LocalCache getLocalCache()
+		{
+			return this.localCache;
+		}
+
+		public MapStore getMapStore()
+		{
+			return this.mapStore;
+		}
+
+		public List<Index> getIndexes()
+		{
+			return this.indexes;
+		}
+
+		public RefreshAhead getRefreshAhead()
+		{
+			return this.refreshAhead;
+		}
+
+		public StampedeProtection getStampedeProtection()
+		{
+			return this.stampedeProtection;
+		}
+
+		public Compression getCompression()
+		{
+			return this.compression;
+		}
+
+		/**
+		 * Configuration properties for compressing large values, trading CPU of writers / readers for memory of members
+		 * and network traffic.
+		 * <p>
+		 * Applicable to both server and client instances; all instances writing a cache need the same configuration.
+		 */
+		public static class Compression
+		{
+			/**
+			 * Whether to store serialized values of at least 'threshold' compressed. Default value is false.
+			 */
+			private Boolean enabled = false;
+
+			/**
+			 * Minimum size of serialized values to be compressed. Default value is 16 KB.
+			 */
+			private DataSize threshold = DataSize.ofKilobytes(16);
+
+			/**
+			 * Compression level, from 1 (fastest) to 9 (smallest). Default value is 1.
+			 */
+			private Integer level = Deflater.BEST_SPEED;
+
+			public Boolean getEnabled()
+			{
+				return this.enabled;
+			}
+
+			public void setEnabled(final Boolean enabled)
+			{
+				this.enabled = enabled;
+			}
+
+			public DataSize getThreshold()
+			{
+				return this.threshold;
+			}
+
+			public void setThreshold(final DataSize threshold)
+			{
+				this.threshold = threshold;
+			}
+
+			public Integer getLevel()
+			{
+				return this.level;
+			}
+
+			public void setLevel(final Integer level)
+			{
+				this.level = level;
+			}
+		}
+
+		/**
+		 * Configuration properties for loading a missing key once per cluster instead of once per waiting thread.
+		 * <p>
+		 * Applicable to both server and client instances, for entries read with a value loader e.g. {@code @Cacheable(sync = true)}.
+		 */
+		public static class StampedeProtection
+		{
+			/**
+			 * Whether to collapse concurrent loads of a key into a single load per process, and a single load across
+			 * the cluster through a lease, instead of taking the map lock of the key. Default value is false.
+			 */
+			private Boolean enabled = false;
+
+			/**
+			 * Maximum duration for which a member / client holds the lease of a loaded key. Default value is 30 seconds.
+			 */
+			private Duration leaseTime = Duration.ofSeconds(30);
+
+			/**
+			 * Maximum duration for which a member / client waits for the value loaded by the lease holder,
+			 * before loading it itself. Default value is 5 seconds.
+			 */
+			private Duration waitTimeout = Duration.ofSeconds(5);
+
+			/**
+			 * Interval at which a waiting member / client checks for the loaded value. Default value is 20 milliseconds.
+			 */
+			private Duration pollInterval = Duration.ofMillis(20);
+
+			public Boolean getEnabled()
+			{
+				return this.enabled;
+			}
+
+			public void setEnabled(final Boolean enabled)
+			{
+				this.enabled = enabled;
+			}
+
+			public Duration getLeaseTime()
+			{
+				return this.leaseTime;
+			}
+
+			public void setLeaseTime(final Duration leaseTime)
+			{
+				this.leaseTime = leaseTime;
+			}
+
+			public Duration getWaitTimeout()
+			{
+				return this.waitTimeout;
+			}
+
+			public void setWaitTimeout(final Duration waitTimeout)
+			{
+				this.waitTimeout = waitTimeout;
+			}
+
+			public Duration getPollInterval()
+			{
+				return this.pollInterval;
+			}
+
+			public void setPollInterval(final Duration pollInterval)
+			{
+				this.pollInterval = pollInterval;
+			}
+		}
+
+		/**
+		 * Configuration properties for reloading entries in background once a fraction of their time-to-live has passed.
+		 * <p>
+		 * Applicable to both server and client instances, for entries read with a value loader e.g. {@code @Cacheable(sync = true)}.
+		 */
+		public static class RefreshAhead
+		{
+			/**
+			 * Whether to reload entries read after 'threshold' of their time-to-live, serving the current value meanwhile.
+			 * Default value is false.
+			 */
+			private Boolean enabled = false;
+
+			/**
+			 * Fraction of the time-to-live of an entry after which a read reloads it. Default value is 0.8.
+			 */
+			private Double threshold = 0.8;
+
+			public Boolean getEnabled()
+			{
+				return this.enabled;
+			}
+
+			public void setEnabled(final Boolean enabled)
+			{
+				this.enabled = enabled;
+			}
+
+			public Double getThreshold()
+			{
+				return this.threshold;
+			}
+
+			public void setThreshold(final Double threshold)
+			{
+				this.threshold = threshold;
+			}
+		}
+
+		/**
+		 * Configuration properties for in-process (L1) cache kept coherent with the Hazelcast map.
+		 * <p>
+		 * Applicable to both server and client instances.
+		 */
+		public static class LocalCache
+		{
+			/**
+			 * Whether to serve reads from an in-process cache in front of the Hazelcast map.
+			 * Default value is false.
+			 */
+			private Boolean enabled = false;
+
+			/**
+			 * Maximum number of entries kept in-process. Default value is 10000.
+			 */
+			private Integer maxSize = 10_000;
+
+			/**
+			 * Maximum duration for which an entry stays in-process. Default value is 1 minute.
+			 */
+			private Duration timeToLive = Duration.ofMinutes(1);
+
+			public Boolean getEnabled()
+			{
+				return this.enabled;
+			}
+
+			public void setEnabled(final Boolean enabled)
+			{
+				this.enabled = enabled;
+			}
+
+			public Integer getMaxSize()
+			{
+				return this.maxSize;
+			}
+
+			public void setMaxSize(final Integer maxSize)
+			{
+				this.maxSize = maxSize;
+			}
+
+			public Duration getTimeToLive()
+			{
+				return this.timeToLive;
+			}
+
+			public void setTimeToLive(final Duration timeToLive)
+			{
+				this.timeToLive = timeToLive;
+			}
+		}
+
+		/**
+		 * Configuration properties for an index of the Hazelcast map.
+		 */
+		public static class Index
+		{
+			/**
+			 * Name of the index. Default value is generated from the map name, type and attributes.
+			 */
+			private String name;
+
+			/**
+			 * Type of the index; 'HASH' for equality, 'SORTED' for range queries and 'BITMAP' for low-cardinality attributes.
+			 * Default value is 'SORTED'.
+			 */
+			private IndexType type = IndexConfig.DEFAULT_TYPE;
+
+			/**
+			 * Indexed attributes; multiple attributes create a composite index.
+			 */
+			private final List<String> attributes = new ArrayList<>();
+
+			/**
+			 * Attribute uniquely identifying entries of a 'BITMAP' index. Default value is '__key'.
+			 */
+			private String uniqueKey = BitmapIndexOptions.DEFAULT_UNIQUE_KEY;
+
+			/**
+			 * Transformation of 'unique-key' values of a 'BITMAP' index; 'LONG' and 'RAW' are more efficient for numeric keys.
+			 * Default value is 'OBJECT'.
+			 */
+			private BitmapIndexOptions.UniqueKeyTransformation uniqueKeyTransformation = BitmapIndexOptions.DEFAULT_UNIQUE_KEY_TRANSFORMATION;
+
+			public String getName()
+			{
+				return this.name;
+			}
+
+			public void setName(final String name)
+			{
+				this.name = name;
+			}
+
+			public IndexType getType()
+			{
+				return this.type;
+			}
+
+			public void setType(final IndexType type)
+			{
+				this.type = type;
+			}
+
+			public List<String> getAttributes()
+			{
+				return this.attributes;
+			}
+
+			public String getUniqueKey()
+			{
+				return this.uniqueKey;
+			}
+
+			public void setUniqueKey(final String uniqueKey)
+			{
+				this.uniqueKey = uniqueKey;
+			}
+
+			public BitmapIndexOptions.UniqueKeyTransformation getUniqueKeyTransformation()
+			{
+				return this.uniqueKeyTransformation;
+			}
+
+			public void setUniqueKeyTransformation(final BitmapIndexOptions.UniqueKeyTransformation uniqueKeyTransformation)
+			{
+				this.uniqueKeyTransformation = uniqueKeyTransformation;
+			}
+		}
+
+		/**
+		 * Configuration properties for persisting / loading entries through a Spring bean implementing
+		 * {@link com.hazelcast.map.MapStore} or {@link com.hazelcast.map.MapLoader}.
+		 */
+		public static class MapStore
+		{
+			/**
+			 * Whether to persist / load entries of the map through 'bean-name'. Default value is false.
+			 */
+			private Boolean enabled = false;
+
+			/**
+			 * Name of the Spring bean implementing 'MapStore' or 'MapLoader'; required when enabled.
+			 */
+			private String beanName;
+
+			/**
+			 * Duration for which writes are delayed and batched (write-behind); 0 writes synchronously (write-through).
+			 * Default value is 0.
+			 */
+			private Duration writeDelay = Duration.ofSeconds(MapStoreConfig.DEFAULT_WRITE_DELAY_SECONDS);
+
+			/**
+			 * Maximum number of entries passed to a single 'storeAll' call in write-behind mode. Default value is 1.
+			 */
+			private Integer writeBatchSize = MapStoreConfig.DEFAULT_WRITE_BATCH_SIZE;
+
+			/**
+			 * Whether to store only the latest update of a key in write-behind mode. Default value is true.
+			 */
+			private Boolean writeCoalescing = MapStoreConfig.DEFAULT_WRITE_COALESCING;
+
+			/**
+			 * Whether to load all keys on first access of the map ('EAGER') or per key on demand ('LAZY').
+			 * Default value is 'LAZY'.
+			 */
+			private MapStoreConfig.InitialLoadMode initialLoadMode = MapStoreConfig.InitialLoadMode.LAZY;
+
+			public Boolean getEnabled()
+			{
+				return this.enabled;
+			}
+
+			public void setEnabled(final Boolean enabled)
+			{
+				this.enabled = enabled;
+			}
+
+			public String getBeanName()
+			{
+				return this.beanName;
+			}
+
+			public void setBeanName(final String beanName)
+			{
+				this.beanName = beanName;
+			}
+
+			public Duration getWriteDelay()
+			{
+				return this.writeDelay;
+			}
+
+			public void setWriteDelay(final Duration writeDelay)
+			{
+				this.writeDelay = writeDelay;
+			}
+
+			public Integer getWriteBatchSize()
+			{
+				return this.writeBatchSize;
+			}
+
+			public void setWriteBatchSize(final Integer writeBatchSize)
+			{
+				this.writeBatchSize = writeBatchSize;
+			}
+
+			public Boolean getWriteCoalescing()
+			{
+				return this.writeCoalescing;
+			}
+
+			public void setWriteCoalescing(final Boolean writeCoalescing)
+			{
+				this.writeCoalescing = writeCoalescing;
+			}
+
+			public MapStoreConfig.InitialLoadMode getInitialLoadMode()
+			{
+				return this.initialLoadMode;
+			}
+
+			public void setInitialLoadMode(final MapStoreConfig.InitialLoadMode initialLoadMode)
+			{
+				this.initialLoadMode = initialLoadMode;
+			}
+		}
+	}
+
+	/**
+	 * Configuration properties for configuring Hazelcast client instance.
+	 */
+	public static class Client
+	{
+		/**
+		 * Comma-separated list of server addresses to which the Hazelcast client will connect
+		 * e.g. 10.10.20.20:5701,10.10.20.30:5701
+		 */
+		private final List<String> serverAddresses = new ArrayList<>();
+
+		/**
+		 * Timeout value for nodes to accept client connection requests.
+		 * Default value is 5 seconds.
+		 */
+		private Duration connectionTimeout = Duration.ofSeconds(5);
+
+		/**
+		 * Maximum duration for which the client retries connecting to the cluster, after which it shuts down.
+		 * Default is to retry indefinitely.
+		 */
+		private Duration clusterConnectTimeout;
+
+		/**
+		 * Hazelcast client routing configuration properties.
+		 * Default is to round-robin between all available members.
+		 */
+		private RoutingMode routingMode = RoutingMode.ALL_MEMBERS;
+
+		/**
+		 * Near Cache configuration properties keyed by cache name.
+		 * Cache names may contain '*' wildcard e.g. 'product-*'.
+		 */
+		private final Map<String, NearCache> nearCache = new LinkedHashMap<>();
+
+		/**
+		 * Near Cache invalidation properties shared by all Near Caches of the client.
+		 */
+		private final NearCacheInvalidation nearCacheInvalidation = new NearCacheInvalidation();
+
+		/**
+		 * Thread pool sizes of the client.
+		 */
+		private final Threads threads = new Threads();
+
+		/**
+		 * Limits of concurrent invocations of the client.
+		 */
+		private final Backpressure backpressure = new Backpressure();
+
+		/**
+		 * Continuous Query Cache configuration properties keyed by query cache name.
+		 */
+		private final Map<String, QueryCache> queryCaches = new LinkedHashMap<>();
+
+		public List<String> getServerAddresses()
+		{
+			return this.serverAddresses;
+		}
+
+		public Duration getConnectionTimeout()
+		{
+			return this.connectionTimeout;
+		}
+
+		public void setConnectionTimeout(final Duration connectionTimeout)
+		{
+			this.connectionTimeout = connectionTimeout;
+		}
+
+		public Duration getClusterConnectTimeout()
+		{
+			return this.clusterConnectTimeout;
+		}
+
+		public void setClusterConnectTimeout(final Duration clusterConnectTimeout)
+		{
+			this.clusterConnectTimeout = clusterConnectTimeout;
+		}
+
+		public RoutingMode getRoutingMode()
+		{
+			return this.routingMode;
+		}
+
+		public void setRoutingMode(final RoutingMode routingMode)
+		{
+			this.routingMode = routingMode;
+		}
+
+		public Map<String, NearCache> getNearCache()
+		{
+			return this.nearCache;
+		}
+
+		public NearCacheInvalidation getNearCacheInvalidation()
+		{
+			return this.nearCacheInvalidation;
+		}
+
+		public Threads getThreads()
+		{
+			return this.threads;
+		}
+
+		public Backpressure getBackpressure()
+		{
+			return this.backpressure;
+		}
+
+		public Map<String, QueryCache> getQueryCaches()
+		{
+			return this.queryCaches;
+		}
+
+		/**
+		 * Configuration properties for a client side Near Cache.
+		 */
+		public static class NearCache
+		{
+			/**
+			 * Format in which Near Cache entries are stored; 'OBJECT' avoids deserialization on every hit.
+			 * Default value is 'BINARY'.
+			 */
+			private InMemoryFormat inMemoryFormat = NearCacheConfig.DEFAULT_MEMORY_FORMAT;
+
+			/**
+			 * Whether Near Cache entries are invalidated when entries are updated / removed in the cluster.
+			 * Default value is true.
+			 */
+			private Boolean invalidateOnChange = NearCacheConfig.DEFAULT_INVALIDATE_ON_CHANGE;
+
+			/**
+			 * Whether to update ('CACHE_ON_UPDATE') or invalidate ('INVALIDATE') Near Cache entry on local updates.
+			 * Default value is 'INVALIDATE'.
+			 */
+			private NearCacheConfig.LocalUpdatePolicy localUpdatePolicy = NearCacheConfig.DEFAULT_LOCAL_UPDATE_POLICY;
+
+			/**
+			 * Maximum number of entries kept in Near Cache. Default value is 10000.
+			 */
+			private Integer maxSize = 10_000;
+
+			/**
+			 * Policy used to evict entries once 'maxSize' is reached. Default value is 'LRU'.
+			 */
+			private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+			/**
+			 * Maximum duration for which an entry stays in Near Cache. Default value is 0 i.e. infinite.
+			 */
+			private Duration timeToLive = Duration.ZERO;
+
+			/**
+			 * Maximum duration for which an entry stays in Near Cache without being read.
+			 * Default value is 0 i.e. infinite.
+			 */
+			private Duration maxIdle = Duration.ZERO;
+
+			/**
+			 * Near Cache key preloading properties.
+			 */
+			private final Preloader preloader = new Preloader();
+
+			public InMemoryFormat getInMemoryFormat()
+			{
+				return this.inMemoryFormat;
+			}
+
+			public void setInMemoryFormat(final InMemoryFormat inMemoryFormat)
+			{
+				this.inMemoryFormat = inMemoryFormat;
+			}
+
+			public Boolean getInvalidateOnChange()
+			{
+				return this.invalidateOnChange;
+			}
+
+			public void setInvalidateOnChange(final Boolean invalidateOnChange)
+			{
+				this.invalidateOnChange = invalidateOnChange;
+			}
+
+			public NearCacheConfig.LocalUpdatePolicy getLocalUpdatePolicy()
+			{
+				return this.localUpdatePolicy;
+			}
+
+			public void setLocalUpdatePolicy(final NearCacheConfig.LocalUpdatePolicy localUpdatePolicy)
+			{
+				this.localUpdatePolicy = localUpdatePolicy;
+			}
+
+			public Integer getMaxSize()
+			{
+				return this.maxSize;
+			}
+
+			public void setMaxSize(final Integer maxSize)
+			{
+				this.maxSize = maxSize;
+			}
+
+			public EvictionPolicy getEvictionPolicy()
+			{
+				return this.evictionPolicy;
+			}
+
+			public void setEvictionPolicy(final EvictionPolicy evictionPolicy)
+			{
+				this.evictionPolicy = evictionPolicy;
+			}
+
+			public Duration getTimeToLive()
+			{
+				return this.timeToLive;
+			}
+
+			public void setTimeToLive(final Duration timeToLive)
+			{
+				this.timeToLive = timeToLive;
+			}
+
+			public Duration getMaxIdle()
+			{
+				return this.maxIdle;
+			}
+
+			public void setMaxIdle(final Duration maxIdle)
+			{
+				this.maxIdle = maxIdle;
+			}
+
+			public Preloader getPreloader()
+			{
+				return this.preloader;
+			}
+
+			/**
+			 * Configuration properties for persisting Near Cache keys and preloading them on restart.
+			 */
+			public static class Preloader
+			{
+				/**
+				 * Whether to store Near Cache keys locally and preload them on restart. Default value is false.
+				 */
+				private Boolean enabled = false;
+
+				/**
+				 * Directory in which Near Cache keys are stored. Default is the working directory.
+				 */
+				private String directory = "";
+
+				/**
+				 * Delay after client start before Near Cache keys are stored for the first time.
+				 * Default value is 10 minutes.
+				 */
+				private Duration storeInitialDelay = Duration.ofMinutes(10);
+
+				/**
+				 * Interval at which Near Cache keys are stored. Default value is 10 minutes.
+				 */
+				private Duration storeInterval = Duration.ofMinutes(10);
+
+				public Boolean getEnabled()
+				{
+					return this.enabled;
+				}
+
+				public void setEnabled(final Boolean enabled)
+				{
+					this.enabled = enabled;
+				}
+
+				public String getDirectory()
+				{
+					return this.directory;
+				}
+
+				public void setDirectory(final String directory)
+				{
+					this.directory = directory;
+				}
+
+				public Duration getStoreInitialDelay()
+				{
+					return this.storeInitialDelay;
+				}
+
+				public void setStoreInitialDelay(final Duration storeInitialDelay)
+				{
+					this.storeInitialDelay = storeInitialDelay;
+				}
+
+				public Duration getStoreInterval()
+				{
+					return this.storeInterval;
+				}
+
+				public void setStoreInterval(final Duration storeInterval)
+				{
+					this.storeInterval = storeInterval;
+				}
+			}
+		}
+
+		/**
+		 * Configuration properties for a client side Continuous Query Cache.
+		 */
+		public static class QueryCache
+		{
+			/**
+			 * Name of the queried map. Default value is the name of the query cache.
+			 */
+			private String map;
+
+			/**
+			 * SQL predicate selecting cached entries e.g. "active = true AND region = 'EU'". Default is all entries.
+			 */
+			private String predicate;
+
+			/**
+			 * In-memory format of cached entries; 'OBJECT' spares deserializing values on each query. Default value is 'BINARY'.
+			 */
+			private InMemoryFormat inMemoryFormat = QueryCacheConfig.DEFAULT_IN_MEMORY_FORMAT;
+
+			/**
+			 * Whether to cache values, or only keys. Default value is true.
+			 */
+			private Boolean includeValue = QueryCacheConfig.DEFAULT_INCLUDE_VALUE;
+
+			/**
+			 * Whether to populate the query cache with matching entries on creation. Default value is true.
+			 */
+			private Boolean populate = QueryCacheConfig.DEFAULT_POPULATE;
+
+			/**
+			 * Number of change events sent to the client at once. Default value is 1.
+			 */
+			private Integer batchSize = QueryCacheConfig.DEFAULT_BATCH_SIZE;
+
+			/**
+			 * Number of change events buffered per partition on members. Default value is 16.
+			 */
+			private Integer bufferSize = QueryCacheConfig.DEFAULT_BUFFER_SIZE;
+
+			/**
+			 * Maximum time change events wait on members to fill a batch. Default value is 0 seconds.
+			 */
+			private Duration delay = Duration.ofSeconds(QueryCacheConfig.DEFAULT_DELAY_SECONDS);
+
+			/**
+			 * Whether to coalesce buffered change events of a key, sending only the latest one. Default value is false.
+			 */
+			private Boolean coalesce = QueryCacheConfig.DEFAULT_COALESCE;
+
+			/**
+			 * Indexes of the query cache, speeding up predicate queries on the client.
+			 */
+			private final List<Cache.Index> indexes = new ArrayList<>();
+
+			public String getMap()
+			{
+				return this.map;
+			}
+
+			public void setMap(final String map)
+			{
+				this.map = map;
+			}
+
+			public String getPredicate()
+			{
+				return this.predicate;
+			}
+
+			public void setPredicate(final String predicate)
+			{
+				this.predicate = predicate;
+			}
+
+			public InMemoryFormat getInMemoryFormat()
+			{
+				return this.inMemoryFormat;
+			}
+
+			public void setInMemoryFormat(final InMemoryFormat inMemoryFormat)
+			{
+				this.inMemoryFormat = inMemoryFormat;
+			}
+
+			public Boolean getIncludeValue()
+			{
+				return this.includeValue;
+			}
+
+			public void setIncludeValue(final Boolean includeValue)
+			{
+				this.includeValue = includeValue;
+			}
+
+			public Boolean getPopulate()
+			{
+				return this.populate;
+			}
+
+			public void setPopulate(final Boolean populate)
+			{
+				this.populate = populate;
+			}
+
+			public Integer getBatchSize()
+			{
+				return this.batchSize;
+			}
+
+			public void setBatchSize(final Integer batchSize)
+			{
+				this.batchSize = batchSize;
+			}
+
+			public Integer getBufferSize()
+			{
+				return this.bufferSize;
+			}
+
+			public void setBufferSize(final Integer bufferSize)
+			{
+				this.bufferSize = bufferSize;
+			}
+
+			public Duration getDelay()
+			{
+				return this.delay;
+			}
+
+			public void setDelay(final Duration delay)
+			{
+				this.delay = delay;
+			}
+
+			public Boolean getCoalesce()
+			{
+				return this.coalesce;
+			}
+
+			public void setCoalesce(final Boolean coalesce)
+			{
+				this.coalesce = coalesce;
+			}
+
+			public List<Cache.Index> getIndexes()
+			{
+				return this.indexes;
+			}
+		}
+
+		/**
+		 * Configuration properties for client side handling of Near Cache invalidation events.
+		 */
+		public static class NearCacheInvalidation
+		{
+			/**
+			 * Number of missed / reordered invalidation events tolerated before Near Cache is repaired.
+			 * Default value is 10.
+			 */
+			private Integer maxToleratedMissCount = 10;
+
+			/**
+			 * Interval at which Near Cache is reconciled with the cluster. Default value is 60 seconds.
+			 */
+			private Duration reconciliationInterval = Duration.ofSeconds(60);
+
+			public Integer getMaxToleratedMissCount()
+			{
+				return this.maxToleratedMissCount;
+			}
+
+			public void setMaxToleratedMissCount(final Integer maxToleratedMissCount)
+			{
+				this.maxToleratedMissCount = maxToleratedMissCount;
+			}
+
+			public Duration getReconciliationInterval()
+			{
+				return this.reconciliationInterval;
+			}
+
+			public void setReconciliationInterval(final Duration reconciliationInterval)
+			{
+				this.reconciliationInterval = reconciliationInterval;
+			}
+		}
+
+		/**
+		 * Configuration properties for thread pools of the client.
+		 */
+		public static class Threads
+		{
+			/**
+			 * Whether to size thread pools without a configured count from the processors available to the process,
+			 * bounded by the CPU quota of its container. Default value is false, keeping Hazelcast defaults.
+			 */
+			private Boolean auto = false;
+
+			/**
+			 * Number of threads dispatching events e.g. Near Cache invalidations. Auto value is half the number of processors, at least 2.
+			 */
+			private Integer event;
+
+			/**
+			 * Number of I/O threads reading from connections. Auto value is a quarter of the number of processors, at least 1.
+			 */
+			private Integer ioInput;
+
+			/**
+			 * Number of I/O threads writing to connections. Auto value is a quarter of the number of processors, at least 1.
+			 */
+			private Integer ioOutput;
+
+			public Boolean getAuto()
+			{
+				return this.auto;
+			}
+
+			public void setAuto(final Boolean auto)
+			{
+				this.auto = auto;
+			}
+
+			public Integer getEvent()
+			{
+				return this.event;
+			}
+
+			public void setEvent(final Integer event)
+			{
+				this.event = event;
+			}
+
+			public Integer getIoInput()
+			{
+				return this.ioInput;
+			}
+
+			public void setIoInput(final Integer ioInput)
+			{
+				this.ioInput = ioInput;
+			}
+
+			public Integer getIoOutput()
+			{
+				return this.ioOutput;
+			}
+
+			public void setIoOutput(final Integer ioOutput)
+			{
+				this.ioOutput = ioOutput;
+			}
+		}
+
+		/**
+		 * Configuration properties for limiting concurrent invocations of the client.
+		 */
+		public static class Backpressure
+		{
+			/**
+			 * Maximum number of concurrent invocations of the client. Default is unbounded.
+			 */
+			private Integer maxConcurrentInvocations = Integer.MAX_VALUE;
+
+			/**
+			 * Maximum time an invocation beyond {maxConcurrentInvocations} is delayed before failing with an overload error.
+			 * Default is none, failing immediately.
+			 */
+			private Duration backoffTimeout;
+
+			public Integer getMaxConcurrentInvocations()
+			{
+				return this.maxConcurrentInvocations;
+			}
+
+			public void setMaxConcurrentInvocations(final Integer maxConcurrentInvocations)
+			{
+				this.maxConcurrentInvocations = maxConcurrentInvocations;
+			}
+
+			public Duration getBackoffTimeout()
+			{
+				return this.backoffTimeout;
+			}
+
+			public void setBackoffTimeout(final Duration backoffTimeout)
+			{
+				this.backoffTimeout = backoffTimeout;
+			}
+		}
+	}
+
+	/**
+	 * Configuration properties for configuring Hazelcast server instance.
+	 */
+	public static class Server
+	{
+		/**
+		 * Hazelcast server port. Default value is 5701.
+		 */
+		private Integer port = 5701;
+
+		/**
+		 * Hazelcast primary server address.
+		 * This address will be broadcast to other cluster members.
+		 */
+		private String primaryAddress = "127.0.0.1";
+
+		/**
+		 * Comma-separated list of alternate network addresses to which Hazelcast server will bind
+		 * in addition to the 'primaryAddress'.
+		 */
+		private final List<String> secondaryAddresses = new ArrayList<>();
+
+		/**
+		 * Hazelcast port auto-increment configuration properties.
+		 */
+		private final PortAutoIncrement portAutoIncrement = new PortAutoIncrement();
+
+		/**
+		 * Hazelcast clustering configuration properties.
+		 */
+		private final Cluster cluster = new Cluster();
+
+		/**
+		 * Hazelcast multicast configuration properties.
+		 */
+		private final Multicast multicast = new Multicast();
+
+		/**
+		 * Near Cache invalidation properties for members sending invalidation events to Near Caches.
+		 */
+		private final NearCacheInvalidation nearCacheInvalidation = new NearCacheInvalidation();
+
+		/**
+		 * Maximum number of entries queued for write-behind 'map-store's of all maps on a member; writes beyond it
+		 * are rejected, hence applying backpressure to callers. Applicable when write-coalescing is disabled.
+		 * Default value is 50000.
+		 */
+		private Integer writeBehindQueueCapacity = 50_000;
+
+		/**
+		 * Warm-up configuration properties for restoring the most accessed entries after restart.
+		 */
+		private final WarmUp warmUp = new WarmUp();
+
+		/**
+		 * Thread pool sizes of the member.
+		 */
+		private final Threads threads = new Threads();
+
+		/**
+		 * Limits of concurrent invocations of the member.
+		 */
+		private final Backpressure backpressure = new Backpressure();
+
+		public Integer getPort()
+		{
+			return this.port;
+		}
+
+		public void setPort(final Integer port)
+		{
+			this.port = port;
+		}
+
+		public String getPrimaryAddress()
+		{
+			return this.primaryAddress;
+		}
+
+		public void setPrimaryAddress(final String primaryAddress)
+		{
+			this.primaryAddress = primaryAddress;
+		}
+
+		public List<String> getSecondaryAddresses()
+		{
+			return this.secondaryAddresses;
+		}
+
+		public PortAutoIncrement getPortAutoIncrement()
+		{
+			return this.portAutoIncrement;
+		}
+
+		public Cluster getCluster()
+		{
+			return this.cluster;
+		}
+
+		public Multicast getMulticast()
+		{
+			return this.multicast;
+		}
+
+		public NearCacheInvalidation getNearCacheInvalidation()
+		{
+			return this.nearCacheInvalidation;
+		}
+
+		public Integer getWriteBehindQueueCapacity()
+		{
+			return this.writeBehindQueueCapacity;
+		}
+
+		public void setWriteBehindQueueCapacity(final Integer writeBehindQueueCapacity)
+		{
+			this.writeBehindQueueCapacity = writeBehindQueueCapacity;
+		}
+
+		public WarmUp getWarmUp()
+		{
+			return this.warmUp;
+		}
+
+		public Threads getThreads()
+		{
+			return this.threads;
+		}
+
+		public Backpressure getBackpressure()
+		{
+			return this.backpressure;
+		}
+
+		/**
+		 * Configuration properties for thread pools of the member.
+		 */
+		public static class Threads
+		{
+			/**
+			 * Whether to size thread pools without a configured count from the processors available to the process,
+			 * bounded by the CPU quota of its container. Default value is false, keeping Hazelcast defaults.
+			 */
+			private Boolean auto = false;
+
+			/**
+			 * Number of partition operation threads. Auto value is the number of processors, at least 2.
+			 */
+			private Integer partitionOperation;
+
+			/**
+			 * Number of generic operation threads. Auto value is half the number of processors, at least 2.
+			 */
+			private Integer genericOperation;
+
+			/**
+			 * Number of I/O threads reading from connections. Auto value is a quarter of the number of processors, at least 1.
+			 */
+			private Integer ioInput;
+
+			/**
+			 * Number of I/O threads writing to connections. Auto value is a quarter of the number of processors, at least 1.
+			 */
+			private Integer ioOutput;
+
+			public Boolean getAuto()
+			{
+				return this.auto;
+			}
+
+			public void setAuto(final Boolean auto)
+			{
+				this.auto = auto;
+			}
+
+			public Integer getPartitionOperation()
+			{
+				return this.partitionOperation;
+			}
+
+			public void setPartitionOperation(final Integer partitionOperation)
+			{
+				this.partitionOperation = partitionOperation;
+			}
+
+			public Integer getGenericOperation()
+			{
+				return this.genericOperation;
+			}
+
+			public void setGenericOperation(final Integer genericOperation)
+			{
+				this.genericOperation = genericOperation;
+			}
+
+			public Integer getIoInput()
+			{
+				return this.ioInput;
+			}
+
+			public void setIoInput(final Integer ioInput)
+			{
+				this.ioInput = ioInput;
+			}
+
+			public Integer getIoOutput()
+			{
+				return this.ioOutput;
+			}
+
+			public void setIoOutput(final Integer ioOutput)
+			{
+				this.ioOutput = ioOutput;
+			}
+		}
+
+		/**
+		 * Configuration properties for limiting concurrent invocations of the member.
+		 */
+		public static class Backpressure
+		{
+			/**
+			 * Whether to limit concurrent asynchronous / backup invocations of the member. Default value is false.
+			 */
+			private Boolean enabled = false;
+
+			/**
+			 * Maximum number of concurrent invocations per partition, beyond which invocations are delayed.
+			 * Default value is 100.
+			 */
+			private Integer maxConcurrentInvocationsPerPartition = 100;
+
+			/**
+			 * Maximum time an invocation is delayed before failing with an overload error.
+			 * Default value is 1 minute.
+			 */
+			private Duration backoffTimeout = Duration.ofMinutes(1);
+
+			public Boolean getEnabled()
+			{
+				return this.enabled;
+			}
+
+			public void setEnabled(final Boolean enabled)
+			{
+				this.enabled = enabled;
+			}
+
+			public Integer getMaxConcurrentInvocationsPerPartition()
+			{
+				return this.maxConcurrentInvocationsPerPartition;
+			}
+
+			public void setMaxConcurrentInvocationsPerPartition(final Integer maxConcurrentInvocationsPerPartition)
+			{
+				this.maxConcurrentInvocationsPerPartition = maxConcurrentInvocationsPerPartition;
+			}
+
+			public Duration getBackoffTimeout()
+			{
+				return this.backoffTimeout;
+			}
+
+			public void setBackoffTimeout(final Duration backoffTimeout)
+			{
+				this.backoffTimeout = backoffTimeout;
+			}
+		}
 
 		/**
-		 * Timeout value for nodes to accept client connection requests.
-		 * Default value is 5 seconds.
+		 * Configuration properties for snapshotting the most accessed entries on shutdown and loading them on startup.
 		 */
-		private Duration connectionTimeout = Duration.ofSeconds(5);
+		public static class WarmUp
+		{
+			/**
+			 * Whether to snapshot entries on shutdown and load them on startup. Default value is false.
+			 */
+			private Boolean enabled = false;
 
-		/**
-		 * Hazelcast client routing configuration properties.
-		 * Default is to round-robin between all available members.
-		 */
-		private RoutingMode routingMode = RoutingMode.ALL_MEMBERS;
+			/**
+			 * Directory in which snapshots are written, per instance name. Default value is 'hazelcast-warm-up'.
+			 */
+			private String directory = "hazelcast-warm-up";
 
-		public List<String> getServerAddresses()
-		{
-			return this.serverAddresses;
-		}
+			/**
+			 * Names of the caches to be warmed up. Default value is empty i.e. all caches.
+			 */
+			private final List<String> caches = new ArrayList<>();
 
-		public Duration getConnectionTimeout()
-		{
-			return this.connectionTimeout;
-		}
+			/**
+			 * Maximum number of most accessed entries snapshotted per cache. Default value is 10000.
+			 */
+			private Integer maxEntries = 10_000;
 
-		public void setConnectionTimeout(final Duration connectionTimeout)
-		{
-			this.connectionTimeout = connectionTimeout;
-		}
+			/**
+			 * Number of entries loaded per batch. Default value is 500.
+			 */
+			private Integer batchSize = 500;
 
-		public RoutingMode getRoutingMode()
-		{
-			return this.routingMode;
-		}
+			/**
+			 * Number of threads loading batches. Default value is 4.
+			 */
+			private Integer parallelism = 4;
 
-		public void setRoutingMode(final RoutingMode routingMode)
-		{
-			this.routingMode = routingMode;
-		}
-	}
+			/**
+			 * Maximum number of entries loaded per second; 0 for unlimited. Default value is 10000.
+			 */
+			private Integer rateLimit = 10_000;
 
-	/**
-	 * Configuration properties for configuring Hazelcast server instance.
-	 */
-	public static class Server
-	{
-		/**
-		 * Hazelcast server port. Default value is 5701.
-		 */
-		private Integer port = 5701;
+			/**
+			 * Maximum duration of the warm-up, after which loading is abandoned. Default value is 30 seconds.
+			 */
+			private Duration timeout = Duration.ofSeconds(30);
 
-		/**
-		 * Hazelcast primary server address.
-		 * This address will be broadcast to other cluster members.
-		 */
-		private String primaryAddress = "127.0.0.1";
+			public Boolean getEnabled()
+			{
+				return this.enabled;
+			}
 
-		/**
-		 * Comma-separated list of alternate network addresses to which Hazelcast server will bind
-		 * in addition to the 'primaryAddress'.
-		 */
-		private final List<String> secondaryAddresses = new ArrayList<>();
+			public void setEnabled(final Boolean enabled)
+			{
+				this.enabled = enabled;
+			}
 
-		/**
-		 * Hazelcast port auto-increment configuration properties.
-		 */
-		private final PortAutoIncrement portAutoIncrement = new PortAutoIncrement();
+			public String getDirectory()
+			{
+				return this.directory;
+			}
 
-		/**
-		 * Hazelcast clustering configuration properties.
-		 */
-		private final Cluster cluster = new Cluster();
+			public void setDirectory(final String directory)
+			{
+				this.directory = directory;
+			}
 
-		/**
-		 * Hazelcast multicast configuration properties.
-		 */
-		private final Multicast multicast = new Multicast();
+			public List<String> getCaches()
+			{
+				return this.caches;
+			}
 
-		public Integer getPort()
-		{
-			return this.port;
-		}
+			public Integer getMaxEntries()
+			{
+				return this.maxEntries;
+			}
 
-		public void setPort(final Integer port)
-		{
-			this.port = port;
-		}
+			public void setMaxEntries(final Integer maxEntries)
+			{
+				this.maxEntries = maxEntries;
+			}
 
-		public String getPrimaryAddress()
-		{
-			return this.primaryAddress;
-		}
+			public Integer getBatchSize()
+			{
+				return this.batchSize;
+			}
 
-		public void setPrimaryAddress(final String primaryAddress)
-		{
-			this.primaryAddress = primaryAddress;
-		}
+			public void setBatchSize(final Integer batchSize)
+			{
+				this.batchSize = batchSize;
+			}
 
-		public List<String> getSecondaryAddresses()
-		{
-			return this.secondaryAddresses;
-		}
+			public Integer getParallelism()
+			{
+				return this.parallelism;
+			}
 
-		public PortAutoIncrement getPortAutoIncrement()
-		{
-			return this.portAutoIncrement;
-		}
+			public void setParallelism(final Integer parallelism)
+			{
+				this.parallelism = parallelism;
+			}
 
-		public Cluster getCluster()
-		{
-			return this.cluster;
-		}
+			public Integer getRateLimit()
+			{
+				return this.rateLimit;
+			}
 
-		public Multicast getMulticast()
-		{
-			return this.multicast;
+			public void setRateLimit(final Integer rateLimit)
+			{
+				this.rateLimit = rateLimit;
+			}
+
+			public Duration getTimeout()
+			{
+				return this.timeout;
+			}
+
+			public void setTimeout(final Duration timeout)
+			{
+				this.timeout = timeout;
+			}
 		}
 
 		/**
@@ -242,6 +2352,47 @@ public class HazelcastProperties
 			 */
 			private List<String> members = new ArrayList<>();
 
+			/**
+			 * File in which addresses of the last known members are persisted, tried on the next start along with
+			 * the configured members. Default is none, disabling persistence.
+			 */
+			private String lastMembersFile = "";
+
+			/**
+			 * Time to wait for a connection to a member while joining, bounding the time unreachable
+			 * members delay the join. Default value is 5 seconds.
+			 */
+			private Duration connectionTimeout = Duration.ofSeconds(5);
+
+			/**
+			 * Time to wait for other members joining at the same time, before completing the join.
+			 * Default value is 5 seconds.
+			 */
+			private Duration waitBeforeJoin = Duration.ofSeconds(5);
+
+			/**
+			 * Maximum time to wait for other members joining at the same time; not lower than {waitBeforeJoin}.
+			 * Default value is 20 seconds.
+			 */
+			private Duration maxWaitBeforeJoin = Duration.ofSeconds(20);
+
+			/**
+			 * Maximum time to wait for joining the cluster, after which the member starts its own cluster.
+			 * Default value is 5 minutes.
+			 */
+			private Duration maxJoinTime = Duration.ofMinutes(5);
+
+			/**
+			 * Delay, after start, of the first search for other clusters to merge with after a split-brain.
+			 * Default value is 5 minutes.
+			 */
+			private Duration mergeFirstRunDelay = Duration.ofMinutes(5);
+
+			/**
+			 * Delay between searches for other clusters to merge with. Default value is 2 minutes.
+			 */
+			private Duration mergeNextRunDelay = Duration.ofMinutes(2);
+
 			public Boolean getEnabled()
 			{
 				return this.enabled;
@@ -261,6 +2412,76 @@ public class HazelcastProperties
 			{
 				this.members = members;
 			}
+
+			public String getLastMembersFile()
+			{
+				return this.lastMembersFile;
+			}
+
+			public void setLastMembersFile(final String lastMembersFile)
+			{
+				this.lastMembersFile = lastMembersFile;
+			}
+
+			public Duration getConnectionTimeout()
+			{
+				return this.connectionTimeout;
+			}
+
+			public void setConnectionTimeout(final Duration connectionTimeout)
+			{
+				this.connectionTimeout = connectionTimeout;
+			}
+
+			public Duration getWaitBeforeJoin()
+			{
+				return this.waitBeforeJoin;
+			}
+
+			public void setWaitBeforeJoin(final Duration waitBeforeJoin)
+			{
+				this.waitBeforeJoin = waitBeforeJoin;
+			}
+
+			public Duration getMaxWaitBeforeJoin()
+			{
+				return this.maxWaitBeforeJoin;
+			}
+
+			public void setMaxWaitBeforeJoin(final Duration maxWaitBeforeJoin)
+			{
+				this.maxWaitBeforeJoin = maxWaitBeforeJoin;
+			}
+
+			public Duration getMaxJoinTime()
+			{
+				return this.maxJoinTime;
+			}
+
+			public void setMaxJoinTime(final Duration maxJoinTime)
+			{
+				this.maxJoinTime = maxJoinTime;
+			}
+
+			public Duration getMergeFirstRunDelay()
+			{
+				return this.mergeFirstRunDelay;
+			}
+
+			public void setMergeFirstRunDelay(final Duration mergeFirstRunDelay)
+			{
+				this.mergeFirstRunDelay = mergeFirstRunDelay;
+			}
+
+			public Duration getMergeNextRunDelay()
+			{
+				return this.mergeNextRunDelay;
+			}
+
+			public void setMergeNextRunDelay(final Duration mergeNextRunDelay)
+			{
+				this.mergeNextRunDelay = mergeNextRunDelay;
+			}
 		}
 
 		/**
@@ -361,5 +2582,56 @@ public class HazelcastProperties
 				this.timeToLive = timeToLive;
 			}
 		}
+
+		/**
+		 * Configuration properties for member side batching of Near Cache invalidation events.
+		 */
+		public static class NearCacheInvalidation
+		{
+			/**
+			 * Whether invalidation events are sent in batches. Default value is true.
+			 */
+			private Boolean batchEnabled = true;
+
+			/**
+			 * Maximum number of invalidation events in a single batch. Default value is 100.
+			 */
+			private Integer batchSize = 100;
+
+			/**
+			 * Maximum delay after which a partially filled batch is sent. Default value is 10 seconds.
+			 */
+			private Duration batchFrequency = Duration.ofSeconds(10);
+
+			public Boolean getBatchEnabled()
+			{
+				return this.batchEnabled;
+			}
+
+			public void setBatchEnabled(final Boolean batchEnabled)
+			{
+				this.batchEnabled = batchEnabled;
+			}
+
+			public Integer getBatchSize()
+			{
+				return this.batchSize;
+			}
+
+			public void setBatchSize(final Integer batchSize)
+			{
+				this.batchSize = batchSize;
+			}
+
+			public Duration getBatchFrequency()
+			{
+				return this.batchFrequency;
+			}
+
+			public void setBatchFrequency(final Duration batchFrequency)
+			{
+				this.batchFrequency = batchFrequency;
+			}
+		}
 	}
 }
@@ -0,0 +1,105 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import com.hazelcast.logging.Slf4jFactory;
+import com.hazelcast.spring.cache.HazelcastCache;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Registers reflection, resource and serialization hints needed by Hazelcast and the starter in a native image.
+ * <p>
+ * Hazelcast discovers its serializer hooks and extensions through {@code META-INF/services/com.hazelcast.*} files
+ * and instantiates listed classes reflectively; listed classes are read from the classpath ahead of time, hence
+ * hooks of other Hazelcast modules on the classpath are covered as well.
+ * Types of cached keys and values are not known to the starter; applications register hints of types serialized
+ * with Java serialization, while Compact types configured through properties are covered by {@link HazelcastAotProcessor}.
+ */
+public class HazelcastRuntimeHints
+		implements RuntimeHintsRegistrar
+{
+	private static final String SERVICES_LOCATION = "META-INF/services/";
+
+	/**
+	 * Service types of Hazelcast looked up by its own service loader.
+	 */
+	private static final List<String> SERVICE_TYPES = List.of(
+			"com.hazelcast.DataSerializerHook",
+			"com.hazelcast.PortableHook",
+			"com.hazelcast.SerializerHook",
+			"com.hazelcast.client.impl.ClientExtension",
+			"com.hazelcast.client.impl.protocol.MessageTaskFactoryProvider",
+			"com.hazelcast.dataconnection.DataConnectionRegistration",
+			"com.hazelcast.instance.impl.NodeExtension",
+			"com.hazelcast.internal.util.phonehome.MetricsProvider",
+			"com.hazelcast.spi.discovery.DiscoveryStrategyFactory",
+			"com.hazelcast.spi.impl.servicemanager.ServiceDescriptorProvider");
+
+	@Override
+	public void registerHints(final RuntimeHints hints, final ClassLoader classLoader)
+	{
+		// Binding user configured properties, including nested properties
+		BindableRuntimeHintsRegistrar.forTypes(HazelcastProperties.class).registerHints(hints, classLoader);
+
+		for (final String serviceType : SERVICE_TYPES)
+		{
+			hints.resources().registerPattern(SERVICES_LOCATION + serviceType);
+
+			for (final String implementation : getImplementations(serviceType, classLoader))
+			{
+				hints.reflection().registerTypeIfPresent(classLoader, implementation, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+			}
+		}
+
+		// Logger factory of 'hazelcast.logging.type = slf4j', instantiated by class name
+		hints.reflection().registerType(Slf4jFactory.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+		// Null placeholder of HazelcastCache, a 'DataSerializable' instantiated by class name
+		hints.reflection().registerType(TypeReference.of(HazelcastCache.class.getName() + "$NullDataSerializable"),
+										MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+		// Default key of multi-argument methods, serialized with Java serialization unless 'simple-key-serializer-enabled'
+		hints.serialization().registerType(SimpleKey.class);
+	}
+
+	/**
+	 * @param serviceType service type of Hazelcast.
+	 * @param classLoader class loader of the application.
+	 * @return class names listed by all service files of provided type on the classpath.
+	 */
+	private static List<String> getImplementations(final String serviceType, final ClassLoader classLoader)
+	{
+		try
+		{
+			final Enumeration<URL> resources = classLoader.getResources(SERVICES_LOCATION + serviceType);
+			final List<String> implementations = new ArrayList<>();
+
+			while (resources.hasMoreElements())
+			{
+				try (BufferedReader reader = new BufferedReader(new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8)))
+				{
+					reader.lines().map(String::trim).filter(line -> !line.isEmpty() && !line.startsWith("#")).forEach(implementations::add);
+				}
+			}
+
+			return implementations;
+		}
+		catch (final IOException exception)
+		{
+			throw new UncheckedIOException("Failed to read services of " + serviceType, exception);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.*;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.config.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Applies serialization of cached keys and values to {@link Config} and {@link ClientConfig}.
+ * <p>
+ * Compact types are resolved once, hence server and client instances share the same registrations.
+ */
+public class HazelcastSerializationConfigurer
+{
+	private static final Logger logger = LoggerFactory.getLogger(HazelcastSerializationConfigurer.class);
+
+	private final Set<Class<?>> compactTypes;
+
+	private final boolean simpleKeySerializerEnabled;
+
+	public HazelcastSerializationConfigurer(final HazelcastProperties.Serialization serialization, final ClassLoader classLoader)
+	{
+		final Set<Class<?>> types = new LinkedHashSet<>(serialization.getCompactClasses());
+
+		// Discovering types annotated with {CompactSerializable} in configured packages
+		final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+
+		scanner.addIncludeFilter(new AnnotationTypeFilter(CompactSerializable.class));
+
+		if (NativeDetector.inNativeImage() && !serialization.getCompactPackages().isEmpty())
+		{
+			// Classpath scanning is not available in a native image
+			logger.warn("Compact packages are not scanned in a native image; list types of {} as compact classes", serialization.getCompactPackages());
+		}
+
+		for (final String compactPackage : serialization.getCompactPackages())
+		{
+			for (final BeanDefinition candidate : scanner.findCandidateComponents(compactPackage))
+			{
+				types.add(ClassUtils.resolveClassName(Objects.requireNonNull(candidate.getBeanClassName()), classLoader));
+			}
+		}
+
+		this.compactTypes = Collections.unmodifiableSet(types);
+		this.simpleKeySerializerEnabled = serialization.getSimpleKeySerializerEnabled();
+
+		logger.info("Hazelcast Compact serialization types : {}", this.compactTypes.size());
+	}
+
+	/**
+	 * Configures serialization of server instance.
+	 *
+	 * @param config configuration of the server instance.
+	 */
+	public void configure(final Config config)
+	{
+		configure(config.getSerializationConfig());
+	}
+
+	/**
+	 * Configures serialization of client instance.
+	 *
+	 * @param config configuration of the client instance.
+	 */
+	public void configure(final ClientConfig config)
+	{
+		configure(config.getSerializationConfig());
+	}
+
+	/**
+	 * Registers Compact types, starter types and custom serializers with provided {@link SerializationConfig}.
+	 *
+	 * @param serializationConfig serialization configuration of server / client instance.
+	 */
+	public void configure(final SerializationConfig serializationConfig)
+	{
+		final CompactSerializationConfig compactConfig = serializationConfig.getCompactSerializationConfig();
+
+		this.compactTypes.forEach(compactConfig::addClass);
+
+		// Registering types provided by the starter e.g. {CacheKey}
+		serializationConfig.addDataSerializableFactory(CacheDataSerializableFactory.FACTORY_ID, new CacheDataSerializableFactory());
+
+		if (this.simpleKeySerializerEnabled)
+		{
+			serializationConfig.addSerializerConfig(new SerializerConfig().setTypeClass(SimpleKey.class)
+																		  .setImplementation(new SimpleKeyStreamSerializer()));
+		}
+	}
+
+	public Set<Class<?>> getCompactTypes()
+	{
+		return this.compactTypes;
+	}
+
+	public boolean isSimpleKeySerializerEnabled()
+	{
+		return this.simpleKeySerializerEnabled;
+	}
+}
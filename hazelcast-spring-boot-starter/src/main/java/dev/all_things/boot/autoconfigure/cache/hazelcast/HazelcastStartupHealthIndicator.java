@@ -0,0 +1,46 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Reports the state of a {@link HazelcastInstance} started in background.
+ * <p>
+ * Down once the instance failed to be created, as caches then remain served by their fallback; unknown while
+ * it is being created, hence the fallback does not affect the aggregated health of the application.
+ */
+public class HazelcastStartupHealthIndicator
+		extends AbstractHealthIndicator
+{
+	private final HazelcastInstanceStarter instanceStarter;
+
+	/**
+	 * @param instanceStarter starter of the {@link HazelcastInstance}.
+	 */
+	public HazelcastStartupHealthIndicator(final HazelcastInstanceStarter instanceStarter)
+	{
+		super("Hazelcast startup health check failed");
+
+		this.instanceStarter = instanceStarter;
+	}
+
+	@Override
+	protected void doHealthCheck(final Health.Builder builder)
+	{
+		final Throwable failure = this.instanceStarter.getFailure();
+
+		if (failure != null)
+		{
+			builder.down(failure).withDetail("caches", "fallback");
+		}
+		else if (this.instanceStarter.isReady())
+		{
+			builder.up().withDetail("caches", "hazelcast");
+		}
+		else
+		{
+			builder.unknown().withDetail("caches", "fallback");
+		}
+	}
+}
@@ -0,0 +1,227 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded sketch of the most frequently offered keys, as per the Space-Saving algorithm.
+ * <p>
+ * Keeps {capacity} counters; a key offered without a counter replaces the key of the smallest counter and inherits
+ * its count, which becomes the error bound of the new key. Any key offered more than 1/{capacity} of the time is kept,
+ * hence keeping a few times more counters than reported keys makes the reported ranking reliable.
+ * <p>
+ * Counters are grouped in buckets of equal count, ordered by count (Stream-Summary), hence offers take constant time,
+ * including replacements of the smallest counter.
+ */
+public class HotKeySketch
+{
+	private final Map<Object, Counter> counters = new HashMap<>();
+
+	private final int capacity;
+
+	/**
+	 * Bucket of the smallest count; buckets are linked by ascending count.
+	 */
+	private Bucket smallest;
+
+	/**
+	 * @param capacity maximum number of counted keys.
+	 */
+	public HotKeySketch(final int capacity)
+	{
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Counts an occurrence of provided key.
+	 *
+	 * @param key offered key.
+	 */
+	public synchronized void offer(final Object key)
+	{
+		Counter counter = this.counters.get(key);
+
+		if (counter == null && this.counters.size() < this.capacity)
+		{
+			counter = new Counter(key, 0);
+
+			// Counting from a zero count bucket, removed by the increment
+			this.smallest = new Bucket(0, null, this.smallest);
+
+			if (this.smallest.next != null)
+			{
+				this.smallest.next.previous = this.smallest;
+			}
+
+			this.smallest.add(counter);
+			this.counters.put(key, counter);
+		}
+		else if (counter == null)
+		{
+			// Replacing the key of a smallest counter, whose count becomes the error bound of the new key
+			counter = this.smallest.first;
+
+			this.counters.remove(counter.key);
+			this.counters.put(key, counter);
+
+			counter.key = key;
+			counter.error = this.smallest.count;
+		}
+
+		increment(counter);
+	}
+
+	/**
+	 * @param limit maximum number of reported keys.
+	 * @return most frequently offered keys, most frequent first.
+	 */
+	public synchronized List<HotKey> getHotKeys(final int limit)
+	{
+		return this.counters.values().stream()
+							.sorted(Comparator.comparingLong((Counter counter) -> counter.bucket.count).reversed())
+							.limit(limit)
+							.map(counter -> new HotKey(String.valueOf(counter.key), counter.bucket.count, counter.error))
+							.toList();
+	}
+
+	/**
+	 * Clears all counters.
+	 */
+	public synchronized void clear()
+	{
+		this.counters.clear();
+		this.smallest = null;
+	}
+
+	/**
+	 * Moves provided counter to the bucket of the next count, creating it if needed.
+	 *
+	 * @param counter counter of an offered key.
+	 */
+	private void increment(final Counter counter)
+	{
+		final Bucket bucket = counter.bucket;
+		final long count = bucket.count + 1;
+
+		bucket.remove(counter);
+
+		if (bucket.next != null && bucket.next.count == count)
+		{
+			bucket.next.add(counter);
+		}
+		else
+		{
+			final Bucket next = new Bucket(count, bucket, bucket.next);
+
+			if (bucket.next != null)
+			{
+				bucket.next.previous = next;
+			}
+
+			bucket.next = next;
+			next.add(counter);
+		}
+
+		if (bucket.first == null)
+		{
+			// Unlinking the emptied bucket
+			if (bucket.previous == null)
+			{
+				this.smallest = bucket.next;
+			}
+			else
+			{
+				bucket.previous.next = bucket.next;
+			}
+
+			bucket.next.previous = bucket.previous;
+		}
+	}
+
+	/**
+	 * Count of offers of a key.
+	 *
+	 * @param key   string representation of the key.
+	 * @param count estimated number of offers, possibly over-estimated by up to {error}.
+	 * @param error maximum over-estimation of {count}.
+	 */
+	public record HotKey(String key, long count, long error)
+	{
+	}
+
+	/**
+	 * Counted key, linked to the other counters of its bucket; guarded by the sketch.
+	 */
+	private static final class Counter
+	{
+		private Object key;
+
+		private long error;
+
+		private Bucket bucket;
+
+		private Counter previous;
+
+		private Counter next;
+
+		private Counter(final Object key, final long error)
+		{
+			this.key = key;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * Counters of equal count, linked to the buckets of the previous / next counts; guarded by the sketch.
+	 */
+	private static final class Bucket
+	{
+		private final long count;
+
+		private Bucket previous;
+
+		private Bucket next;
+
+		private Counter first;
+
+		private Bucket(final long count, final Bucket previous, final Bucket next)
+		{
+			this.count = count;
+			this.previous = previous;
+			this.next = next;
+		}
+
+		private void add(final Counter counter)
+		{
+			counter.bucket = this;
+			counter.previous = null;
+			counter.next = this.first;
+
+			if (this.first != null)
+			{
+				this.first.previous = counter;
+			}
+
+			this.first = counter;
+		}
+
+		private void remove(final Counter counter)
+		{
+			if (counter.previous == null)
+			{
+				this.first = counter.next;
+			}
+			else
+			{
+				counter.previous.next = counter.next;
+			}
+
+			if (counter.next != null)
+			{
+				counter.next.previous = counter.previous;
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+/**
+ * Adds a delta to a cached counter, either the cached value itself or a numeric field of it.
+ * <p>
+ * An absent counter value starts at 0, while an absent entry is created only for counters cached as values.
+ * {@link Integer} counters stay {@link Integer}s; other counters become {@link Long}s.
+ */
+public class IncrementProcessor
+		extends CacheEntryProcessor<Long>
+{
+	private String field;
+
+	private long delta;
+
+	public IncrementProcessor()
+	{
+	}
+
+	/**
+	 * @param field name of the counter field or {@code null} if the cached value is the counter.
+	 * @param delta amount to be added, negative to decrement.
+	 */
+	public IncrementProcessor(final String field, final long delta)
+	{
+		this.field = field;
+		this.delta = delta;
+	}
+
+	@Override
+	public Long process(final Map.Entry<Object, Object> entry)
+	{
+		final Object value = getValue(entry);
+
+		if (this.field == null)
+		{
+			final Object counter = increment(value);
+
+			store(entry, counter, value != null);
+
+			return ((Number) counter).longValue();
+		}
+
+		if (value == null)
+		{
+			return null;
+		}
+
+		final Object counter = increment(getField(value, this.field));
+
+		setField(value, this.field, counter);
+		store(entry, value, true);
+
+		return ((Number) counter).longValue();
+	}
+
+	/**
+	 * @param counter current counter value or {@code null}.
+	 * @return incremented counter of the same type.
+	 */
+	private Object increment(final Object counter)
+	{
+		if (counter instanceof Integer integer)
+		{
+			return Math.toIntExact(integer + this.delta);
+		}
+
+		return (counter == null ? 0 : ((Number) counter).longValue()) + this.delta;
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		super.writeData(out);
+
+		out.writeString(this.field);
+		out.writeLong(this.delta);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		super.readData(in);
+
+		this.field = in.readString();
+		this.delta = in.readLong();
+	}
+
+	@Override
+	public int getClassId()
+	{
+		return CacheDataSerializableFactory.INCREMENT_PROCESSOR;
+	}
+}
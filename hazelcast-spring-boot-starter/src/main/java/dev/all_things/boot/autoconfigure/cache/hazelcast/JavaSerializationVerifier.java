@@ -0,0 +1,349 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.Externalizable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import com.hazelcast.nio.serialization.DataSerializable;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Fails startup if a key or value type of a {@link Cacheable} / {@link CachePut} method
+ * would be serialized with Java serialization.
+ * <p>
+ * Only declared types are verified; methods declaring {@link Object} or an interface
+ * (other than collections) cannot be verified and are skipped.
+ * Keys are verified as generated by the key generator of each method, or else by the one of the {@link CachingConfigurer};
+ * keys of SpEL expressions and of key generators other than {@link SimpleKeyGenerator} and
+ * {@link PartitionAwareKeyGenerator} are skipped.
+ * <p>
+ * Collections and maps are serialized by Hazelcast only for their common implementations, while the ones
+ * of the JDK factories (e.g. {@link List#of}, {@link Map#of}, {@link Collections#unmodifiableList}) fall back to Java
+ * serialization. As such types are only known at runtime, caches are decorated for failing writes of such collections.
+ */
+public class JavaSerializationVerifier
+		implements SmartInitializingSingleton, HazelcastCacheDecorator, Ordered
+{
+	/**
+	 * Order of the decorator; verifies values as written to the Hazelcast backed cache.
+	 */
+	public static final int ORDER = 0;
+
+	private static final Set<Class<?>> BUILT_IN_TYPES = Set.of(String.class, UUID.class, BigInteger.class, BigDecimal.class,
+															   Date.class, Class.class, LocalDate.class, LocalTime.class,
+															   LocalDateTime.class, OffsetDateTime.class);
+
+	/**
+	 * Collections and maps serialized by Hazelcast without Java serialization.
+	 */
+	private static final Set<Class<?>> BUILT_IN_COLLECTION_TYPES = Set.of(ArrayList.class, LinkedList.class, CopyOnWriteArrayList.class,
+																		  HashSet.class, LinkedHashSet.class, TreeSet.class,
+																		  CopyOnWriteArraySet.class, ConcurrentSkipListSet.class,
+																		  ArrayDeque.class, PriorityQueue.class, ArrayBlockingQueue.class,
+																		  LinkedBlockingQueue.class, PriorityBlockingQueue.class,
+																		  DelayQueue.class, SynchronousQueue.class, LinkedTransferQueue.class,
+																		  HashMap.class, LinkedHashMap.class, TreeMap.class,
+																		  ConcurrentHashMap.class, ConcurrentSkipListMap.class);
+
+	/**
+	 * Name of the deprecated Hazelcast 'Portable' serialization interface, still serialized without Java serialization.
+	 */
+	private static final String PORTABLE_CLASS_NAME = "com.hazelcast.nio.serialization.Portable";
+
+	private final ConfigurableListableBeanFactory beanFactory;
+
+	private final HazelcastSerializationConfigurer serializationConfigurer;
+
+	public JavaSerializationVerifier(final ConfigurableListableBeanFactory beanFactory, final HazelcastSerializationConfigurer serializationConfigurer)
+	{
+		this.beanFactory = beanFactory;
+		this.serializationConfigurer = serializationConfigurer;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated()
+	{
+		final Set<String> violations = new TreeSet<>();
+		final KeyGenerator defaultKeyGenerator = getDefaultKeyGenerator();
+
+		for (final String beanName : this.beanFactory.getBeanDefinitionNames())
+		{
+			final Class<?> beanType = this.beanFactory.getType(beanName, false);
+
+			if (beanType == null)
+			{
+				continue;
+			}
+
+			ReflectionUtils.doWithMethods(ClassUtils.getUserClass(beanType), method -> verify(method, defaultKeyGenerator, violations),
+										JavaSerializationVerifier::isCaching);
+		}
+
+		if (!violations.isEmpty())
+		{
+			throw new IllegalStateException("Following cached types would fall back to Java serialization : " + violations);
+		}
+	}
+
+	@Override
+	public Cache decorate(final Cache cache)
+	{
+		return new VerifyingCache(cache);
+	}
+
+	@Override
+	public int getOrder()
+	{
+		return ORDER;
+	}
+
+	/**
+	 * Verifies key and value types of a caching method.
+	 *
+	 * @param method              method annotated with {@link Cacheable} / {@link CachePut}.
+	 * @param defaultKeyGenerator key generator of methods not naming one.
+	 * @param violations          collector of types which would be Java serialized.
+	 */
+	private void verify(final Method method, final KeyGenerator defaultKeyGenerator, final Set<String> violations)
+	{
+		final String location = method.getDeclaringClass().getName() + "#" + method.getName();
+
+		// Verifying cached value type
+		verify(ResolvableType.forMethodReturnType(method), location + " (value)", violations);
+
+		// Resolving key generators of all caching operations of the method, which must agree for keys to be verified
+		final Set<KeyGenerator> keyGenerators = new HashSet<>();
+
+		for (final Cacheable cacheable : AnnotatedElementUtils.findAllMergedAnnotations(method, Cacheable.class))
+		{
+			keyGenerators.add(getKeyGenerator(cacheable.key(), cacheable.keyGenerator(), defaultKeyGenerator));
+		}
+
+		for (final CachePut cachePut : AnnotatedElementUtils.findAllMergedAnnotations(method, CachePut.class))
+		{
+			keyGenerators.add(getKeyGenerator(cachePut.key(), cachePut.keyGenerator(), defaultKeyGenerator));
+		}
+
+		if (keyGenerators.size() != 1 || keyGenerators.contains(null))
+		{
+			return;
+		}
+
+		// Multiple parameters are wrapped in a SimpleKey, while PartitionAwareKeyGenerator wraps them in a CacheKey
+		if (keyGenerators.iterator().next() instanceof SimpleKeyGenerator && method.getParameterCount() != 1
+			&& !this.serializationConfigurer.isSimpleKeySerializerEnabled())
+		{
+			violations.add(SimpleKey.class.getName() + " of " + location + " (key)");
+		}
+
+		for (int index = 0; index < method.getParameterCount(); index++)
+		{
+			verify(ResolvableType.forMethodParameter(method, index), location + " (key)", violations);
+		}
+	}
+
+	/**
+	 * @return key generator set by the {@link CachingConfigurer}, or else Spring's default {@link SimpleKeyGenerator}.
+	 */
+	private KeyGenerator getDefaultKeyGenerator()
+	{
+		final CachingConfigurer cachingConfigurer = this.beanFactory.getBeanProvider(CachingConfigurer.class).getIfUnique();
+		final KeyGenerator keyGenerator = cachingConfigurer == null ? null : cachingConfigurer.keyGenerator();
+
+		return keyGenerator == null ? new SimpleKeyGenerator() : keyGenerator;
+	}
+
+	/**
+	 * @param key                 SpEL expression of the key of a caching operation.
+	 * @param keyGeneratorName    name of the key generator bean of a caching operation.
+	 * @param defaultKeyGenerator key generator of operations not naming one.
+	 * @return key generator of the operation, or {@code null} if its keys cannot be verified.
+	 */
+	private KeyGenerator getKeyGenerator(final String key, final String keyGeneratorName, final KeyGenerator defaultKeyGenerator)
+	{
+		if (!key.isEmpty())
+		{
+			return null;
+		}
+
+		final KeyGenerator keyGenerator = keyGeneratorName.isEmpty() ? defaultKeyGenerator : this.beanFactory.getBean(keyGeneratorName, KeyGenerator.class);
+
+		return keyGenerator instanceof SimpleKeyGenerator || keyGenerator instanceof PartitionAwareKeyGenerator ? keyGenerator : null;
+	}
+
+	/**
+	 * Verifies a (possibly generic) cached type.
+	 *
+	 * @param type       cached type.
+	 * @param location   caching method declaring the type.
+	 * @param violations collector of types which would be Java serialized.
+	 */
+	private void verify(final ResolvableType type, final String location, final Set<String> violations)
+	{
+		final Class<?> rawType = type.resolve(Object.class);
+
+		if (Optional.class.equals(rawType) || CompletableFuture.class.equals(rawType))
+		{
+			// Unwrapping values of asynchronous / optional results
+			verify(type.getGeneric(0), location, violations);
+		}
+		else if (Collection.class.isAssignableFrom(rawType) || rawType.isArray() && !rawType.getComponentType().isPrimitive())
+		{
+			verifyCollection(rawType, location, violations);
+			verify(rawType.isArray() ? type.getComponentType() : type.asCollection().getGeneric(0), location, violations);
+		}
+		else if (Map.class.isAssignableFrom(rawType))
+		{
+			verifyCollection(rawType, location, violations);
+			verify(type.asMap().getGeneric(0), location, violations);
+			verify(type.asMap().getGeneric(1), location, violations);
+		}
+		else if (!isUnverifiable(rawType) && !isSerializedWithoutJava(rawType))
+		{
+			violations.add(rawType.getName() + " of " + location);
+		}
+	}
+
+	/**
+	 * Verifies a declared collection / map type, implementations of declared interfaces being verified at runtime.
+	 *
+	 * @param type       declared collection / map type.
+	 * @param location   caching method declaring the type.
+	 * @param violations collector of types which would be Java serialized.
+	 */
+	private static void verifyCollection(final Class<?> type, final String location, final Set<String> violations)
+	{
+		if (!type.isArray() && !type.isInterface() && !Modifier.isAbstract(type.getModifiers()) && !BUILT_IN_COLLECTION_TYPES.contains(type))
+		{
+			violations.add(type.getName() + " of " + location);
+		}
+	}
+
+	/**
+	 * @param value key or value written to a cache.
+	 * @return {@code true} if the value is a collection / map which Hazelcast would serialize with Java serialization.
+	 */
+	private static boolean isJavaSerializedCollection(final Object value)
+	{
+		return (value instanceof Collection<?> || value instanceof Map<?, ?>) && !BUILT_IN_COLLECTION_TYPES.contains(value.getClass());
+	}
+
+	/**
+	 * @param type cached type.
+	 * @return {@code true} if Hazelcast serializes the type without Java serialization.
+	 */
+	private boolean isSerializedWithoutJava(final Class<?> type)
+	{
+		if (Externalizable.class.isAssignableFrom(type))
+		{
+			return false;
+		}
+
+		return ClassUtils.isPrimitiveOrWrapper(type) || type.isArray() || type.isEnum() || BUILT_IN_TYPES.contains(type)
+			   || DataSerializable.class.isAssignableFrom(type) || isPortable(type)
+			   || this.serializationConfigurer.getCompactTypes().contains(type)
+			   || SimpleKey.class.equals(type) && this.serializationConfigurer.isSimpleKeySerializerEnabled();
+	}
+
+	/**
+	 * @param type cached type.
+	 * @return {@code true} if the type implements Hazelcast 'Portable' serialization.
+	 */
+	private static boolean isPortable(final Class<?> type)
+	{
+		return ClassUtils.getAllInterfacesForClassAsSet(type).stream().anyMatch(implemented -> PORTABLE_CLASS_NAME.equals(implemented.getName()));
+	}
+
+	/**
+	 * @param type cached type.
+	 * @return {@code true} if the type is too generic to be verified e.g. {@link Object} or an interface.
+	 */
+	private static boolean isUnverifiable(final Class<?> type)
+	{
+		return Object.class.equals(type) || void.class.equals(type) || Void.class.equals(type) || type.isInterface();
+	}
+
+	/**
+	 * @param method method of a bean.
+	 * @return {@code true} if the method caches its result.
+	 */
+	private static boolean isCaching(final Method method)
+	{
+		return AnnotatedElementUtils.hasAnnotation(method, Cacheable.class) || AnnotatedElementUtils.hasAnnotation(method, CachePut.class);
+	}
+
+	/**
+	 * {@link Cache} failing writes of keys / values which Hazelcast would serialize with Java serialization.
+	 */
+	private static class VerifyingCache
+			extends DelegatingCache
+	{
+		VerifyingCache(final Cache delegate)
+		{
+			super(delegate);
+		}
+
+		@Override
+		public <T> T get(final Object key, final Callable<T> valueLoader)
+		{
+			verify(key);
+
+			return this.delegate.get(key, () -> verify(valueLoader.call()));
+		}
+
+		@Override
+		public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+		{
+			verify(key);
+
+			return this.delegate.retrieve(key, () -> valueLoader.get().thenApply(this::verify));
+		}
+
+		@Override
+		public void put(final Object key, final Object value)
+		{
+			this.delegate.put(verify(key), verify(value));
+		}
+
+		@Override
+		public ValueWrapper putIfAbsent(final Object key, final Object value)
+		{
+			return this.delegate.putIfAbsent(verify(key), verify(value));
+		}
+
+		/**
+		 * @param value key or value written to the cache.
+		 * @return provided value.
+		 * @throws IllegalStateException if the value would be serialized with Java serialization.
+		 */
+		private <T> T verify(final T value)
+		{
+			if (isJavaSerializedCollection(value))
+			{
+				throw new IllegalStateException("Cache '" + getName() + "' would fall back to Java serialization for " + value.getClass().getName()
+												+ ", copy it into a collection such as ArrayList / HashMap before caching it");
+			}
+
+			return value;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.spi.properties.ClusterProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * {@link CacheManager} providing in-process {@link LocalStoreCache}s, without any Hazelcast instance.
+ * <p>
+ * Caches are sized and expired as per the {@link MapConfig}s of provided {@link Config}, as configured through
+ * properties and {@link HazelcastMapConfigurer} for a server instance; the {@link Config} is never used to start one.
+ * Only entry-count sizes ({@code PER_NODE} and {@code PER_PARTITION}), time-to-live and max-idle apply; as the heap
+ * used by in-process entries is not measured, configurations with heap-based sizes are rejected.
+ */
+public class LocalCacheManager
+		implements CacheManager
+{
+	private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+	private final Config config;
+
+	/**
+	 * @param config configuration holding the {@link MapConfig}s of caches.
+	 * @throws IllegalStateException if a {@link MapConfig} has a heap-based size.
+	 */
+	public LocalCacheManager(final Config config)
+	{
+		this.config = config;
+
+		// Failing on startup rather than on first use of a cache without an entry-count bound
+		config.getMapConfigs().values().forEach(this::getMaxSize);
+	}
+
+	@Override
+	public Cache getCache(final String name)
+	{
+		return this.caches.computeIfAbsent(name, cacheName ->
+		{
+			// Resolving configurations of wildcard patterns and the 'default' configuration as a server instance does
+			final MapConfig mapConfig = this.config.findMapConfig(cacheName);
+			final Duration timeToLive = Duration.ofSeconds(mapConfig.getTimeToLiveSeconds());
+			final Duration maxIdle = Duration.ofSeconds(mapConfig.getMaxIdleSeconds());
+
+			return new LocalStoreCache(cacheName, new LocalCacheStore(getMaxSize(mapConfig), timeToLive, maxIdle));
+		});
+	}
+
+	@Override
+	public Collection<String> getCacheNames()
+	{
+		return Collections.unmodifiableSet(this.caches.keySet());
+	}
+
+	/**
+	 * @param mapConfig configuration of the cache.
+	 * @return maximum number of entries in the cache.
+	 * @throws IllegalStateException if the cache has a heap-based size.
+	 */
+	private int getMaxSize(final MapConfig mapConfig)
+	{
+		final EvictionConfig evictionConfig = mapConfig.getEvictionConfig();
+
+		return switch (evictionConfig.getMaxSizePolicy())
+		{
+			case PER_NODE -> evictionConfig.getSize();
+
+			// Holding the entries of all partitions in a single store
+			case PER_PARTITION -> (int) Math.min(Integer.MAX_VALUE, (long) evictionConfig.getSize() * getPartitionCount());
+
+			default -> throw new IllegalStateException("Cache '" + mapConfig.getName() + "' is sized by " + evictionConfig.getMaxSizePolicy()
+														+ ", which cannot bound local caches; use PER_NODE or PER_PARTITION instead");
+		};
+	}
+
+	/**
+	 * @return number of partitions of a server instance created with the configuration.
+	 */
+	private int getPartitionCount()
+	{
+		final String partitionCount = this.config.getProperty(ClusterProperty.PARTITION_COUNT.getName());
+
+		return Integer.parseInt(partitionCount == null ? ClusterProperty.PARTITION_COUNT.getDefaultValue() : partitionCount);
+	}
+}
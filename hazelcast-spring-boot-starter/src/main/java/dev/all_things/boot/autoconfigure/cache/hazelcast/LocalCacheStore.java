@@ -0,0 +1,295 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, time-to-live and max-idle aware in-process key-value store.
+ * <p>
+ * Backed by {@link ConcurrentHashMap}, hence reads are lock-free and writes are striped per bin.
+ * Once {maxSize} is reached, expired entries are purged first, and then an arbitrary
+ * batch of entries is evicted; hence the bound is approximate under concurrent writes.
+ * Concurrent loads of a key through {@link #get(Object, Callable)} are collapsed into a single load.
+ */
+public class LocalCacheStore
+{
+	private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+	private final int maxSize;
+
+	private final long timeToLiveNanos;
+
+	private final long maxIdleNanos;
+
+	private final int evictionBatchSize;
+
+	/**
+	 * @param maxSize    maximum number of entries in the store.
+	 * @param timeToLive maximum duration for which an entry stays in the store; {@link Duration#ZERO} for infinite.
+	 */
+	public LocalCacheStore(final int maxSize, final Duration timeToLive)
+	{
+		this(maxSize, timeToLive, Duration.ZERO);
+	}
+
+	/**
+	 * @param maxSize    maximum number of entries in the store.
+	 * @param timeToLive maximum duration for which an entry stays in the store; {@link Duration#ZERO} for infinite.
+	 * @param maxIdle    maximum duration for which an unread entry stays in the store; {@link Duration#ZERO} for infinite.
+	 */
+	public LocalCacheStore(final int maxSize, final Duration timeToLive, final Duration maxIdle)
+	{
+		this.maxSize = maxSize;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.maxIdleNanos = maxIdle.toNanos();
+		this.evictionBatchSize = Math.max(1, maxSize / 16);
+	}
+
+	/**
+	 * @param key key of the entry.
+	 * @return value of the entry or {@code null} if there is no (unexpired) entry for the key.
+	 */
+	public Object get(final Object key)
+	{
+		final Entry entry = this.entries.get(key);
+
+		if (entry == null)
+		{
+			return null;
+		}
+
+		final long now = System.nanoTime();
+
+		if (isExpired(entry, now))
+		{
+			this.entries.remove(key, entry);
+
+			return null;
+		}
+
+		if (this.maxIdleNanos > 0)
+		{
+			entry.accessedAt = now;
+		}
+
+		return entry.value;
+	}
+
+	/**
+	 * Returns the value of the entry, loading and storing it on a miss.
+	 * <p>
+	 * Only the first caller missing the key runs {loader}; concurrent callers of the same key wait for its value,
+	 * or its failure, rather than loading the value again.
+	 *
+	 * @param key    key of the entry.
+	 * @param loader loader of the (non-null) value of the entry.
+	 * @return existing or loaded value of the entry.
+	 * @throws Exception thrown by {loader}, either of this or of a concurrent caller.
+	 */
+	public Object get(final Object key, final Callable<?> loader) throws Exception
+	{
+		final Object existing = get(key);
+
+		if (existing != null)
+		{
+			return existing;
+		}
+
+		final CompletableFuture<Object> load = new CompletableFuture<>();
+		final CompletableFuture<Object> concurrentLoad = this.loads.putIfAbsent(key, load);
+
+		if (concurrentLoad != null)
+		{
+			return await(concurrentLoad);
+		}
+
+		try
+		{
+			// Re-reading as a concurrent load may have stored the value before this one was registered
+			Object value = get(key);
+
+			if (value == null)
+			{
+				value = loader.call();
+
+				put(key, value);
+			}
+
+			load.complete(value);
+
+			return value;
+		}
+		catch (final Throwable e)
+		{
+			load.completeExceptionally(e);
+
+			throw e;
+		}
+		finally
+		{
+			this.loads.remove(key, load);
+		}
+	}
+
+	/**
+	 * Stores an entry with default time-to-live of the store.
+	 *
+	 * @param key   key of the entry.
+	 * @param value value of the entry.
+	 */
+	public void put(final Object key, final Object value)
+	{
+		put(key, value, this.timeToLiveNanos);
+	}
+
+	/**
+	 * Stores an entry with provided time-to-live.
+	 *
+	 * @param key             key of the entry.
+	 * @param value           value of the entry.
+	 * @param timeToLiveNanos maximum duration for which the entry stays in the store; 0 for infinite.
+	 */
+	public void put(final Object key, final Object value, final long timeToLiveNanos)
+	{
+		if (this.entries.size() >= this.maxSize && !this.entries.containsKey(key))
+		{
+			evict();
+		}
+
+		final long now = System.nanoTime();
+
+		this.entries.put(key, new Entry(value, timeToLiveNanos > 0 ? now + timeToLiveNanos : 0, now));
+	}
+
+	/**
+	 * Stores an entry unless an (unexpired) entry exists for the key.
+	 *
+	 * @param key   key of the entry.
+	 * @param value value of the entry.
+	 * @return existing value or {@code null} if provided value was stored.
+	 */
+	public Object putIfAbsent(final Object key, final Object value)
+	{
+		final Object existing = get(key);
+
+		if (existing != null)
+		{
+			return existing;
+		}
+
+		if (this.entries.size() >= this.maxSize)
+		{
+			evict();
+		}
+
+		final long now = System.nanoTime();
+		final long expiresAt = this.timeToLiveNanos > 0 ? now + this.timeToLiveNanos : 0;
+		final Entry previous = this.entries.putIfAbsent(key, new Entry(value, expiresAt, now));
+
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * @param key key of the entry.
+	 * @return removed value or {@code null} if there was no entry for the key.
+	 */
+	public Object remove(final Object key)
+	{
+		final Entry entry = this.entries.remove(key);
+
+		return entry == null ? null : entry.value;
+	}
+
+	public void clear()
+	{
+		this.entries.clear();
+	}
+
+	public int size()
+	{
+		return this.entries.size();
+	}
+
+	/**
+	 * Purges expired entries and, if still required, evicts a batch of entries to make room for new entries.
+	 */
+	private void evict()
+	{
+		final long now = System.nanoTime();
+
+		this.entries.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+
+		final Iterator<Map.Entry<Object, Entry>> iterator = this.entries.entrySet().iterator();
+
+		for (int evicted = 0; this.entries.size() >= this.maxSize && evicted < this.evictionBatchSize && iterator.hasNext(); evicted++)
+		{
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * @param entry entry of the store.
+	 * @param now   current {@link System#nanoTime()}.
+	 * @return whether {entry} outlived its time-to-live, or stayed unread for longer than max-idle.
+	 */
+	private boolean isExpired(final Entry entry, final long now)
+	{
+		return entry.expiresAt != 0 && now - entry.expiresAt >= 0
+			   || this.maxIdleNanos > 0 && now - entry.accessedAt >= this.maxIdleNanos;
+	}
+
+	/**
+	 * @param load load of a concurrent caller.
+	 * @return value loaded by the concurrent caller.
+	 * @throws Exception thrown by the loader of the concurrent caller.
+	 */
+	private static Object await(final CompletableFuture<Object> load) throws Exception
+	{
+		try
+		{
+			return load.join();
+		}
+		catch (final CompletionException e)
+		{
+			if (e.getCause() instanceof Exception exception)
+			{
+				throw exception;
+			}
+
+			throw (Error) e.getCause();
+		}
+	}
+
+	/**
+	 * Value of the store along with its expiration and last access times.
+	 */
+	private static final class Entry
+	{
+		private final Object value;
+
+		/**
+		 * {@link System#nanoTime()} at which the entry expires; 0 if the entry never expires.
+		 */
+		private final long expiresAt;
+
+		/**
+		 * {@link System#nanoTime()} at which the entry was last read or written; only updated on reads with max-idle.
+		 */
+		private volatile long accessedAt;
+
+		Entry(final Object value, final long expiresAt, final long accessedAt)
+		{
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.accessedAt = accessedAt;
+		}
+	}
+}
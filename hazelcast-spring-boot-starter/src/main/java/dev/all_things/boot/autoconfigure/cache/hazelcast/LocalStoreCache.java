@@ -0,0 +1,138 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * {@link Cache} backed by an in-process {@link LocalCacheStore}, without any Hazelcast instance.
+ */
+public class LocalStoreCache
+		extends AbstractValueAdaptingCache
+{
+	private final String name;
+
+	private final LocalCacheStore store;
+
+	/**
+	 * @param name  name of the cache.
+	 * @param store in-process store of the cache.
+	 */
+	public LocalStoreCache(final String name, final LocalCacheStore store)
+	{
+		super(true);
+
+		this.name = name;
+		this.store = store;
+	}
+
+	@Override
+	public String getName()
+	{
+		return this.name;
+	}
+
+	@Override
+	public LocalCacheStore getNativeCache()
+	{
+		return this.store;
+	}
+
+	@Override
+	protected Object lookup(final Object key)
+	{
+		return this.store.get(key);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		final Object existing = lookup(key);
+
+		if (existing != null)
+		{
+			return (T) fromStoreValue(existing);
+		}
+
+		try
+		{
+			// Loading once per key, concurrent misses of the key waiting for the value of the first one
+			return (T) fromStoreValue(this.store.get(key, () -> toStoreValue(valueLoader.call())));
+		}
+		catch (final Exception e)
+		{
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> retrieve(final Object key)
+	{
+		final Object value = lookup(key);
+
+		return value == null ? null : CompletableFuture.completedFuture(toValueWrapper(value));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+	{
+		final Object existing = lookup(key);
+
+		if (existing != null)
+		{
+			return CompletableFuture.completedFuture((T) fromStoreValue(existing));
+		}
+
+		return valueLoader.get().thenApply(value ->
+		{
+			put(key, value);
+
+			return value;
+		});
+	}
+
+	@Override
+	public void put(final Object key, final Object value)
+	{
+		this.store.put(key, toStoreValue(value));
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value)
+	{
+		return toValueWrapper(this.store.putIfAbsent(key, toStoreValue(value)));
+	}
+
+	@Override
+	public void evict(final Object key)
+	{
+		this.store.remove(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(final Object key)
+	{
+		return this.store.remove(key) != null;
+	}
+
+	@Override
+	public void clear()
+	{
+		this.store.clear();
+	}
+
+	@Override
+	public boolean invalidate()
+	{
+		final boolean present = this.store.size() > 0;
+
+		this.store.clear();
+
+		return present;
+	}
+}
@@ -0,0 +1,64 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.function.Supplier;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nearcache.NearCacheStats;
+
+/**
+ * Provides statistics of client side Near Caches.
+ */
+public class NearCacheStatistics
+{
+	private final Supplier<HazelcastInstance> hazelcastInstance;
+
+	public NearCacheStatistics(final HazelcastInstance hazelcastInstance)
+	{
+		this(() -> hazelcastInstance);
+	}
+
+	/**
+	 * @param hazelcastInstance supplies the {@link HazelcastInstance} on first use.
+	 */
+	public NearCacheStatistics(final Supplier<HazelcastInstance> hazelcastInstance)
+	{
+		this.hazelcastInstance = hazelcastInstance;
+	}
+
+	/**
+	 * Provides Near Cache statistics of the given cache.
+	 *
+	 * @param cacheName name of the cache.
+	 * @return {@link NearCacheStats} of the cache or {@code null} if Near Cache is not configured for the cache.
+	 */
+	public NearCacheStats getStats(final String cacheName)
+	{
+		final IMap<Object, Object> map = this.hazelcastInstance.get().getMap(cacheName);
+
+		return map.getLocalMapStats().getNearCacheStats();
+	}
+
+	/**
+	 * Provides the share of reads served by Near Cache of the given cache i.e. {@code hits / (hits + misses)}.
+	 * <p>
+	 * Unlike {@link NearCacheStats#getRatio()} (hits to misses percentage), the returned value is always between 0 and 1.
+	 *
+	 * @param cacheName name of the cache.
+	 * @return hit ratio of the Near Cache or {@link Double#NaN} if there were no reads or Near Cache is not configured.
+	 */
+	public double getHitRatio(final String cacheName)
+	{
+		final NearCacheStats stats = getStats(cacheName);
+
+		if (stats == null)
+		{
+			return Double.NaN;
+		}
+
+		final long hits = stats.getHits();
+		final long reads = hits + stats.getMisses();
+
+		return reads == 0 ? Double.NaN : (double) hits / reads;
+	}
+}
@@ -0,0 +1,58 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+/**
+ * {@link KeyGenerator} producing {@link CacheKey}s routed by {@link PartitionKey} parameters.
+ * <p>
+ * Like {@link org.springframework.cache.interceptor.SimpleKeyGenerator}, a single (non-null, non-array) parameter
+ * is used as the key itself, hence no key is allocated and the parameter determines the partition.
+ */
+public class PartitionAwareKeyGenerator
+		implements KeyGenerator
+{
+	private final Map<Method, Integer> partitionKeyIndexes = new ConcurrentHashMap<>();
+
+	@Override
+	public Object generate(final Object target, final Method method, final Object... params)
+	{
+		if (params.length == 0)
+		{
+			return CacheKey.EMPTY;
+		}
+
+		if (params.length == 1 && params[0] != null && !params[0].getClass().isArray())
+		{
+			return params[0];
+		}
+
+		return new CacheKey(params, this.partitionKeyIndexes.computeIfAbsent(method, PartitionAwareKeyGenerator::findPartitionKeyIndex));
+	}
+
+	/**
+	 * @param method cached method.
+	 * @return index of the first parameter annotated with {@link PartitionKey} or -1 if there is none.
+	 */
+	private static int findPartitionKeyIndex(final Method method)
+	{
+		final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+
+		for (int index = 0; index < parameterAnnotations.length; index++)
+		{
+			for (final Annotation annotation : parameterAnnotations[index])
+			{
+				if (annotation instanceof PartitionKey)
+				{
+					return index;
+				}
+			}
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,16 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a parameter of a cached method whose value determines the partition of the cache key,
+ * hence entries sharing the value (e.g. tenant / customer id) are co-located on a single partition.
+ * <p>
+ * Applied by {@link PartitionAwareKeyGenerator} to methods with multiple parameters.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PartitionKey
+{
+}
@@ -0,0 +1,69 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.QueryCache;
+
+/**
+ * Provides client side Continuous Query Caches declared through
+ * {@code application.cache.hazelcast.client.query-caches.<query-cache-name>} properties.
+ * <p>
+ * A query cache holds entries of a map matching its predicate, maintained from change events of the map,
+ * hence predicate queries and reads of the query cache are served in-process, without a cluster-wide scan.
+ */
+public class QueryCacheManager
+{
+	private final Supplier<HazelcastInstance> hazelcastInstance;
+
+	private final Map<String, HazelcastProperties.Client.QueryCache> queryCaches;
+
+	/**
+	 * @param hazelcastInstance supplies the client {@link HazelcastInstance} on first use.
+	 * @param queryCaches       user configured query cache properties keyed by query cache name.
+	 */
+	public QueryCacheManager(final Supplier<HazelcastInstance> hazelcastInstance, final Map<String, HazelcastProperties.Client.QueryCache> queryCaches)
+	{
+		this.hazelcastInstance = hazelcastInstance;
+		this.queryCaches = queryCaches;
+	}
+
+	/**
+	 * @param name name of the query cache.
+	 * @param <K>  type of keys.
+	 * @param <V>  type of values.
+	 * @return query cache of provided name or {@code null} if it is not declared.
+	 */
+	public <K, V> QueryCache<K, V> getQueryCache(final String name)
+	{
+		final HazelcastProperties.Client.QueryCache queryCache = this.queryCaches.get(name);
+
+		return queryCache == null ? null : getQueryCache(this.hazelcastInstance.get(), name, queryCache);
+	}
+
+	/**
+	 * @return names of declared query caches.
+	 */
+	public Set<String> getQueryCacheNames()
+	{
+		return this.queryCaches.keySet();
+	}
+
+	/**
+	 * Provides a query cache, creating (and populating) it on first access.
+	 *
+	 * @param hazelcastInstance client {@link HazelcastInstance}.
+	 * @param name              name of the query cache.
+	 * @param queryCache        user configured query cache properties.
+	 * @param <K>               type of keys.
+	 * @param <V>               type of values.
+	 * @return query cache of provided name.
+	 */
+	public static <K, V> QueryCache<K, V> getQueryCache(final HazelcastInstance hazelcastInstance, final String name,
+														final HazelcastProperties.Client.QueryCache queryCache)
+	{
+		return hazelcastInstance.<K, V>getMap(queryCache.getMap() == null ? name : queryCache.getMap()).getQueryCache(name);
+	}
+}
@@ -0,0 +1,303 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.hazelcast.core.EntryView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@link Cache} reloading entries in background once {threshold} of their time-to-live has passed,
+ * while callers are served the current value.
+ * <p>
+ * Entries read with a value loader are read through the decorated cache, hence through Near Cache, updating access
+ * statistics of entries. Refresh times are tracked locally: from the write time of entries loaded / written by this
+ * instance, and otherwise from {@link com.hazelcast.map.IMap#getEntryView(Object)}, sampled once per entry.
+ * Reloads are deduplicated per key locally and cluster-wide through {@link CacheLeases}.
+ */
+public class RefreshAheadCache
+		extends DelegatingCache
+{
+	/**
+	 * Maximum number of keys whose refresh time is tracked, beyond which tracked refresh times are discarded.
+	 */
+	private static final int MAX_TRACKED_KEYS = 100_000;
+
+	private static final Logger logger = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+	private final AsyncHazelcastCache cache;
+
+	private final double threshold;
+
+	private final long refreshDelayMillis;
+
+	private final Executor executor;
+
+	private final TaskDecorator taskDecorator;
+
+	private final CacheLeases leases;
+
+	private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+	private final ConcurrentMap<Object, Long> refreshTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param delegate      cache being decorated.
+	 * @param cache         Hazelcast backed cache, read for expiration times of entries not written by this instance.
+	 * @param threshold     fraction of the time-to-live of an entry after which a read reloads it.
+	 * @param timeToLive    minimum time-to-live of entries written by this instance; zero if unknown.
+	 * @param executor      bounded executor performing reloads.
+	 * @param taskDecorator decorates reloads with the context of the reading thread; may be {@code null}.
+	 * @param leases        cluster-wide leases of reloaded keys.
+	 */
+	public RefreshAheadCache(final Cache delegate, final AsyncHazelcastCache cache, final double threshold, final Duration timeToLive,
+							 final Executor executor, final TaskDecorator taskDecorator, final CacheLeases leases)
+	{
+		super(delegate);
+
+		this.cache = cache;
+		this.threshold = threshold;
+		this.refreshDelayMillis = (long) (timeToLive.toMillis() * threshold);
+		this.executor = executor;
+		this.taskDecorator = taskDecorator;
+		this.leases = leases;
+	}
+
+	@Override
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		final AtomicBoolean loaded = new AtomicBoolean();
+		final T value = this.delegate.get(key, () ->
+		{
+			loaded.set(true);
+
+			return valueLoader.call();
+		});
+
+		if (loaded.get())
+		{
+			written(key);
+
+			return value;
+		}
+
+		Long refreshTime = this.refreshTimes.get(key);
+
+		if (refreshTime == null)
+		{
+			// Entry written by another member / client, or before its refresh time was tracked
+			refreshTime = sample(key);
+		}
+
+		if (refreshTime != null && System.currentTimeMillis() >= refreshTime)
+		{
+			refresh(key, valueLoader);
+		}
+
+		return value;
+	}
+
+	@Override
+	public void put(final Object key, final Object value)
+	{
+		this.delegate.put(key, value);
+
+		written(key);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value)
+	{
+		this.refreshTimes.remove(key);
+
+		return this.delegate.putIfAbsent(key, value);
+	}
+
+	@Override
+	public void evict(final Object key)
+	{
+		this.refreshTimes.remove(key);
+		this.delegate.evict(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(final Object key)
+	{
+		this.refreshTimes.remove(key);
+
+		return this.delegate.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear()
+	{
+		this.refreshTimes.clear();
+		this.delegate.clear();
+	}
+
+	@Override
+	public boolean invalidate()
+	{
+		this.refreshTimes.clear();
+
+		return this.delegate.invalidate();
+	}
+
+	/**
+	 * Tracks the refresh time of an entry written by this instance now, if the time-to-live of the cache is known.
+	 *
+	 * @param key key of the entry.
+	 */
+	private void written(final Object key)
+	{
+		if (this.refreshDelayMillis > 0)
+		{
+			track(key, System.currentTimeMillis() + this.refreshDelayMillis);
+		}
+		else
+		{
+			this.refreshTimes.remove(key);
+		}
+	}
+
+	/**
+	 * Tracks the refresh time of an entry from its entry view.
+	 *
+	 * @param key key of the entry.
+	 * @return refresh time of the entry, or {@code null} if it is absent.
+	 */
+	private Long sample(final Object key)
+	{
+		final EntryView<Object, Object> entry = this.cache.getNativeCache().getEntryView(key);
+
+		if (entry == null)
+		{
+			this.refreshTimes.remove(key);
+
+			return null;
+		}
+
+		final long refreshTime = refreshTime(entry);
+
+		track(key, refreshTime);
+
+		return refreshTime;
+	}
+
+	/**
+	 * @param key         key of the entry.
+	 * @param refreshTime time after which a read reloads the entry.
+	 */
+	private void track(final Object key, final long refreshTime)
+	{
+		if (this.refreshTimes.size() >= MAX_TRACKED_KEYS && !this.refreshTimes.containsKey(key))
+		{
+			// Discarded refresh times are sampled again on next reads
+			this.refreshTimes.clear();
+		}
+
+		this.refreshTimes.put(key, refreshTime);
+	}
+
+	/**
+	 * @param entry entry of the map.
+	 * @return time after which {threshold} of the time-to-live of the entry has passed.
+	 */
+	private long refreshTime(final EntryView<Object, Object> entry)
+	{
+		final long timeToLive = entry.getTtl();
+		final long expirationTime = entry.getExpirationTime();
+
+		if (timeToLive <= 0 || timeToLive == Long.MAX_VALUE || expirationTime == Long.MAX_VALUE)
+		{
+			return Long.MAX_VALUE; // Entry never expires
+		}
+
+		return expirationTime - (long) (timeToLive * (1 - this.threshold));
+	}
+
+	/**
+	 * Reloads provided key in background, unless it is already being reloaded locally or by another member / client.
+	 *
+	 * @param key         key of the entry.
+	 * @param valueLoader loader of the value.
+	 */
+	private void refresh(final Object key, final Callable<?> valueLoader)
+	{
+		if (!this.refreshing.add(key))
+		{
+			return;
+		}
+
+		// Reloaded entries keep the tags of the reading thread, as the loader runs outside of its '@CacheTags' method
+		final String[] tags = CacheTagManager.getCurrentTags();
+		final Runnable reload = () ->
+		{
+			try
+			{
+				CacheTagManager.runWithTags(() -> reload(key, valueLoader), tags);
+			}
+			finally
+			{
+				this.refreshing.remove(key);
+			}
+		};
+
+		try
+		{
+			// Decorating on the reading thread, capturing its context
+			this.executor.execute(this.taskDecorator == null ? reload : this.taskDecorator.decorate(reload));
+		}
+		catch (final RejectedExecutionException exception)
+		{
+			// Skipping the reload; the entry is reloaded by a later read or on expiry
+			this.refreshing.remove(key);
+
+			logger.debug("Refresh of cache '{}' skipped as the refresh queue is full", getName());
+		}
+	}
+
+	/**
+	 * Reloads provided key while holding its cluster-wide lease, if it is still due for refresh.
+	 *
+	 * @param key         key of the entry.
+	 * @param valueLoader loader of the value.
+	 */
+	private void reload(final Object key, final Callable<?> valueLoader)
+	{
+		if (!this.leases.tryAcquire(key))
+		{
+			return;
+		}
+
+		try
+		{
+			// Re-checking as another member / client may have reloaded the entry before the lease was acquired
+			final Long refreshTime = sample(key);
+
+			if (refreshTime != null && System.currentTimeMillis() >= refreshTime)
+			{
+				this.delegate.put(key, valueLoader.call());
+
+				written(key);
+			}
+		}
+		catch (final Exception exception)
+		{
+			logger.warn("Refresh of cache '{}' failed, current value is served until it expires", getName(), exception);
+		}
+		finally
+		{
+			this.leases.release(key);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Reloads entries ahead of expiry for caches with enabled
+ * {@code application.cache.hazelcast.caches.<cache-name>.refresh-ahead} properties.
+ * <p>
+ * Reloads of all caches share a bounded executor, shut down along with the decorator. Reloads are decorated by the
+ * {@link TaskDecorator}, if any, on the reading thread, e.g. for propagating its security context to the value loader.
+ */
+public class RefreshAheadCacheDecorator
+		implements HazelcastCacheDecorator, Ordered
+{
+	/**
+	 * Order of the decorator; loads on misses go through {@link StampedeProtectionCacheDecorator}, applied before it.
+	 */
+	public static final int ORDER = 100;
+
+	private static final Logger logger = LoggerFactory.getLogger(RefreshAheadCacheDecorator.class);
+
+	private final Map<String, HazelcastProperties.Cache> caches;
+
+	private final HazelcastProperties.Refresh properties;
+
+	private final Supplier<HazelcastInstance> hazelcastInstance;
+
+	private final ThreadPoolExecutor executor;
+
+	private final TaskDecorator taskDecorator;
+
+	/**
+	 * @param caches            user configured cache properties keyed by cache name.
+	 * @param properties        refresh-ahead properties shared by all caches.
+	 * @param hazelcastInstance supplier of the {@link HazelcastInstance} holding leases of reloaded keys.
+	 * @param taskDecorator     decorates reloads with the context of the reading thread; may be {@code null}.
+	 */
+	public RefreshAheadCacheDecorator(final Map<String, HazelcastProperties.Cache> caches, final HazelcastProperties.Refresh properties,
+									  final Supplier<HazelcastInstance> hazelcastInstance, final TaskDecorator taskDecorator)
+	{
+		this.caches = caches;
+		this.properties = properties;
+		this.hazelcastInstance = hazelcastInstance;
+		this.taskDecorator = taskDecorator;
+
+		final AtomicInteger threadCount = new AtomicInteger();
+
+		this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 1, TimeUnit.MINUTES,
+											   new ArrayBlockingQueue<>(properties.getQueueCapacity()), task ->
+		{
+			final Thread thread = new Thread(task, "hazelcast-cache-refresh-" + threadCount.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		// Releasing idle threads as refreshes happen in bursts, near expiry of entries written together
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	@Override
+	public Cache decorate(final Cache cache)
+	{
+		final HazelcastProperties.Cache properties = this.caches.get(cache.getName());
+		final AsyncHazelcastCache hazelcastCache = AsyncHazelcastCache.unwrap(cache);
+
+		if (properties == null || !properties.getRefreshAhead().getEnabled() || hazelcastCache == null)
+		{
+			return cache;
+		}
+
+		final CacheLeases leases = new CacheLeases(this.hazelcastInstance.get(), cache.getName(), this.properties.getLeaseTime());
+
+		logger.info("Refresh-ahead enabled for cache : {}", cache.getName());
+
+		// Entries written by this instance expire after at least their jittered time-to-live
+		final Duration timeToLive = properties.getTimeToLive().multipliedBy(Math.round((1 - properties.getTimeToLiveJitter()) * 1_000)).dividedBy(1_000);
+
+		return new RefreshAheadCache(cache, hazelcastCache, properties.getRefreshAhead().getThreshold(), timeToLive, this.executor,
+									 this.taskDecorator, leases);
+	}
+
+	/**
+	 * Stops reloading entries; pending reloads are discarded.
+	 */
+	public void shutdown()
+	{
+		this.executor.shutdownNow();
+	}
+
+	@Override
+	public int getOrder()
+	{
+		return ORDER;
+	}
+}
@@ -0,0 +1,228 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} reporting keys and latencies of a sample of its key-based operations to {@link CacheDiagnostics}.
+ * <p>
+ * Unsampled operations only cost drawing a random number; {@code clear} / {@code invalidate} are never sampled.
+ */
+public class SampledCache
+		extends DelegatingCache
+{
+	private final CacheDiagnostics diagnostics;
+
+	private final double sampleRate;
+
+	/**
+	 * @param delegate    cache to be sampled.
+	 * @param diagnostics recorder of sampled operations.
+	 * @param sampleRate  fraction of sampled operations, between 0 and 1.
+	 */
+	public SampledCache(final Cache delegate, final CacheDiagnostics diagnostics, final double sampleRate)
+	{
+		super(delegate);
+
+		this.diagnostics = diagnostics;
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	public ValueWrapper get(final Object key)
+	{
+		if (!sample())
+		{
+			return this.delegate.get(key);
+		}
+
+		final long start = System.nanoTime();
+
+		try
+		{
+			return this.delegate.get(key);
+		}
+		finally
+		{
+			record(key, start);
+		}
+	}
+
+	@Override
+	public <T> T get(final Object key, final Class<T> type)
+	{
+		if (!sample())
+		{
+			return this.delegate.get(key, type);
+		}
+
+		final long start = System.nanoTime();
+
+		try
+		{
+			return this.delegate.get(key, type);
+		}
+		finally
+		{
+			record(key, start);
+		}
+	}
+
+	@Override
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		if (!sample())
+		{
+			return this.delegate.get(key, valueLoader);
+		}
+
+		final long start = System.nanoTime();
+
+		try
+		{
+			return this.delegate.get(key, valueLoader);
+		}
+		finally
+		{
+			record(key, start);
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> retrieve(final Object key)
+	{
+		if (!sample())
+		{
+			return this.delegate.retrieve(key);
+		}
+
+		final long start = System.nanoTime();
+		final CompletableFuture<?> value = this.delegate.retrieve(key);
+
+		if (value == null)
+		{
+			record(key, start);
+
+			return null;
+		}
+
+		return value.whenComplete((result, exception) -> record(key, start));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+	{
+		if (!sample())
+		{
+			return this.delegate.retrieve(key, valueLoader);
+		}
+
+		final long start = System.nanoTime();
+
+		return this.delegate.retrieve(key, valueLoader).whenComplete((result, exception) -> record(key, start));
+	}
+
+	@Override
+	public void put(final Object key, final Object value)
+	{
+		if (!sample())
+		{
+			this.delegate.put(key, value);
+
+			return;
+		}
+
+		final long start = System.nanoTime();
+
+		try
+		{
+			this.delegate.put(key, value);
+		}
+		finally
+		{
+			record(key, start);
+		}
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value)
+	{
+		if (!sample())
+		{
+			return this.delegate.putIfAbsent(key, value);
+		}
+
+		final long start = System.nanoTime();
+
+		try
+		{
+			return this.delegate.putIfAbsent(key, value);
+		}
+		finally
+		{
+			record(key, start);
+		}
+	}
+
+	@Override
+	public void evict(final Object key)
+	{
+		if (!sample())
+		{
+			this.delegate.evict(key);
+
+			return;
+		}
+
+		final long start = System.nanoTime();
+
+		try
+		{
+			this.delegate.evict(key);
+		}
+		finally
+		{
+			record(key, start);
+		}
+	}
+
+	@Override
+	public boolean evictIfPresent(final Object key)
+	{
+		if (!sample())
+		{
+			return this.delegate.evictIfPresent(key);
+		}
+
+		final long start = System.nanoTime();
+
+		try
+		{
+			return this.delegate.evictIfPresent(key);
+		}
+		finally
+		{
+			record(key, start);
+		}
+	}
+
+	/**
+	 * @return whether the current operation is sampled.
+	 */
+	private boolean sample()
+	{
+		return ThreadLocalRandom.current().nextDouble() < this.sampleRate;
+	}
+
+	/**
+	 * Records a sampled operation on provided key, started at {start}.
+	 */
+	private void record(final Object key, final long start)
+	{
+		this.diagnostics.record(getName(), key, System.nanoTime() - start);
+	}
+}
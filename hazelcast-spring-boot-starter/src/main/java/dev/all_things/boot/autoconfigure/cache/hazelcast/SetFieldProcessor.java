@@ -0,0 +1,72 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+/**
+ * Sets a field of a cached value; absent entries are left absent.
+ */
+public class SetFieldProcessor
+		extends CacheEntryProcessor<Boolean>
+{
+	private String field;
+
+	private Object value;
+
+	public SetFieldProcessor()
+	{
+	}
+
+	/**
+	 * @param field name of the field.
+	 * @param value new value of the field.
+	 */
+	public SetFieldProcessor(final String field, final Object value)
+	{
+		this.field = field;
+		this.value = value;
+	}
+
+	@Override
+	public Boolean process(final Map.Entry<Object, Object> entry)
+	{
+		final Object cached = getValue(entry);
+
+		if (cached == null)
+		{
+			return false;
+		}
+
+		setField(cached, this.field, this.value);
+		store(entry, cached, true);
+
+		return true;
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		super.writeData(out);
+
+		out.writeString(this.field);
+		out.writeObject(this.value);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		super.readData(in);
+
+		this.field = in.readString();
+		this.value = in.readObject();
+	}
+
+	@Override
+	public int getClassId()
+	{
+		return CacheDataSerializableFactory.SET_FIELD_PROCESSOR;
+	}
+}
@@ -0,0 +1,64 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Serializes {@link SimpleKey} as a list of its elements instead of using Java serialization.
+ * <p>
+ * Each element is written with Hazelcast serialization, hence Compact / built-in serializers
+ * of the elements are used.
+ */
+public class SimpleKeyStreamSerializer
+		implements StreamSerializer<SimpleKey>
+{
+	/**
+	 * Type id of the serializer; must be unique among custom serializers.
+	 */
+	public static final int TYPE_ID = 1_300;
+
+	private static final Field PARAMS = ReflectionUtils.findField(SimpleKey.class, "params");
+
+	static
+	{
+		ReflectionUtils.makeAccessible(PARAMS);
+	}
+
+	@Override
+	public void write(final ObjectDataOutput out, final SimpleKey key) throws IOException
+	{
+		final Object[] params = (Object[]) ReflectionUtils.getField(PARAMS, key);
+
+		out.writeInt(params.length);
+
+		for (final Object param : params)
+		{
+			out.writeObject(param);
+		}
+	}
+
+	@Override
+	public SimpleKey read(final ObjectDataInput in) throws IOException
+	{
+		final Object[] params = new Object[in.readInt()];
+
+		for (int index = 0; index < params.length; index++)
+		{
+			params[index] = in.readObject();
+		}
+
+		return new SimpleKey(params);
+	}
+
+	@Override
+	public int getTypeId()
+	{
+		return TYPE_ID;
+	}
+}
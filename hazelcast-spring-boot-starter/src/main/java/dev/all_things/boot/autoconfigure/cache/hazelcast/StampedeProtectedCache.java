@@ -0,0 +1,240 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} loading a missing key once per process and once across the cluster, instead of taking its map lock.
+ * <p>
+ * Concurrent loads of a key in a process wait for a single in-flight load (single-flight). Across the cluster, the
+ * member / client holding the {@link CacheLeases lease} of the key loads it, while other ones poll for the loaded value
+ * until {waitTimeout}, loading it themselves afterward or once the lease is released without a value.
+ */
+public class StampedeProtectedCache
+		extends DelegatingCache
+{
+	private final CacheLeases leases;
+
+	private final long waitTimeoutNanos;
+
+	private final long pollIntervalMillis;
+
+	private final ConcurrentMap<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+	private final LongAdder leaderLoads = new LongAdder();
+
+	private final LongAdder coalescedLoads = new LongAdder();
+
+	private final LongAdder awaitedLoads = new LongAdder();
+
+	private final LongAdder fallbackLoads = new LongAdder();
+
+	/**
+	 * @param delegate     Hazelcast backed cache.
+	 * @param leases       cluster-wide leases of loaded keys.
+	 * @param waitTimeout  maximum duration for which the value loaded by another member / client is awaited.
+	 * @param pollInterval interval at which the value loaded by another member / client is checked.
+	 */
+	public StampedeProtectedCache(final Cache delegate, final CacheLeases leases, final Duration waitTimeout, final Duration pollInterval)
+	{
+		super(delegate);
+
+		this.leases = leases;
+		this.waitTimeoutNanos = waitTimeout.toNanos();
+		this.pollIntervalMillis = Math.max(1, pollInterval.toMillis());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		final ValueWrapper cached = this.delegate.get(key);
+
+		if (cached != null)
+		{
+			return (T) cached.get();
+		}
+
+		final CompletableFuture<Object> load = new CompletableFuture<>();
+		final CompletableFuture<Object> inFlight = this.loads.putIfAbsent(key, load);
+
+		if (inFlight != null)
+		{
+			this.coalescedLoads.increment();
+
+			return (T) join(inFlight);
+		}
+
+		try
+		{
+			final Object value = load(key, valueLoader);
+
+			load.complete(value);
+
+			return (T) value;
+		}
+		catch (final RuntimeException | Error failure)
+		{
+			load.completeExceptionally(failure);
+
+			throw failure;
+		}
+		finally
+		{
+			this.loads.remove(key, load);
+		}
+	}
+
+	/**
+	 * @return number of keys loaded while holding their lease.
+	 */
+	public long getLeaderLoadCount()
+	{
+		return this.leaderLoads.sum();
+	}
+
+	/**
+	 * @return number of loads served by a load in-flight in this process.
+	 */
+	public long getCoalescedLoadCount()
+	{
+		return this.coalescedLoads.sum();
+	}
+
+	/**
+	 * @return number of loads served by the value loaded by another member / client.
+	 */
+	public long getAwaitedLoadCount()
+	{
+		return this.awaitedLoads.sum();
+	}
+
+	/**
+	 * @return number of keys loaded without their lease, after waiting for another member / client in vain.
+	 */
+	public long getFallbackLoadCount()
+	{
+		return this.fallbackLoads.sum();
+	}
+
+	/**
+	 * Loads provided key while holding its lease, or waits for the member / client holding it.
+	 *
+	 * @param key         key of the entry.
+	 * @param valueLoader loader of the value.
+	 * @return loaded value.
+	 */
+	private Object load(final Object key, final Callable<?> valueLoader)
+	{
+		if (this.leases.tryAcquire(key))
+		{
+			try
+			{
+				// Re-reading as another member / client may have loaded the key before the lease was acquired
+				final ValueWrapper cached = this.delegate.get(key);
+
+				if (cached != null)
+				{
+					return cached.get();
+				}
+
+				this.leaderLoads.increment();
+
+				return loadAndPut(key, valueLoader);
+			}
+			finally
+			{
+				this.leases.release(key);
+			}
+		}
+
+		final long deadline = System.nanoTime() + this.waitTimeoutNanos;
+
+		while (System.nanoTime() - deadline < 0)
+		{
+			try
+			{
+				Thread.sleep(this.pollIntervalMillis);
+			}
+			catch (final InterruptedException exception)
+			{
+				Thread.currentThread().interrupt();
+
+				break;
+			}
+
+			final ValueWrapper cached = this.delegate.get(key);
+
+			if (cached != null)
+			{
+				this.awaitedLoads.increment();
+
+				return cached.get();
+			}
+
+			if (!this.leases.isHeld(key))
+			{
+				break; // Lease holder failed to load the key or its lease expired
+			}
+		}
+
+		this.fallbackLoads.increment();
+
+		return loadAndPut(key, valueLoader);
+	}
+
+	/**
+	 * Invokes provided loader and caches the loaded value.
+	 *
+	 * @param key         key of the entry.
+	 * @param valueLoader loader of the value.
+	 * @return loaded value.
+	 */
+	private Object loadAndPut(final Object key, final Callable<?> valueLoader)
+	{
+		final Object value;
+
+		try
+		{
+			value = valueLoader.call();
+		}
+		catch (final Exception exception)
+		{
+			throw new ValueRetrievalException(key, valueLoader, exception);
+		}
+
+		this.delegate.put(key, value);
+
+		return value;
+	}
+
+	/**
+	 * Waits for a load in-flight in this process, rethrowing its failure.
+	 *
+	 * @param inFlight in-flight load.
+	 * @return loaded value.
+	 */
+	private static Object join(final CompletableFuture<Object> inFlight)
+	{
+		try
+		{
+			return inFlight.join();
+		}
+		catch (final CompletionException exception)
+		{
+			if (exception.getCause() instanceof RuntimeException runtimeException)
+			{
+				throw runtimeException;
+			}
+
+			throw exception;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.core.Ordered;
+
+/**
+ * Protects caches with enabled {@code application.cache.hazelcast.caches.<cache-name>.stampede-protection}
+ * properties against concurrent loads of missing keys.
+ */
+public class StampedeProtectionCacheDecorator
+		implements HazelcastCacheDecorator, Ordered
+{
+	/**
+	 * Order of the decorator; wraps the Hazelcast backed cache directly, hence loads of other decorators
+	 * (e.g. {@link RefreshAheadCacheDecorator}) on misses are protected as well.
+	 */
+	public static final int ORDER = 50;
+
+	private static final Logger logger = LoggerFactory.getLogger(StampedeProtectionCacheDecorator.class);
+
+	private final Map<String, HazelcastProperties.Cache> caches;
+
+	private final Supplier<HazelcastInstance> hazelcastInstance;
+
+	/**
+	 * @param caches            user configured cache properties keyed by cache name.
+	 * @param hazelcastInstance supplier of the {@link HazelcastInstance} holding leases of loaded keys.
+	 */
+	public StampedeProtectionCacheDecorator(final Map<String, HazelcastProperties.Cache> caches, final Supplier<HazelcastInstance> hazelcastInstance)
+	{
+		this.caches = caches;
+		this.hazelcastInstance = hazelcastInstance;
+	}
+
+	@Override
+	public Cache decorate(final Cache cache)
+	{
+		final HazelcastProperties.Cache properties = this.caches.get(cache.getName());
+
+		if (properties == null || !properties.getStampedeProtection().getEnabled() || AsyncHazelcastCache.unwrap(cache) == null)
+		{
+			return cache;
+		}
+
+		final HazelcastProperties.Cache.StampedeProtection stampedeProtection = properties.getStampedeProtection();
+		final CacheLeases leases = new CacheLeases(this.hazelcastInstance.get(), cache.getName(), stampedeProtection.getLeaseTime());
+
+		logger.info("Stampede protection enabled for cache : {}", cache.getName());
+
+		return new StampedeProtectedCache(cache, leases, stampedeProtection.getWaitTimeout(), stampedeProtection.getPollInterval());
+	}
+
+	@Override
+	public int getOrder()
+	{
+		return ORDER;
+	}
+}
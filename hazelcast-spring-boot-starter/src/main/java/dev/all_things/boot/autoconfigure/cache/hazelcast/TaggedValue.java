@@ -0,0 +1,98 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+
+import com.hazelcast.internal.nio.DataReader;
+import com.hazelcast.internal.nio.DataWriter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+
+/**
+ * Cached value of a tagged cache along with its tags, indexed as {@code tags[any]} for {@link CacheTagManager#evictByTag}.
+ * <p>
+ * Attributes of the original value are queried as {@code value.<attribute>}.
+ */
+public class TaggedValue
+		implements IdentifiedDataSerializable
+{
+	/**
+	 * Attribute of the tags, as queried and indexed.
+	 */
+	public static final String TAGS_ATTRIBUTE = "tags[any]";
+
+	private Object value;
+
+	private String[] tags;
+
+	public TaggedValue()
+	{
+	}
+
+	/**
+	 * @param value original value in stored form, possibly serialized.
+	 * @param tags  tags of the value, possibly empty.
+	 */
+	public TaggedValue(final Object value, final String[] tags)
+	{
+		this.value = value;
+		this.tags = tags;
+	}
+
+	public Object getValue()
+	{
+		return this.value;
+	}
+
+	public String[] getTags()
+	{
+		return this.tags;
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		// Writing values already serialized by {ValueCompressor} as is, instead of serializing them again
+		if (this.value instanceof Data data)
+		{
+			out.writeBoolean(true);
+			((DataWriter) out).writeData(data);
+		}
+		else
+		{
+			out.writeBoolean(false);
+			out.writeObject(this.value);
+		}
+
+		out.writeStringArray(this.tags);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		if (in.readBoolean())
+		{
+			this.value = ((SerializationServiceSupport) in).getSerializationService().toObject(((DataReader) in).readData());
+		}
+		else
+		{
+			this.value = in.readObject();
+		}
+
+		this.tags = in.readStringArray();
+	}
+
+	@Override
+	public int getFactoryId()
+	{
+		return CacheDataSerializableFactory.FACTORY_ID;
+	}
+
+	@Override
+	public int getClassId()
+	{
+		return CacheDataSerializableFactory.TAGGED_VALUE;
+	}
+}
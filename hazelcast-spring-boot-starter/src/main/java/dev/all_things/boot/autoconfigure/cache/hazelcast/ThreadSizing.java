@@ -0,0 +1,183 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.IntUnaryOperator;
+
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.spi.properties.HazelcastProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sizes thread pools and invocation limits of server and client instances, from user configured counts or,
+ * with {@code auto}, from the processors available to the process.
+ * <p>
+ * Available processors are bounded by the CPU quota of the container (cgroup v1 or v2), on top of
+ * {@link Runtime#availableProcessors()}, which does not honor quotas with container support disabled.
+ */
+public final class ThreadSizing
+{
+	private static final Logger logger = LoggerFactory.getLogger(ThreadSizing.class);
+
+	private static final Path CGROUP_V2_CPU_MAX = Path.of("/sys/fs/cgroup/cpu.max");
+
+	private static final Path CGROUP_V1_CPU_QUOTA = Path.of("/sys/fs/cgroup/cpu/cpu.cfs_quota_us");
+
+	private static final Path CGROUP_V1_CPU_PERIOD = Path.of("/sys/fs/cgroup/cpu/cpu.cfs_period_us");
+
+	private ThreadSizing()
+	{
+	}
+
+	/**
+	 * Applies thread counts and backpressure limits of a server instance through {@link ClusterProperty} entries.
+	 *
+	 * @param setProperty  setter of Hazelcast properties of the instance.
+	 * @param threads      user configured thread counts.
+	 * @param backpressure user configured backpressure limits.
+	 */
+	public static void configure(final BiConsumer<String, String> setProperty, final HazelcastProperties.Server.Threads threads,
+								 final HazelcastProperties.Server.Backpressure backpressure)
+	{
+		final int processors = availableProcessors();
+		final Map<HazelcastProperty, Integer> counts = new LinkedHashMap<>();
+
+		// Sizing partition threads to processors as partition operations are short and CPU bound
+		counts.put(ClusterProperty.PARTITION_OPERATION_THREAD_COUNT, size(threads.getPartitionOperation(), threads.getAuto(), processors, cpus -> Math.max(2, cpus)));
+		counts.put(ClusterProperty.GENERIC_OPERATION_THREAD_COUNT, size(threads.getGenericOperation(), threads.getAuto(), processors, cpus -> Math.max(2, cpus / 2)));
+		counts.put(ClusterProperty.IO_INPUT_THREAD_COUNT, size(threads.getIoInput(), threads.getAuto(), processors, cpus -> Math.max(1, cpus / 4)));
+		counts.put(ClusterProperty.IO_OUTPUT_THREAD_COUNT, size(threads.getIoOutput(), threads.getAuto(), processors, cpus -> Math.max(1, cpus / 4)));
+
+		counts.forEach((property, count) -> set(setProperty, property, count));
+
+		setProperty.accept(ClusterProperty.BACKPRESSURE_ENABLED.getName(), String.valueOf(backpressure.getEnabled()));
+		setProperty.accept(ClusterProperty.BACKPRESSURE_MAX_CONCURRENT_INVOCATIONS_PER_PARTITION.getName(),
+						   String.valueOf(backpressure.getMaxConcurrentInvocationsPerPartition()));
+		setProperty.accept(ClusterProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS.getName(), String.valueOf(backpressure.getBackoffTimeout().toMillis()));
+
+		logger.info("Hazelcast server threads sized for {} available processors : {}, backpressure : {} (max {} invocations per partition)",
+					processors, describe(counts), backpressure.getEnabled(), backpressure.getMaxConcurrentInvocationsPerPartition());
+	}
+
+	/**
+	 * Applies thread counts and invocation limits of a client instance through {@link ClientProperty} entries.
+	 *
+	 * @param setProperty  setter of Hazelcast properties of the instance.
+	 * @param threads      user configured thread counts.
+	 * @param backpressure user configured invocation limits.
+	 */
+	public static void configure(final BiConsumer<String, String> setProperty, final HazelcastProperties.Client.Threads threads,
+								 final HazelcastProperties.Client.Backpressure backpressure)
+	{
+		final int processors = availableProcessors();
+		final Map<HazelcastProperty, Integer> counts = new LinkedHashMap<>();
+
+		counts.put(ClientProperty.EVENT_THREAD_COUNT, size(threads.getEvent(), threads.getAuto(), processors, cpus -> Math.max(2, cpus / 2)));
+		counts.put(ClientProperty.IO_INPUT_THREAD_COUNT, size(threads.getIoInput(), threads.getAuto(), processors, cpus -> Math.max(1, cpus / 4)));
+		counts.put(ClientProperty.IO_OUTPUT_THREAD_COUNT, size(threads.getIoOutput(), threads.getAuto(), processors, cpus -> Math.max(1, cpus / 4)));
+
+		counts.forEach((property, count) -> set(setProperty, property, count));
+
+		setProperty.accept(ClientProperty.MAX_CONCURRENT_INVOCATIONS.getName(), String.valueOf(backpressure.getMaxConcurrentInvocations()));
+
+		if (backpressure.getBackoffTimeout() != null)
+		{
+			setProperty.accept(ClientProperty.BACKPRESSURE_BACKOFF_TIMEOUT_MILLIS.getName(), String.valueOf(backpressure.getBackoffTimeout().toMillis()));
+		}
+
+		logger.info("Hazelcast client threads sized for {} available processors : {}, max concurrent invocations : {}",
+					processors, describe(counts), backpressure.getMaxConcurrentInvocations());
+	}
+
+	/**
+	 * @return processors available to the process, bounded by the CPU quota of its container.
+	 */
+	public static int availableProcessors()
+	{
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final double quota = cpuQuota();
+
+		return quota > 0 ? Math.max(1, Math.min(processors, (int) Math.ceil(quota))) : processors;
+	}
+
+	/**
+	 * @return CPU quota of the container in processors, or 0 if unlimited or unknown.
+	 */
+	private static double cpuQuota()
+	{
+		try
+		{
+			if (Files.isReadable(CGROUP_V2_CPU_MAX))
+			{
+				// Formatted as '<quota> <period>', with 'max' as quota if unlimited
+				final String[] values = Files.readString(CGROUP_V2_CPU_MAX).trim().split("\\s+");
+
+				return "max".equals(values[0]) ? 0 : Double.parseDouble(values[0]) / Double.parseDouble(values[1]);
+			}
+
+			if (Files.isReadable(CGROUP_V1_CPU_QUOTA) && Files.isReadable(CGROUP_V1_CPU_PERIOD))
+			{
+				// Quota is -1 if unlimited
+				final double quota = Double.parseDouble(Files.readString(CGROUP_V1_CPU_QUOTA).trim());
+
+				return quota <= 0 ? 0 : quota / Double.parseDouble(Files.readString(CGROUP_V1_CPU_PERIOD).trim());
+			}
+		}
+		catch (final IOException | RuntimeException exception)
+		{
+			logger.debug("CPU quota could not be read, using available processors", exception);
+		}
+
+		return 0;
+	}
+
+	/**
+	 * @param configured user configured count or {@code null}.
+	 * @param auto       whether to size pools without a configured count.
+	 * @param processors available processors.
+	 * @param sizing     count of a pool sized for available processors.
+	 * @return count of the pool or {@code null} to keep the Hazelcast default.
+	 */
+	private static Integer size(final Integer configured, final boolean auto, final int processors, final IntUnaryOperator sizing)
+	{
+		if (configured != null)
+		{
+			return configured;
+		}
+
+		return auto ? sizing.applyAsInt(processors) : null;
+	}
+
+	/**
+	 * Sets a thread count, unless the Hazelcast default is kept.
+	 */
+	private static void set(final BiConsumer<String, String> setProperty, final HazelcastProperty property, final Integer count)
+	{
+		if (count != null)
+		{
+			setProperty.accept(property.getName(), String.valueOf(count));
+		}
+	}
+
+	/**
+	 * @return thread counts formatted for logging, e.g. 'hazelcast.event.thread.count=4'.
+	 */
+	private static String describe(final Map<HazelcastProperty, Integer> counts)
+	{
+		final StringBuilder description = new StringBuilder();
+
+		counts.forEach((property, count) ->
+		{
+			description.append(description.isEmpty() ? "" : ", ").append(property.getName()).append('=');
+			description.append(count == null ? "default" : count);
+		});
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,244 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} recording latency of {@code get} / {@code retrieve}, {@code put} / {@code putIfAbsent} and
+ * {@code evict} operations with {@link Timer}s.
+ * <p>
+ * Timers are created once when bound to a {@link MeterRegistry}, hence recording synchronous operations allocates
+ * nothing per operation; asynchronous operations are recorded on completion of their futures.
+ * Operations are not recorded until the cache is bound.
+ * <p>
+ * Reads with a value loader look the key up first and load through the delegate on misses only, except for caches
+ * refreshed ahead ({@link RefreshAheadCache}), which are always read with the loader for hits to trigger refreshes.
+ */
+public class TimedCache
+		extends DelegatingCache
+{
+	/**
+	 * Name of the timer recording cache operations.
+	 */
+	public static final String METRIC_NAME = "hazelcast.cache.operations";
+
+	private final boolean readThroughLoader;
+
+	private volatile Timer hits;
+
+	private volatile Timer misses;
+
+	private volatile Timer puts;
+
+	private volatile Timer evictions;
+
+	public TimedCache(final Cache delegate)
+	{
+		super(delegate);
+
+		this.readThroughLoader = isRefreshedAhead(delegate);
+	}
+
+	/**
+	 * Creates timers of the cache in provided registry.
+	 *
+	 * @param registry            registry in which timers are created.
+	 * @param percentileHistogram whether timers publish percentile histograms.
+	 */
+	public void bind(final MeterRegistry registry, final boolean percentileHistogram)
+	{
+		this.hits = timer(registry, "get", "hit", percentileHistogram);
+		this.misses = timer(registry, "get", "miss", percentileHistogram);
+		this.puts = timer(registry, "put", "none", percentileHistogram);
+		this.evictions = timer(registry, "evict", "none", percentileHistogram);
+	}
+
+	@Override
+	public ValueWrapper get(final Object key)
+	{
+		final long start = System.nanoTime();
+		final ValueWrapper value = this.delegate.get(key);
+
+		record(value != null ? this.hits : this.misses, start);
+
+		return value;
+	}
+
+	@Override
+	public <T> T get(final Object key, final Class<T> type)
+	{
+		final long start = System.nanoTime();
+		final T value = this.delegate.get(key, type);
+
+		record(value != null ? this.hits : this.misses, start);
+
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		final long start = System.nanoTime();
+
+		if (this.readThroughLoader)
+		{
+			final AtomicBoolean loaded = new AtomicBoolean();
+			final T value = this.delegate.get(key, () ->
+			{
+				loaded.set(true);
+
+				return valueLoader.call();
+			});
+
+			record(loaded.get() ? this.misses : this.hits, start);
+
+			return value;
+		}
+
+		final ValueWrapper cached = this.delegate.get(key);
+
+		if (cached != null)
+		{
+			record(this.hits, start);
+
+			return (T) cached.get();
+		}
+
+		// Loading through the delegate on misses only, which may still find a value loaded meanwhile
+		final T value = this.delegate.get(key, valueLoader);
+
+		record(this.misses, start);
+
+		return value;
+	}
+
+	@Override
+	public CompletableFuture<?> retrieve(final Object key)
+	{
+		final long start = System.nanoTime();
+		final CompletableFuture<?> value = this.delegate.retrieve(key);
+
+		if (value == null)
+		{
+			// Delegate reporting an absent key immediately
+			record(this.misses, start);
+
+			return null;
+		}
+
+		return value.whenComplete((retrieved, exception) -> record(retrieved != null ? this.hits : this.misses, start));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+	{
+		final long start = System.nanoTime();
+		final AtomicBoolean loaded = new AtomicBoolean();
+
+		return this.delegate.retrieve(key, () ->
+		{
+			loaded.set(true);
+
+			return valueLoader.get();
+		}).whenComplete((value, exception) -> record(loaded.get() ? this.misses : this.hits, start));
+	}
+
+	@Override
+	public void put(final Object key, final Object value)
+	{
+		final long start = System.nanoTime();
+
+		this.delegate.put(key, value);
+
+		record(this.puts, start);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value)
+	{
+		final long start = System.nanoTime();
+		final ValueWrapper existing = this.delegate.putIfAbsent(key, value);
+
+		record(this.puts, start);
+
+		return existing;
+	}
+
+	@Override
+	public void evict(final Object key)
+	{
+		final long start = System.nanoTime();
+
+		this.delegate.evict(key);
+
+		record(this.evictions, start);
+	}
+
+	@Override
+	public boolean evictIfPresent(final Object key)
+	{
+		final long start = System.nanoTime();
+		final boolean evicted = this.delegate.evictIfPresent(key);
+
+		record(this.evictions, start);
+
+		return evicted;
+	}
+
+	/**
+	 * @param cache decorated cache.
+	 * @return whether the cache, or one it decorates, is a {@link RefreshAheadCache}.
+	 */
+	private static boolean isRefreshedAhead(final Cache cache)
+	{
+		Cache target = cache;
+
+		while (target instanceof DelegatingCache delegatingCache)
+		{
+			if (delegatingCache instanceof RefreshAheadCache)
+			{
+				return true;
+			}
+
+			target = delegatingCache.getDelegate();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Records duration of an operation if the cache is bound.
+	 *
+	 * @param timer timer of the operation.
+	 * @param start {@link System#nanoTime()} at the start of the operation.
+	 */
+	private static void record(final Timer timer, final long start)
+	{
+		if (timer != null)
+		{
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Creates (or looks up) a timer of a cache operation.
+	 */
+	private Timer timer(final MeterRegistry registry, final String operation, final String result, final boolean percentileHistogram)
+	{
+		return Timer.builder(METRIC_NAME)
+					.description("Latency of cache operations")
+					.tag("cache", getName())
+					.tag("operation", operation)
+					.tag("result", result)
+					.publishPercentileHistogram(percentileHistogram)
+					.register(registry);
+	}
+}
@@ -0,0 +1,319 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * {@link Cache} serving reads from an in-process (L1) {@link LocalCacheStore} in front of a Hazelcast backed cache.
+ * <p>
+ * Local entries are invalidated by local writes and by entry events of the Hazelcast map,
+ * hence other members / clients invalidate local entries on update, removal, eviction and expiry.
+ * A value read from the Hazelcast map is kept locally only if no invalidation of its key happened during the read:
+ * invalidations increment a stamp per stripe of keys, and a read value is removed again if the stamp of its key
+ * changed by the time it is stored locally. Keys sharing a stripe may drop each other's values, only costing a miss.
+ */
+public class TwoTierCache
+		extends DelegatingCache
+{
+	private final LocalCacheStore store;
+
+	/**
+	 * Number of invalidation stamps, a power of two.
+	 */
+	private static final int STRIPES = 256;
+
+	private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+	private final AtomicLong clears = new AtomicLong();
+
+	/**
+	 * @param delegate Hazelcast backed cache.
+	 * @param store    in-process store of the cache.
+	 */
+	public TwoTierCache(final Cache delegate, final LocalCacheStore store)
+	{
+		super(delegate);
+
+		this.store = store;
+	}
+
+	/**
+	 * Registers a listener invalidating local entries on changes of provided Hazelcast map.
+	 *
+	 * @param map Hazelcast map backing the cache.
+	 * @return registration id of the listener.
+	 */
+	public UUID registerInvalidationListener(final IMap<Object, Object> map)
+	{
+		return map.addEntryListener(new InvalidationListener(), false);
+	}
+
+	@Override
+	public ValueWrapper get(final Object key)
+	{
+		final ValueWrapper local = (ValueWrapper) this.store.get(key);
+
+		if (local != null)
+		{
+			return local;
+		}
+
+		final long stamp = stamp(key);
+		final ValueWrapper remote = this.delegate.get(key);
+
+		if (remote != null)
+		{
+			storeLocal(key, remote, stamp);
+		}
+
+		return remote;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Class<T> type)
+	{
+		final ValueWrapper wrapper = get(key);
+		final Object value = wrapper == null ? null : wrapper.get();
+
+		if (value != null && type != null && !type.isInstance(value))
+		{
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Callable<T> valueLoader)
+	{
+		final ValueWrapper local = (ValueWrapper) this.store.get(key);
+
+		if (local != null)
+		{
+			return (T) local.get();
+		}
+
+		final long stamp = stamp(key);
+		final T value = this.delegate.get(key, valueLoader);
+
+		storeLocal(key, new SimpleValueWrapper(value), stamp);
+
+		return value;
+	}
+
+	@Override
+	public CompletableFuture<?> retrieve(final Object key)
+	{
+		final ValueWrapper local = (ValueWrapper) this.store.get(key);
+
+		if (local != null)
+		{
+			return CompletableFuture.completedFuture(local);
+		}
+
+		final long stamp = stamp(key);
+		final CompletableFuture<?> remote = this.delegate.retrieve(key);
+
+		return remote == null ? null : remote.thenApply(value ->
+		{
+			if (value != null)
+			{
+				storeLocal(key, value instanceof ValueWrapper wrapper ? wrapper : new SimpleValueWrapper(value), stamp);
+			}
+
+			return value;
+		});
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader)
+	{
+		final ValueWrapper local = (ValueWrapper) this.store.get(key);
+
+		if (local != null)
+		{
+			return CompletableFuture.completedFuture((T) local.get());
+		}
+
+		final long stamp = stamp(key);
+
+		return this.delegate.retrieve(key, valueLoader).thenApply(value ->
+		{
+			storeLocal(key, new SimpleValueWrapper(value), stamp);
+
+			return value;
+		});
+	}
+
+	@Override
+	public void put(final Object key, final Object value)
+	{
+		this.delegate.put(key, value);
+
+		invalidateLocal(key);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(final Object key, final Object value)
+	{
+		final ValueWrapper existing = this.delegate.putIfAbsent(key, value);
+
+		invalidateLocal(key);
+
+		return existing;
+	}
+
+	@Override
+	public void evict(final Object key)
+	{
+		this.delegate.evict(key);
+
+		invalidateLocal(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(final Object key)
+	{
+		final boolean evicted = this.delegate.evictIfPresent(key);
+
+		invalidateLocal(key);
+
+		return evicted;
+	}
+
+	@Override
+	public void clear()
+	{
+		this.delegate.clear();
+
+		invalidateLocal();
+	}
+
+	@Override
+	public boolean invalidate()
+	{
+		final boolean invalidated = this.delegate.invalidate();
+
+		invalidateLocal();
+
+		return invalidated;
+	}
+
+	/**
+	 * Removes local entry of provided key, e.g. after the entry was mutated on the Hazelcast map directly.
+	 *
+	 * @param key key of the entry.
+	 */
+	public void invalidateLocal(final Object key)
+	{
+		this.stamps.incrementAndGet(stripe(key));
+		this.store.remove(key);
+	}
+
+	/**
+	 * Removes all local entries.
+	 */
+	private void invalidateLocal()
+	{
+		this.clears.incrementAndGet();
+		this.store.clear();
+	}
+
+	/**
+	 * Keeps a value read from the Hazelcast map locally, unless its key was invalidated since the read started.
+	 * <p>
+	 * Storing before checking the stamp, as an invalidation racing with the check would otherwise be missed.
+	 *
+	 * @param key   key of the entry.
+	 * @param value value read from the Hazelcast map.
+	 * @param stamp stamp of the key when the read started.
+	 */
+	private void storeLocal(final Object key, final ValueWrapper value, final long stamp)
+	{
+		this.store.put(key, value);
+
+		if (stamp(key) != stamp)
+		{
+			this.store.remove(key);
+		}
+	}
+
+	/**
+	 * @param key key of an entry.
+	 * @return stamp changed by every invalidation of the key.
+	 */
+	private long stamp(final Object key)
+	{
+		return this.stamps.get(stripe(key)) + this.clears.get();
+	}
+
+	/**
+	 * @param key key of an entry.
+	 * @return index of the stamp of the key.
+	 */
+	private static int stripe(final Object key)
+	{
+		final int hash = key.hashCode();
+
+		return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+	}
+
+	/**
+	 * Invalidates local entries on changes of the Hazelcast map.
+	 */
+	private class InvalidationListener
+			implements EntryUpdatedListener<Object, Object>, EntryRemovedListener<Object, Object>,
+					   EntryEvictedListener<Object, Object>, EntryExpiredListener<Object, Object>,
+					   MapClearedListener, MapEvictedListener
+	{
+		@Override
+		public void entryUpdated(final EntryEvent<Object, Object> event)
+		{
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void entryRemoved(final EntryEvent<Object, Object> event)
+		{
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void entryEvicted(final EntryEvent<Object, Object> event)
+		{
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void entryExpired(final EntryEvent<Object, Object> event)
+		{
+			invalidateLocal(event.getKey());
+		}
+
+		@Override
+		public void mapCleared(final MapEvent event)
+		{
+			invalidateLocal();
+		}
+
+		@Override
+		public void mapEvicted(final MapEvent event)
+		{
+			invalidateLocal();
+		}
+	}
+}
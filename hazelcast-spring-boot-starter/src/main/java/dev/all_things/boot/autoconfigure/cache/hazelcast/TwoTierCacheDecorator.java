@@ -0,0 +1,61 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Map;
+
+import com.hazelcast.map.IMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.core.Ordered;
+
+/**
+ * Places an in-process (L1) cache in front of caches with enabled
+ * {@code application.cache.hazelcast.caches.<cache-name>.local-cache} properties.
+ */
+public class TwoTierCacheDecorator
+		implements HazelcastCacheDecorator, Ordered
+{
+	/**
+	 * Order of the decorator; L1 cache holds values as returned by inner decorators.
+	 */
+	public static final int ORDER = 500;
+
+	private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheDecorator.class);
+
+	private final Map<String, HazelcastProperties.Cache> caches;
+
+	/**
+	 * @param caches user configured cache properties keyed by cache name.
+	 */
+	public TwoTierCacheDecorator(final Map<String, HazelcastProperties.Cache> caches)
+	{
+		this.caches = caches;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Cache decorate(final Cache cache)
+	{
+		final HazelcastProperties.Cache properties = this.caches.get(cache.getName());
+
+		if (properties == null || !properties.getLocalCache().getEnabled() || !(cache.getNativeCache() instanceof IMap<?, ?> map))
+		{
+			return cache;
+		}
+
+		final HazelcastProperties.Cache.LocalCache localCache = properties.getLocalCache();
+		final TwoTierCache twoTierCache = new TwoTierCache(cache, new LocalCacheStore(localCache.getMaxSize(), localCache.getTimeToLive()));
+
+		twoTierCache.registerInvalidationListener((IMap<Object, Object>) map);
+
+		logger.info("In-process cache enabled for cache : {}", cache.getName());
+
+		return twoTierCache;
+	}
+
+	@Override
+	public int getOrder()
+	{
+		return ORDER;
+	}
+}
@@ -0,0 +1,21 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.Serializable;
+
+/**
+ * Serializable mutation of a cached value, applied on the member owning the entry by {@link UpdateProcessor}.
+ * <p>
+ * The function (e.g. a lambda) is sent with Java serialization, hence its class needs to be available on members.
+ *
+ * @param <V> type of the cached value.
+ */
+@FunctionalInterface
+public interface UpdateFunction<V>
+		extends Serializable
+{
+	/**
+	 * @param value current value or {@code null} if the entry is absent.
+	 * @return new value or {@code null} to remove the entry.
+	 */
+	public V apply(final V value);
+}
@@ -0,0 +1,67 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+/**
+ * Replaces a cached value with the result of an {@link UpdateFunction}.
+ *
+ * @param <V> type of the cached value.
+ */
+public class UpdateProcessor<V>
+		extends CacheEntryProcessor<V>
+{
+	private UpdateFunction<V> function;
+
+	public UpdateProcessor()
+	{
+	}
+
+	/**
+	 * @param function mutation of the cached value.
+	 */
+	public UpdateProcessor(final UpdateFunction<V> function)
+	{
+		this.function = function;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V process(final Map.Entry<Object, Object> entry)
+	{
+		final V value = (V) getValue(entry);
+		final V updated = this.function.apply(value);
+
+		if (value != null || updated != null)
+		{
+			store(entry, updated, value != null);
+		}
+
+		return updated;
+	}
+
+	@Override
+	public void writeData(final ObjectDataOutput out) throws IOException
+	{
+		super.writeData(out);
+
+		out.writeObject(this.function);
+	}
+
+	@Override
+	public void readData(final ObjectDataInput in) throws IOException
+	{
+		super.readData(in);
+
+		this.function = in.readObject();
+	}
+
+	@Override
+	public int getClassId()
+	{
+		return CacheDataSerializableFactory.UPDATE_PROCESSOR;
+	}
+}
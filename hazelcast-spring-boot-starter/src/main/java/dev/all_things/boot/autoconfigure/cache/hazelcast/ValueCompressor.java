@@ -0,0 +1,134 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+/**
+ * Compresses serialized cache values above a size threshold with {@link Deflater}, into {@link CompressedValue}s.
+ * <p>
+ * Values are serialized once, by the compressor; values below the threshold (or not shrinking when compressed)
+ * are stored in their serialized form, hence Hazelcast does not serialize them again.
+ * {@link Deflater} / {@link Inflater} instances and compression buffers are reused per thread.
+ */
+public class ValueCompressor
+{
+	private static final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+	private final SerializationService serializationService;
+
+	private final int threshold;
+
+	private final int level;
+
+	/**
+	 * @param serializationService serialization service of the instance backing the cache.
+	 * @param threshold            minimum size of serialized values, in bytes, to be compressed.
+	 * @param level                compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}.
+	 */
+	public ValueCompressor(final SerializationService serializationService, final int threshold, final int level)
+	{
+		this.serializationService = serializationService;
+		this.threshold = threshold;
+		this.level = level;
+	}
+
+	/**
+	 * @param storeValue value to be stored.
+	 * @return {@link CompressedValue} if the serialized value reaches the threshold and shrinks, serialized value otherwise.
+	 */
+	public Object compress(final Object storeValue)
+	{
+		final Data data = this.serializationService.toData(storeValue);
+
+		if (data.totalSize() < this.threshold)
+		{
+			return data;
+		}
+
+		final byte[] input = data.toByteArray();
+		final Buffers threadBuffers = buffers.get();
+		final Deflater deflater = threadBuffers.deflater;
+		final byte[] output = threadBuffers.output(input.length);
+
+		deflater.reset();
+		deflater.setLevel(this.level);
+		deflater.setInput(input);
+		deflater.finish();
+
+		int length = 0;
+
+		while (!deflater.finished() && length < input.length)
+		{
+			length += deflater.deflate(output, length, input.length - length);
+		}
+
+		// Storing incompressible values (e.g. already compressed payloads) as is
+		return deflater.finished() && length < input.length ? new CompressedValue(input.length, Arrays.copyOf(output, length)) : data;
+	}
+
+	/**
+	 * @param storeValue stored value.
+	 * @return original value of a {@link CompressedValue}, {@code storeValue} itself otherwise.
+	 */
+	public Object decompress(final Object storeValue)
+	{
+		if (!(storeValue instanceof CompressedValue compressedValue))
+		{
+			return storeValue;
+		}
+
+		final Inflater inflater = buffers.get().inflater;
+		final byte[] output = new byte[compressedValue.getLength()];
+
+		inflater.reset();
+		inflater.setInput(compressedValue.getBytes());
+
+		try
+		{
+			int length = 0;
+
+			while (length < output.length && !inflater.finished())
+			{
+				length += inflater.inflate(output, length, output.length - length);
+			}
+		}
+		catch (final DataFormatException exception)
+		{
+			throw new IllegalStateException("Compressed cache value is corrupted", exception);
+		}
+
+		return this.serializationService.toObject(new HeapData(output));
+	}
+
+	/**
+	 * Compression state reused by a thread.
+	 */
+	private static class Buffers
+	{
+		private final Deflater deflater = new Deflater();
+
+		private final Inflater inflater = new Inflater();
+
+		private byte[] output = new byte[0];
+
+		/**
+		 * @param capacity minimum capacity of the buffer.
+		 * @return output buffer of at least {capacity} bytes.
+		 */
+		private byte[] output(final int capacity)
+		{
+			if (this.output.length < capacity)
+			{
+				this.output = new byte[capacity];
+			}
+
+			return this.output;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheKeyTest
+{
+	@Test
+	void equalsKeysOfEqualParameters()
+	{
+		final CacheKey key = new CacheKey(new Object[] { "user", 42L, null }, -1);
+		final CacheKey other = new CacheKey(new Object[] { "user", 42L, null }, -1);
+
+		assertThat(key).isEqualTo(other).hasSameHashCodeAs(other);
+	}
+
+	@Test
+	void comparesArrayParametersByContent()
+	{
+		final CacheKey key = new CacheKey(new Object[] { new int[] { 1, 2 }, new String[] { "a" } }, -1);
+		final CacheKey other = new CacheKey(new Object[] { new int[] { 1, 2 }, new String[] { "a" } }, -1);
+
+		assertThat(key).isEqualTo(other).hasSameHashCodeAs(other);
+		assertThat(key).isNotEqualTo(new CacheKey(new Object[] { new int[] { 2, 1 }, new String[] { "a" } }, -1));
+	}
+
+	@Test
+	void distinguishesParameterOrderAndCount()
+	{
+		final CacheKey key = new CacheKey(new Object[] { "a", "b" }, -1);
+
+		assertThat(key).isNotEqualTo(new CacheKey(new Object[] { "b", "a" }, -1))
+					   .isNotEqualTo(new CacheKey(new Object[] { "a", "b", null }, -1))
+					   .isNotEqualTo(new CacheKey(new Object[] { "a" }, -1))
+					   .isNotEqualTo(CacheKey.EMPTY)
+					   .isNotEqualTo(null)
+					   .isNotEqualTo("[a, b]");
+	}
+
+	@Test
+	void equalsDeserializedKeys()
+	{
+		final SerializationService serializationService = new DefaultSerializationServiceBuilder()
+				.addDataSerializableFactory(CacheDataSerializableFactory.FACTORY_ID, new CacheDataSerializableFactory())
+				.build();
+		final CacheKey key = new CacheKey(new Object[] { "user", 42L }, 0);
+		final CacheKey deserialized = serializationService.toObject(serializationService.toData(key));
+
+		assertThat(deserialized).isEqualTo(key).hasSameHashCodeAs(key);
+		assertThat(deserialized.getPartitionKey()).isEqualTo("user");
+	}
+}
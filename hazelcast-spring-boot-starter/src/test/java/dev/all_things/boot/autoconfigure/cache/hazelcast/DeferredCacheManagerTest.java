@@ -0,0 +1,147 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeferredCacheManagerTest
+{
+	private final CompletableFuture<CacheManager> target = new CompletableFuture<>();
+
+	private final ConcurrentMapCacheManager targetCacheManager = new ConcurrentMapCacheManager("cache");
+
+	private final Map<String, Cache> fallbacks = new ConcurrentHashMap<>();
+
+	private final DeferredCacheManager cacheManager = new DeferredCacheManager(this.target,
+																			   name -> this.fallbacks.computeIfAbsent(name, ConcurrentMapCache::new));
+
+	@Test
+	void servesFallbackUntilTargetIsReady()
+	{
+		final Cache cache = this.cacheManager.getCache("cache");
+
+		cache.put("key", "value");
+
+		assertThat(this.cacheManager.isReady()).isFalse();
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(this.fallbacks.get("cache").get("key", String.class)).isEqualTo("value");
+		assertThat(targetCache().get("key")).isNull();
+	}
+
+	@Test
+	void handsOverToTargetOnceReady()
+	{
+		final Cache cache = this.cacheManager.getCache("cache");
+
+		cache.put("key", "fallback");
+		targetCache().put("key", "target");
+
+		this.target.complete(this.targetCacheManager);
+
+		assertThat(this.cacheManager.isReady()).isTrue();
+		assertThat(cache.get("key", String.class)).isEqualTo("target");
+		assertThat(cache.getNativeCache()).isSameAs(targetCache().getNativeCache());
+
+		// Discarding fallback entries, and serving later requested caches from the target directly
+		assertThat(this.fallbacks.get("cache").get("key")).isNull();
+		assertThat(this.cacheManager.getCache("cache")).isSameAs(targetCache());
+		assertThat(this.cacheManager.getCacheNames()).containsExactly("cache");
+	}
+
+	@Test
+	void appliesEvictionsOfFallbackToTarget()
+	{
+		final Cache cache = this.cacheManager.getCache("cache");
+
+		// Entries written to the target by other members / clients meanwhile
+		targetCache().put("evicted", "stale");
+		targetCache().put("conditionally-evicted", "stale");
+		targetCache().put("kept", "value");
+
+		cache.evict("evicted");
+		cache.evictIfPresent("conditionally-evicted");
+
+		this.target.complete(this.targetCacheManager);
+
+		assertThat(cache.get("evicted")).isNull();
+		assertThat(cache.get("conditionally-evicted")).isNull();
+		assertThat(cache.get("kept", String.class)).isEqualTo("value");
+	}
+
+	@Test
+	void appliesClearsOfFallbackToTarget()
+	{
+		final Cache cache = this.cacheManager.getCache("cache");
+
+		targetCache().put("key", "stale");
+
+		cache.clear();
+
+		this.target.complete(this.targetCacheManager);
+
+		assertThat(cache.get("key")).isNull();
+	}
+
+	@Test
+	void clearsTargetPastMaxPendingEvictions()
+	{
+		final Cache cache = this.cacheManager.getCache("cache");
+
+		targetCache().put("not-evicted", "stale");
+
+		for (int key = 0; key <= 10_000; key++)
+		{
+			cache.evict(key);
+		}
+
+		this.target.complete(this.targetCacheManager);
+
+		assertThat(cache.get("not-evicted")).isNull();
+	}
+
+	@Test
+	void appliesEvictionsAfterHandoverToTargetOnly()
+	{
+		final Cache cache = this.cacheManager.getCache("cache");
+
+		this.target.complete(this.targetCacheManager);
+
+		cache.put("evicted", "value");
+		cache.put("kept", "value");
+		cache.evict("evicted");
+
+		assertThat(targetCache().get("evicted")).isNull();
+		assertThat(targetCache().get("kept", String.class)).isEqualTo("value");
+		assertThat(this.fallbacks.get("cache").get("kept")).isNull();
+	}
+
+	@Test
+	void keepsServingFallbackIfTargetFails()
+	{
+		final Cache cache = this.cacheManager.getCache("cache");
+
+		cache.put("key", "value");
+
+		this.target.completeExceptionally(new IllegalStateException("Hazelcast instance could not be started"));
+
+		cache.put("other", "value");
+
+		assertThat(this.cacheManager.isReady()).isFalse();
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(this.cacheManager.getCache("cache")).isSameAs(cache);
+		assertThat(this.fallbacks.get("cache").get("other", String.class)).isEqualTo("value");
+	}
+
+	private Cache targetCache()
+	{
+		return this.targetCacheManager.getCache("cache");
+	}
+}
@@ -0,0 +1,126 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts a client context against a member started by the test, as an application would in a native image.
+ * <p>
+ * Runs on the JVM with other tests, and as a native image with the 'nativeTest' profile (with GraalVM) e.g.
+ * {@code mvn -PnativeTest test}, the client context then being processed ahead of time.
+ * <p>
+ * Startup duration of the context and latency of the first cache hit are printed to the test output, and asserted
+ * against generous bounds to catch gross regressions only.
+ */
+@SpringBootTest(properties = {
+		"application.cache.hazelcast.mode=client",
+		"application.cache.hazelcast.cluster-name=" + HazelcastClientSmokeTest.CLUSTER_NAME,
+		"application.cache.hazelcast.client.cluster-connect-timeout=30s"
+})
+class HazelcastClientSmokeTest
+{
+	static final String CLUSTER_NAME = "client-smoke";
+
+	private static final Duration MAX_STARTUP_DURATION = Duration.ofSeconds(30);
+
+	private static final Duration MAX_FIRST_HIT_LATENCY = Duration.ofSeconds(5);
+
+	private static HazelcastInstance member;
+
+	private static long contextStarting;
+
+	private static long contextStarted;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@BeforeAll
+	static void startMember()
+	{
+		final Config config = new Config().setClusterName(CLUSTER_NAME);
+		final JoinConfig join = config.getNetworkConfig().setPort(5801).setPortAutoIncrement(true).getJoin();
+
+		// Not joining members of other tests / applications
+		join.getAutoDetectionConfig().setEnabled(false);
+		join.getMulticastConfig().setEnabled(false);
+
+		member = Hazelcast.newHazelcastInstance(config);
+
+		// The context is started after the member, once the test instance is created
+		contextStarting = System.nanoTime();
+	}
+
+	@AfterAll
+	static void stopMember()
+	{
+		member.shutdown();
+	}
+
+	@DynamicPropertySource
+	static void clientProperties(final DynamicPropertyRegistry registry)
+	{
+		// Resolved once the context starts, after the member is started
+		registry.add("application.cache.hazelcast.client.server-addresses", () ->
+		{
+			final Address address = member.getCluster().getLocalMember().getAddress();
+
+			return address.getHost() + ":" + address.getPort();
+		});
+	}
+
+	@Test
+	void servesFirstCacheHit()
+	{
+		final Duration startupDuration = Duration.ofNanos(contextStarted - contextStarting);
+		final Cache cache = this.cacheManager.getCache("smoke");
+
+		assertThat(cache).isNotNull();
+
+		cache.put("key", "value");
+
+		final long reading = System.nanoTime();
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+
+		final Duration firstHitLatency = Duration.ofNanos(System.nanoTime() - reading);
+
+		// Printed rather than logged, as tests run without SLF4J provider
+		System.out.printf("Client context started in %d ms, first cache hit served in %d us%n", startupDuration.toMillis(), firstHitLatency.toNanos() / 1000);
+
+		assertThat(member.getMap("smoke").size()).isEqualTo(1);
+		assertThat(startupDuration).isPositive().isLessThan(MAX_STARTUP_DURATION);
+		assertThat(firstHitLatency).isLessThan(MAX_FIRST_HIT_LATENCY);
+	}
+
+	@SpringBootConfiguration
+	@ImportAutoConfiguration(HazelcastAutoConfiguration.class)
+	static class Application
+	{
+		@Bean
+		static ApplicationListener<ContextRefreshedEvent> startupRecorder()
+		{
+			return event -> contextStarted = System.nanoTime();
+		}
+	}
+}
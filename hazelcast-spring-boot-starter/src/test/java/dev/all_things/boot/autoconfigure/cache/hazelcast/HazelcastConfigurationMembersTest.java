@@ -0,0 +1,65 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HazelcastConfigurationMembersTest
+{
+	@Test
+	void ranksMembersByPositionInPortRanges()
+	{
+		final HazelcastProperties.Server server = server("10.0.0.1:[5701-5703]", "10.0.0.2:[5701-5702]");
+
+		assertThat(HazelcastConfiguration.createMembers(server)).containsExactly("10.0.0.1:5701", "10.0.0.2:5701",
+																				 "10.0.0.1:5702", "10.0.0.2:5702",
+																				 "10.0.0.1:5703");
+	}
+
+	@Test
+	void ranksPortGroupsSeparately()
+	{
+		final HazelcastProperties.Server server = server("10.0.0.1:[5701-5702;5801]");
+
+		assertThat(HazelcastConfiguration.createMembers(server)).containsExactly("10.0.0.1:5701", "10.0.0.1:5801", "10.0.0.1:5702");
+	}
+
+	@Test
+	void deduplicatesMembersKeepingTheirBestRank()
+	{
+		final HazelcastProperties.Server server = server("10.0.0.1:[5701-5703]", "10.0.0.1:5703");
+
+		assertThat(HazelcastConfiguration.createMembers(server)).containsExactly("10.0.0.1:5701", "10.0.0.1:5703", "10.0.0.1:5702");
+	}
+
+	@Test
+	void excludesThePrimaryMember()
+	{
+		final HazelcastProperties.Server server = server("127.0.0.1:[5701-5702]");
+
+		server.setPrimaryAddress("127.0.0.1");
+		server.setPort(5701);
+
+		assertThat(HazelcastConfiguration.createMembers(server)).containsExactly("127.0.0.1:5702");
+	}
+
+	@Test
+	void ranksLastKnownMembersFirst()
+	{
+		final HazelcastProperties.Server server = server("10.0.0.1:[5701-5702]");
+
+		assertThat(HazelcastConfiguration.createMembers(server, List.of("10.0.0.1:5702", "10.0.0.3:5701")))
+				.containsExactly("10.0.0.1:5702", "10.0.0.3:5701", "10.0.0.1:5701");
+	}
+
+	private static HazelcastProperties.Server server(final String... members)
+	{
+		final HazelcastProperties.Server server = new HazelcastProperties.Server();
+
+		server.getCluster().setMembers(List.of(members));
+
+		return server;
+	}
+}
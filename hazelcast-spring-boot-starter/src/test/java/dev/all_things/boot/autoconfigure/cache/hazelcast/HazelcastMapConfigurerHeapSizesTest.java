@@ -0,0 +1,71 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.hazelcast.config.MaxSizePolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class HazelcastMapConfigurerHeapSizesTest
+{
+	@Test
+	void dividesUsedHeapInProportionOfShares()
+	{
+		final Map<String, HazelcastProperties.Cache> caches = caches(1.0, 2.0, null);
+
+		assertThat(HazelcastMapConfigurer.createHeapSizes(caches, heapSizing(MaxSizePolicy.USED_HEAP_PERCENTAGE, 60)))
+				.containsExactly(entry("cache-0", 20), entry("cache-1", 40));
+	}
+
+	@Test
+	void sizesCachesWithAtLeastOnePercent()
+	{
+		final Map<String, HazelcastProperties.Cache> caches = caches(1.0, 99.0);
+
+		assertThat(HazelcastMapConfigurer.createHeapSizes(caches, heapSizing(MaxSizePolicy.USED_HEAP_PERCENTAGE, 1)))
+				.containsExactly(entry("cache-0", 1), entry("cache-1", 1));
+	}
+
+	@Test
+	void sharesFreeHeapBetweenAllCaches()
+	{
+		final Map<String, HazelcastProperties.Cache> caches = caches(1.0, 3.0);
+
+		assertThat(HazelcastMapConfigurer.createHeapSizes(caches, heapSizing(MaxSizePolicy.FREE_HEAP_PERCENTAGE, 30)))
+				.containsExactly(entry("cache-0", 70), entry("cache-1", 70));
+	}
+
+	@Test
+	void sizesNoCacheWithoutShares()
+	{
+		assertThat(HazelcastMapConfigurer.createHeapSizes(caches((Double) null), heapSizing(MaxSizePolicy.USED_HEAP_PERCENTAGE, 50))).isEmpty();
+	}
+
+	private static Map<String, HazelcastProperties.Cache> caches(final Double... heapShares)
+	{
+		final Map<String, HazelcastProperties.Cache> caches = new LinkedHashMap<>();
+
+		for (int index = 0; index < heapShares.length; index++)
+		{
+			final HazelcastProperties.Cache cache = new HazelcastProperties.Cache();
+
+			cache.setHeapShare(heapShares[index]);
+			caches.put("cache-" + index, cache);
+		}
+
+		return caches;
+	}
+
+	private static HazelcastProperties.HeapSizing heapSizing(final MaxSizePolicy policy, final int percentage)
+	{
+		final HazelcastProperties.HeapSizing heapSizing = new HazelcastProperties.HeapSizing();
+
+		heapSizing.setPolicy(policy);
+		heapSizing.setPercentage(percentage);
+
+		return heapSizing;
+	}
+}
@@ -0,0 +1,97 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeySketchTest
+{
+	@Test
+	void ranksKeysByCountWhileUnderCapacity()
+	{
+		final HotKeySketch sketch = new HotKeySketch(10);
+
+		offer(sketch, "a", 5);
+		offer(sketch, "b", 3);
+		offer(sketch, "c", 7);
+		offer(sketch, "d", 1);
+
+		assertThat(sketch.getHotKeys(3)).containsExactly(new HotKeySketch.HotKey("c", 7, 0),
+														 new HotKeySketch.HotKey("a", 5, 0),
+														 new HotKeySketch.HotKey("b", 3, 0));
+	}
+
+	@Test
+	void replacesSmallestCounterWithItsCountAsErrorBound()
+	{
+		final HotKeySketch sketch = new HotKeySketch(2);
+
+		offer(sketch, "a", 4);
+		offer(sketch, "b", 2);
+		offer(sketch, "c", 1);
+
+		assertThat(sketch.getHotKeys(2)).containsExactly(new HotKeySketch.HotKey("a", 4, 0),
+														 new HotKeySketch.HotKey("c", 3, 2));
+	}
+
+	@Test
+	void boundsCountsOfSkewedKeys()
+	{
+		final int capacity = 20;
+		final int offers = 100_000;
+		final HotKeySketch sketch = new HotKeySketch(capacity);
+		final Map<String, Long> counts = new HashMap<>();
+		final Random random = new Random(42);
+
+		for (int index = 0; index < offers; index++)
+		{
+			// Half of the offers on 5 hot keys, the other half spread over 10 000 keys
+			final String key = random.nextBoolean() ? "hot-" + random.nextInt(5) : "cold-" + random.nextInt(10_000);
+
+			sketch.offer(key);
+			counts.merge(key, 1L, Long::sum);
+		}
+
+		final List<HotKeySketch.HotKey> hotKeys = sketch.getHotKeys(capacity);
+
+		// Keys offered more than 1/{capacity} of the time are kept, and ranked first
+		assertThat(hotKeys.subList(0, 5)).extracting(HotKeySketch.HotKey::key)
+										 .containsExactlyInAnyOrder("hot-0", "hot-1", "hot-2", "hot-3", "hot-4");
+
+		for (final HotKeySketch.HotKey hotKey : hotKeys)
+		{
+			final long count = counts.get(hotKey.key());
+
+			assertThat(hotKey.count()).isGreaterThanOrEqualTo(count);
+			assertThat(hotKey.count() - hotKey.error()).isLessThanOrEqualTo(count);
+			assertThat(hotKey.error()).isLessThanOrEqualTo(offers / capacity);
+		}
+
+		assertThat(hotKeys).isSortedAccordingTo((first, second) -> Long.compare(second.count(), first.count()));
+	}
+
+	@Test
+	void clearsCounters()
+	{
+		final HotKeySketch sketch = new HotKeySketch(2);
+
+		offer(sketch, "a", 2);
+		sketch.clear();
+		offer(sketch, "b", 1);
+
+		assertThat(sketch.getHotKeys(2)).containsExactly(new HotKeySketch.HotKey("b", 1, 0));
+	}
+
+	private static void offer(final HotKeySketch sketch, final Object key, final int times)
+	{
+		for (int index = 0; index < times; index++)
+		{
+			sketch.offer(key);
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class JavaSerializationVerifierTest
+{
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	@Test
+	void rejectsSimpleKeysOfMultipleParameters()
+	{
+		this.beanFactory.registerBeanDefinition("service", new RootBeanDefinition(Service.class));
+
+		assertThatIllegalStateException().isThrownBy(() -> verifier().afterSingletonsInstantiated())
+										 .withMessageContaining("SimpleKey of " + Service.class.getName() + "#find (key)");
+	}
+
+	@Test
+	void acceptsCacheKeysOfGlobalPartitionAwareKeyGenerator()
+	{
+		final PartitionAwareKeyGenerator keyGenerator = new PartitionAwareKeyGenerator();
+
+		this.beanFactory.registerBeanDefinition("service", new RootBeanDefinition(Service.class));
+		this.beanFactory.registerSingleton("cachingConfigurer", new CachingConfigurer()
+		{
+			@Override
+			public KeyGenerator keyGenerator()
+			{
+				return keyGenerator;
+			}
+		});
+
+		assertThatNoException().isThrownBy(() -> verifier().afterSingletonsInstantiated());
+	}
+
+	@Test
+	void acceptsCacheKeysOfNamedPartitionAwareKeyGenerator()
+	{
+		this.beanFactory.registerBeanDefinition("service", new RootBeanDefinition(PartitionedService.class));
+		this.beanFactory.registerSingleton("partitionAwareKeyGenerator", new PartitionAwareKeyGenerator());
+
+		assertThatNoException().isThrownBy(() -> verifier().afterSingletonsInstantiated());
+	}
+
+	private JavaSerializationVerifier verifier()
+	{
+		final HazelcastSerializationConfigurer serializationConfigurer = new HazelcastSerializationConfigurer(new HazelcastProperties.Serialization(),
+																											 getClass().getClassLoader());
+
+		return new JavaSerializationVerifier(this.beanFactory, serializationConfigurer);
+	}
+
+	static class Service
+	{
+		@Cacheable("users")
+		public String find(final String tenant, final Long id)
+		{
+			return tenant + id;
+		}
+	}
+
+	static class PartitionedService
+	{
+		@Cacheable(cacheNames = "users", keyGenerator = "partitionAwareKeyGenerator")
+		public String find(final String tenant, final Long id)
+		{
+			return tenant + id;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MaxSizePolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class LocalCacheManagerTest
+{
+	@Test
+	void boundsCachesByEntryCount()
+	{
+		final Config config = new Config();
+
+		HazelcastMapConfigurer.createMapConfig(config, "cache", Duration.ZERO, 10);
+
+		final LocalCacheStore store = (LocalCacheStore) new LocalCacheManager(config).getCache("cache").getNativeCache();
+
+		for (int key = 0; key < 100; key++)
+		{
+			store.put(key, key);
+		}
+
+		assertThat(store.size()).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void rejectsHeapBasedSizes()
+	{
+		final Config config = new Config();
+
+		HazelcastMapConfigurer.createMapConfig(config, "cache", Duration.ZERO, MaxSizePolicy.USED_HEAP_PERCENTAGE, 60);
+
+		assertThatIllegalStateException().isThrownBy(() -> new LocalCacheManager(config)).withMessageContaining("'cache'");
+	}
+
+	@Test
+	void rejectsHeapShares()
+	{
+		final HazelcastProperties hazelcastProperties = new HazelcastProperties();
+		final HazelcastProperties.Cache cache = new HazelcastProperties.Cache();
+
+		cache.setHeapShare(1.0);
+		hazelcastProperties.getCaches().put("cache", cache);
+
+		assertThatIllegalStateException().isThrownBy(() -> HazelcastConfiguration.createLocalCacheManager(hazelcastProperties, config -> {}, List.of()))
+										 .withMessageContaining("'heap-share'");
+	}
+}
@@ -0,0 +1,106 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalCacheStoreTest
+{
+	@Test
+	void loadsConcurrentMissesOfAKeyOnce() throws Exception
+	{
+		final LocalCacheStore store = new LocalCacheStore(100, Duration.ZERO);
+		final AtomicInteger loads = new AtomicInteger();
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try
+		{
+			final List<Future<Object>> values = new ArrayList<>();
+
+			values.add(executor.submit(() -> store.get("key", () ->
+			{
+				loading.countDown();
+				release.await();
+
+				return "loaded-" + loads.incrementAndGet();
+			})));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			for (int caller = 0; caller < 7; caller++)
+			{
+				values.add(executor.submit(() -> store.get("key", () -> "loaded-" + loads.incrementAndGet())));
+			}
+
+			release.countDown();
+
+			for (final Future<Object> value : values)
+			{
+				assertThat(value.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+			}
+
+			assertThat(loads).hasValue(1);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void loadsAgainAfterFailedLoad() throws Exception
+	{
+		final LocalCacheStore store = new LocalCacheStore(100, Duration.ZERO);
+
+		assertThatThrownBy(() -> store.get("key", () ->
+		{
+			throw new IllegalArgumentException("failed");
+		})).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(store.get("key", () -> "loaded")).isEqualTo("loaded");
+	}
+
+	@Test
+	void expiresUnreadEntriesAfterMaxIdle() throws Exception
+	{
+		final LocalCacheStore store = new LocalCacheStore(100, Duration.ZERO, Duration.ofSeconds(1));
+
+		store.put("read", "value");
+		store.put("unread", "value");
+
+		for (int read = 0; read < 6; read++)
+		{
+			Thread.sleep(250);
+
+			assertThat(store.get("read")).isEqualTo("value");
+		}
+
+		assertThat(store.get("unread")).isNull();
+	}
+
+	@Test
+	void boundsEntryCount()
+	{
+		final LocalCacheStore store = new LocalCacheStore(32, Duration.ZERO);
+
+		for (int key = 0; key < 100; key++)
+		{
+			store.put(key, key);
+		}
+
+		assertThat(store.size()).isLessThanOrEqualTo(32);
+	}
+}
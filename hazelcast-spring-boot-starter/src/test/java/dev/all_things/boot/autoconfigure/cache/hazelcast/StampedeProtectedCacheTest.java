@@ -0,0 +1,181 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StampedeProtectedCacheTest
+{
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+	private static HazelcastInstance member;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private String cacheName;
+
+	@BeforeAll
+	static void startMember()
+	{
+		final Config config = new Config().setClusterName("stampede-protection");
+		final JoinConfig join = config.getNetworkConfig().setPort(5821).setPortAutoIncrement(true).getJoin();
+
+		// Not joining members of other tests / applications
+		join.getAutoDetectionConfig().setEnabled(false);
+		join.getMulticastConfig().setEnabled(false);
+
+		member = Hazelcast.newHazelcastInstance(config);
+	}
+
+	@AfterAll
+	static void stopMember()
+	{
+		member.shutdown();
+	}
+
+	@AfterEach
+	void stopExecutor()
+	{
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void loadsKeyOnceAcrossThreads(final TestInfo testInfo) throws Exception
+	{
+		final StampedeProtectedCache cache = cache(testInfo, Duration.ofSeconds(10), Duration.ofSeconds(10));
+		final CountDownLatch release = new CountDownLatch(1);
+		final List<Future<String>> values = new ArrayList<>();
+
+		for (int caller = 0; caller < 8; caller++)
+		{
+			values.add(this.executor.submit(() -> cache.get("key", () ->
+			{
+				release.await();
+
+				return "loaded-" + this.loads.incrementAndGet();
+			})));
+		}
+
+		// Releasing the load once all other callers wait for it
+		await(() -> cache.getCoalescedLoadCount() == 7);
+		release.countDown();
+
+		for (final Future<String> value : values)
+		{
+			assertThat(value.get(10, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+		}
+
+		assertThat(this.loads).hasValue(1);
+		assertThat(cache.getLeaderLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	void awaitsValueLoadedByLeaseHolder(final TestInfo testInfo) throws Exception
+	{
+		final StampedeProtectedCache holder = cache(testInfo, Duration.ofSeconds(10), Duration.ofSeconds(10));
+		final StampedeProtectedCache waiter = cache(testInfo, Duration.ofSeconds(10), Duration.ofSeconds(10));
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final Future<String> held = this.executor.submit(() -> holder.get("key", () ->
+		{
+			loading.countDown();
+			release.await();
+
+			return "loaded-" + this.loads.incrementAndGet();
+		}));
+
+		assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+
+		final Future<String> awaited = this.executor.submit(() -> waiter.get("key", () -> "loaded-" + this.loads.incrementAndGet()));
+
+		// Loading the value only once the waiter polls for it
+		Thread.sleep(POLL_INTERVAL.multipliedBy(5).toMillis());
+		release.countDown();
+
+		assertThat(held.get(10, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+		assertThat(awaited.get(10, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+		assertThat(this.loads).hasValue(1);
+		assertThat(holder.getLeaderLoadCount()).isEqualTo(1);
+		assertThat(waiter.getAwaitedLoadCount()).isEqualTo(1);
+		assertThat(waiter.getFallbackLoadCount()).isZero();
+	}
+
+	@Test
+	void loadsItselfAfterWaitTimeoutOfDeadLeaseHolder(final TestInfo testInfo)
+	{
+		final Duration waitTimeout = Duration.ofMillis(300);
+		final StampedeProtectedCache waiter = cache(testInfo, Duration.ofSeconds(10), waitTimeout);
+
+		// Lease of a member / client which died while loading the key
+		assertThat(new CacheLeases(member, this.cacheName, Duration.ofSeconds(10)).tryAcquire("key")).isTrue();
+
+		final long start = System.nanoTime();
+
+		assertThat(waiter.get("key", () -> "loaded-" + this.loads.incrementAndGet())).isEqualTo("loaded-1");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(waitTimeout);
+		assertThat(waiter.getFallbackLoadCount()).isEqualTo(1);
+		assertThat(member.getMap(this.cacheName).get("key")).isEqualTo("loaded-1");
+	}
+
+	@Test
+	void loadsItselfOnceLeaseOfDeadHolderExpires(final TestInfo testInfo)
+	{
+		final Duration waitTimeout = Duration.ofSeconds(30);
+		final StampedeProtectedCache waiter = cache(testInfo, Duration.ofSeconds(10), waitTimeout);
+
+		// Lease of a member / client which died while loading the key, expiring before the wait timeout
+		assertThat(new CacheLeases(member, this.cacheName, Duration.ofSeconds(2)).tryAcquire("key")).isTrue();
+
+		final long start = System.nanoTime();
+
+		assertThat(waiter.get("key", () -> "loaded-" + this.loads.incrementAndGet())).isEqualTo("loaded-1");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(waitTimeout);
+		assertThat(waiter.getFallbackLoadCount()).isEqualTo(1);
+	}
+
+	/**
+	 * Creates a cache of its own lease owner, as on a distinct member / client, backed by the map of the test.
+	 */
+	private StampedeProtectedCache cache(final TestInfo testInfo, final Duration leaseTime, final Duration waitTimeout)
+	{
+		this.cacheName = testInfo.getTestMethod().orElseThrow().getName();
+
+		final AsyncHazelcastCache delegate = new AsyncHazelcastCache(member.getMap(this.cacheName), false);
+
+		return new StampedeProtectedCache(delegate, new CacheLeases(member, this.cacheName, leaseTime), waitTimeout, POLL_INTERVAL);
+	}
+
+	private static void await(final BooleanSupplier condition) throws InterruptedException
+	{
+		final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+
+		while (!condition.getAsBoolean())
+		{
+			assertThat(System.nanoTime() - deadline).as("Condition met in time").isNegative();
+
+			Thread.sleep(10);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimedCacheTest
+{
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final TimedCache cache = new TimedCache(new ConcurrentMapCache("timed"));
+
+	@BeforeEach
+	void bind()
+	{
+		this.cache.bind(this.registry, false);
+	}
+
+	@Test
+	void recordsLoadingReadsAsMissThenHit()
+	{
+		assertThat(this.cache.get("key", () -> "loaded")).isEqualTo("loaded");
+		assertThat(this.cache.get("key", () -> "reloaded")).isEqualTo("loaded");
+		assertThat(this.cache.get("key", () -> "reloaded")).isEqualTo("loaded");
+
+		assertThat(count("get", "miss")).isEqualTo(1);
+		assertThat(count("get", "hit")).isEqualTo(2);
+	}
+
+	@Test
+	void recordsCachedNullValuesAsHits()
+	{
+		this.cache.put("key", null);
+
+		assertThat(this.cache.get("key", () -> "loaded")).isNull();
+		assertThat(count("get", "hit")).isEqualTo(1);
+	}
+
+	@Test
+	void recordsAsynchronousReads()
+	{
+		assertThat(this.cache.retrieve("key", () -> CompletableFuture.completedFuture("loaded")).join()).isEqualTo("loaded");
+		assertThat(this.cache.retrieve("key", () -> CompletableFuture.completedFuture("reloaded")).join()).isEqualTo("loaded");
+		assertThat(this.cache.retrieve("absent")).isNull();
+
+		assertThat(count("get", "miss")).isEqualTo(2);
+		assertThat(count("get", "hit")).isEqualTo(1);
+	}
+
+	@Test
+	void recordsConditionalWritesAsPuts()
+	{
+		this.cache.putIfAbsent("key", "value");
+		this.cache.putIfAbsent("key", "other");
+
+		assertThat(count("put", "none")).isEqualTo(2);
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+	}
+
+	private long count(final String operation, final String result)
+	{
+		return this.registry.get(TimedCache.METRIC_NAME).tags("operation", operation, "result", result).timer().count();
+	}
+}
@@ -0,0 +1,184 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest
+{
+	private static HazelcastInstance member;
+
+	private final AtomicInteger remoteReads = new AtomicInteger();
+
+	/**
+	 * Run by the remote cache while reading, standing for writes / events racing with the read.
+	 */
+	private Runnable duringRead = () -> {};
+
+	private final ConcurrentMapCache remote = new ConcurrentMapCache("two-tier")
+	{
+		@Override
+		protected Object lookup(final Object key)
+		{
+			final Object value = super.lookup(key);
+
+			TwoTierCacheTest.this.remoteReads.incrementAndGet();
+			TwoTierCacheTest.this.duringRead.run();
+
+			return value;
+		}
+	};
+
+	private final LocalCacheStore store = new LocalCacheStore(10_000, Duration.ZERO);
+
+	private final TwoTierCache cache = new TwoTierCache(this.remote, this.store);
+
+	@BeforeAll
+	static void startMember()
+	{
+		final Config config = new Config().setClusterName("two-tier");
+		final JoinConfig join = config.getNetworkConfig().setPort(5811).setPortAutoIncrement(true).getJoin();
+
+		// Not joining members of other tests / applications
+		join.getAutoDetectionConfig().setEnabled(false);
+		join.getMulticastConfig().setEnabled(false);
+
+		member = Hazelcast.newHazelcastInstance(config);
+	}
+
+	@AfterAll
+	static void stopMember()
+	{
+		member.shutdown();
+	}
+
+	@Test
+	void servesRepeatedReadsLocally()
+	{
+		this.remote.put("key", "value");
+
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+		assertThat(this.remoteReads).hasValue(1);
+	}
+
+	@Test
+	void dropsValueReadWhileItsKeyIsInvalidated()
+	{
+		this.remote.put("key", "stale");
+
+		// Updating the entry, and receiving its event, after the remote value was read
+		this.duringRead = () ->
+		{
+			this.remote.put("key", "fresh");
+			this.cache.invalidateLocal("key");
+		};
+
+		assertThat(this.cache.get("key", String.class)).isEqualTo("stale");
+
+		this.duringRead = () -> {};
+
+		assertThat(this.store.get("key")).isNull();
+		assertThat(this.cache.get("key", String.class)).isEqualTo("fresh");
+	}
+
+	@Test
+	void dropsValuesReadWhileCacheIsClearedInEveryStripe()
+	{
+		this.duringRead = this.cache::clear;
+
+		// Covering all stripes of invalidation stamps
+		for (int key = 0; key < 1024; key++)
+		{
+			this.remote.put(key, key);
+
+			assertThat(this.cache.get(key)).isNotNull();
+		}
+
+		assertThat(this.store.size()).isZero();
+	}
+
+	@Test
+	void clearRemovesLocalEntriesOfEveryStripe()
+	{
+		for (int key = 0; key < 1024; key++)
+		{
+			this.remote.put(key, key);
+			this.cache.get(key);
+		}
+
+		assertThat(this.store.size()).isEqualTo(1024);
+
+		this.cache.clear();
+
+		assertThat(this.store.size()).isZero();
+
+		for (int key = 0; key < 1024; key++)
+		{
+			assertThat(this.cache.get(key)).isNull();
+		}
+	}
+
+	@Test
+	void invalidatesLocalEntriesOnRemoteEntryEvents() throws InterruptedException
+	{
+		final IMap<Object, Object> map = member.getMap("two-tier-events");
+		final TwoTierCache cache = new TwoTierCache(new AsyncHazelcastCache(map, false), new LocalCacheStore(100, Duration.ZERO));
+
+		cache.registerInvalidationListener(map);
+
+		map.put("updated", "stale");
+		map.put("removed", "stale");
+		map.put("evicted", "stale");
+
+		assertThat(cache.get("updated", String.class)).isEqualTo("stale");
+		assertThat(cache.get("removed", String.class)).isEqualTo("stale");
+		assertThat(cache.get("evicted", String.class)).isEqualTo("stale");
+
+		// Changing entries as another member / client would, bypassing the cache
+		map.put("updated", "fresh");
+		map.remove("removed");
+		map.evict("evicted");
+
+		await(() -> "fresh".equals(cache.get("updated", String.class)));
+		await(() -> cache.get("removed") == null);
+		await(() -> cache.get("evicted") == null);
+
+		map.put("cleared", "stale");
+
+		assertThat(cache.get("cleared", String.class)).isEqualTo("stale");
+
+		map.clear();
+
+		await(() -> cache.get("cleared") == null);
+	}
+
+	/**
+	 * Waits for asynchronously delivered entry events.
+	 *
+	 * @param condition condition met once events are delivered.
+	 */
+	private static void await(final BooleanSupplier condition) throws InterruptedException
+	{
+		final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+
+		while (!condition.getAsBoolean())
+		{
+			assertThat(System.nanoTime() - deadline).as("Local entry invalidated in time").isNegative();
+
+			Thread.sleep(10);
+		}
+	}
+}
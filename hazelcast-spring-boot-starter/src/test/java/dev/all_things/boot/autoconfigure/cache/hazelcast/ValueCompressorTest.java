@@ -0,0 +1,65 @@
+package dev.all_things.boot.autoconfigure.cache.hazelcast;
+
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueCompressorTest
+{
+	private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+	private final ValueCompressor compressor = new ValueCompressor(this.serializationService, 1024, Deflater.BEST_SPEED);
+
+	@Test
+	void roundTripsCompressedValues()
+	{
+		final String value = "{\"name\":\"value\",\"tags\":[\"a\",\"b\"]}".repeat(1000);
+		final Object compressed = this.compressor.compress(value);
+
+		assertThat(compressed).isInstanceOf(CompressedValue.class);
+		assertThat(((CompressedValue) compressed).getBytes().length).isLessThan(value.length());
+		assertThat(this.compressor.decompress(compressed)).isEqualTo(value);
+	}
+
+	@Test
+	void roundTripsValuesOfDecreasingSizes()
+	{
+		// Compression buffers of the thread are reused for smaller values
+		for (final int repeat : new int[] { 1000, 200, 100 })
+		{
+			final String value = "cached-value-".repeat(repeat);
+
+			assertThat(this.compressor.decompress(this.compressor.compress(value))).isEqualTo(value);
+		}
+	}
+
+	@Test
+	void storesValuesBelowThresholdSerialized()
+	{
+		final String value = "small";
+		final Object stored = this.compressor.compress(value);
+
+		assertThat(stored).isInstanceOf(Data.class);
+		assertThat(this.compressor.decompress(stored)).isSameAs(stored);
+		assertThat((String) this.serializationService.toObject(stored)).isEqualTo(value);
+	}
+
+	@Test
+	void storesIncompressibleValuesSerialized()
+	{
+		final byte[] value = new byte[4096];
+
+		new Random(42).nextBytes(value);
+
+		final Object stored = this.compressor.compress(value);
+
+		assertThat(stored).isInstanceOf(Data.class);
+		assertThat((byte[]) this.serializationService.toObject(stored)).isEqualTo(value);
+	}
+}